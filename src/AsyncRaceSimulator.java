@@ -0,0 +1,63 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Non-blocking front end to the race calculations for services that fan out many evaluations.
+// Nothing is printed and no state is shared between calls; all work runs on the caller's executor.
+public class AsyncRaceSimulator {
+
+    // Cars per task: one calculation is far cheaper than scheduling a task for it
+    static final int BATCH_SIZE = 256;
+
+    private final Executor executor;
+
+    public AsyncRaceSimulator(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    public CompletableFuture<RaceResult> simulate(RaceCar car, RaceTrack track) {
+        Objects.requireNonNull(car, "car");
+        Objects.requireNonNull(track, "track");
+        return CompletableFuture.supplyAsync(() -> RaceStrategySimulator.calculateRaceResult(car, track), executor);
+    }
+
+    // Results in the same order as the cars
+    public CompletableFuture<List<RaceResult>> simulateAll(List<RaceCar> cars, RaceTrack track) {
+        Objects.requireNonNull(track, "track");
+        List<RaceCar> snapshot = List.copyOf(cars);
+        RaceResult[] results = new RaceResult[snapshot.size()];
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < snapshot.size(); from += BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(snapshot.size(), from + BATCH_SIZE);
+            batches.add(CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    results[i] = RaceStrategySimulator.calculateRaceResult(snapshot.get(i), track);
+                }
+            }, executor));
+        }
+
+        // allOf completes after every batch has written its slots, so the array is safely published
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(done -> Arrays.asList(results));
+    }
+
+    // Car with the shortest total race time
+    public CompletableFuture<RaceCar> fastest(List<RaceCar> cars, RaceTrack track) {
+        if (cars.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No cars to compare"));
+        }
+        List<RaceCar> snapshot = List.copyOf(cars);
+        return simulateAll(snapshot, track).thenApply(results -> {
+            int best = 0;
+            for (int i = 1; i < results.size(); i++) {
+                if (results.get(i).totalRaceTime() < results.get(best).totalRaceTime()) best = i;
+            }
+            return snapshot.get(best);
+        });
+    }
+}
@@ -0,0 +1,230 @@
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+public class ChampionshipSimulator {
+
+    // Points for P1..P10
+    static final int[] POINTS = {25, 18, 15, 12, 10, 8, 6, 4, 2, 1};
+
+    // Retirement chance per race, plus extra for every ConfigurationValidator warning on the chosen setup
+    static final double BASE_RETIREMENT_RISK = 0.02;
+    static final double RISK_PER_WARNING = 0.08;
+
+    private static final List<Supplier<Tyre>> TYRES = List.of(SoftTyre::new, MediumTyre::new, HardTyre::new);
+    private static final List<Supplier<AerodynamicKit>> AERO_KITS = List.of(StandardKit::new, DownforceKit::new,
+            LowDragKit::new, GroundEffectKit::new, WetWeatherKit::new, ExtremeAeroKit::new);
+
+    // totalRaceTime counts every event, a retirement at the slowest time of that event
+    public record Standing(int entrantIndex, RaceCar baseCar, int points, double totalRaceTime,
+                           int starts, int finishes, int wins) {
+
+        public double reliability() {
+            return starts == 0 ? 1.0 : (double) finishes / starts;
+        }
+    }
+
+    // setupChoices[entrant][track] is the setup each car raced at each event
+    public record ChampionshipResult(List<RaceTrack> calendar, List<Standing> standings, RaceCar[][] setupChoices) {
+
+        public void printStandings() {
+            System.out.println("\n🏆 Championship Standings:");
+            int place = 1;
+            for (Standing s : standings) {
+                System.out.printf("%d. %s - %d pts, %d win(s), %.2f minutes, reliability %.0f%%\n",
+                        place++, s.baseCar().getEngine().getName(), s.points(), s.wins(),
+                        s.totalRaceTime() * 60, s.reliability() * 100);
+            }
+        }
+    }
+
+    // What happened to one entrant at one event
+    private record EventOutcome(RaceCar setup, int points, double raceTime, boolean finished, boolean won) {
+    }
+
+    private final List<RaceTrack> calendar;
+    private final List<RaceCar> entrants;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    public ChampionshipSimulator(List<RaceTrack> calendar, List<RaceCar> entrants, long seed) {
+        this(calendar, entrants, seed, ForkJoinPool.commonPool());
+    }
+
+    public ChampionshipSimulator(List<RaceTrack> calendar, List<RaceCar> entrants, long seed, ForkJoinPool pool) {
+        this.calendar = List.copyOf(calendar);
+        this.entrants = List.copyOf(entrants);
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    // One task per event; each event forks a setup search per entrant, so long races (more laps to
+    // simulate) and short ones balance out through the pool's work stealing
+    public ChampionshipResult simulate() {
+        List<EventOutcome[]> events = pool.invoke(new SeasonTask());
+
+        int n = entrants.size();
+        int[] points = new int[n];
+        double[] time = new double[n];
+        int[] finishes = new int[n];
+        int[] wins = new int[n];
+        RaceCar[][] setups = new RaceCar[n][calendar.size()];
+
+        for (int t = 0; t < calendar.size(); t++) {
+            EventOutcome[] outcomes = events.get(t);
+            for (int e = 0; e < n; e++) {
+                EventOutcome outcome = outcomes[e];
+                setups[e][t] = outcome.setup();
+                points[e] += outcome.points();
+                time[e] += outcome.raceTime();
+                if (outcome.finished()) finishes[e]++;
+                if (outcome.won()) wins[e]++;
+            }
+        }
+
+        List<Standing> standings = new ArrayList<>(n);
+        for (int e = 0; e < n; e++) {
+            standings.add(new Standing(e, entrants.get(e), points[e], time[e], calendar.size(), finishes[e], wins[e]));
+        }
+        standings.sort(Comparator.comparingInt(Standing::points)
+                .thenComparingInt(Standing::wins).reversed()
+                .thenComparingDouble(Standing::totalRaceTime));
+        return new ChampionshipResult(calendar, standings, setups);
+    }
+
+    @SuppressWarnings("serial")   // fork/join tasks are never serialized
+    private class SeasonTask extends RecursiveTask<List<EventOutcome[]>> {
+        @Override
+        protected List<EventOutcome[]> compute() {
+            List<EventTask> tasks = new ArrayList<>();
+            for (int t = 0; t < calendar.size(); t++) {
+                tasks.add(new EventTask(t));
+            }
+            invokeAll(tasks);
+
+            List<EventOutcome[]> results = new ArrayList<>(tasks.size());
+            for (EventTask task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        }
+    }
+
+    @SuppressWarnings("serial")   // fork/join tasks are never serialized
+    private class EventTask extends RecursiveTask<EventOutcome[]> {
+        private final int trackIndex;
+
+        EventTask(int trackIndex) {
+            this.trackIndex = trackIndex;
+        }
+
+        @Override
+        protected EventOutcome[] compute() {
+            RaceTrack track = calendar.get(trackIndex);
+
+            List<SetupTask> searches = new ArrayList<>();
+            for (RaceCar entrant : entrants) {
+                searches.add(new SetupTask(entrant, track));
+            }
+            invokeAll(searches);
+
+            List<RaceCar> grid = new ArrayList<>(entrants.size());
+            for (SetupTask search : searches) {
+                grid.add(search.join());
+            }
+
+            // Seeded per event so the season is repeatable whatever order the events run in
+            long eventSeed = seed * 31 + trackIndex;
+            GridRaceSimulator.GridRaceResult race = new GridRaceSimulator(track, grid, eventSeed).simulate();
+            SplittableRandom reliability = new SplittableRandom(eventSeed);
+
+            boolean[] retired = new boolean[grid.size()];
+            for (int e = 0; e < grid.size(); e++) {
+                retired[e] = reliability.nextDouble() < retirementRisk(grid.get(e), track);
+            }
+
+            // A retirement is charged the slowest time of the event, so it never helps the time tie-break
+            double slowest = 0;
+            for (GridRaceSimulator.Finisher finisher : race.classification()) {
+                slowest = Math.max(slowest, finisher.totalRaceTime());
+            }
+
+            EventOutcome[] outcomes = new EventOutcome[grid.size()];
+            int place = 0;
+            for (GridRaceSimulator.Finisher finisher : race.classification()) {
+                int e = finisher.carIndex();
+                if (retired[e]) {
+                    outcomes[e] = new EventOutcome(grid.get(e), 0, slowest, false, false);
+                    continue;
+                }
+                int points = place < POINTS.length ? POINTS[place] : 0;
+                outcomes[e] = new EventOutcome(grid.get(e), points, finisher.totalRaceTime(), true, place == 0);
+                place++;
+            }
+            return outcomes;
+        }
+    }
+
+    // Picks the entrant's tyre and aero kit for one track; the engine and tank stay those of the entrant
+    @SuppressWarnings("serial")   // fork/join tasks are never serialized
+    private static class SetupTask extends RecursiveTask<RaceCar> {
+        private final RaceCar entrant;
+        private final RaceTrack track;
+
+        SetupTask(RaceCar entrant, RaceTrack track) {
+            this.entrant = entrant;
+            this.track = track;
+        }
+
+        @Override
+        protected RaceCar compute() {
+            return optimiseSetup(entrant, track);
+        }
+    }
+
+    // Fewest validator warnings first (they drive the retirement risk), then the fastest race time
+    static RaceCar optimiseSetup(RaceCar entrant, RaceTrack track) {
+        RaceCar best = entrant;
+        int bestWarnings = Integer.MAX_VALUE;
+        double bestTime = Double.MAX_VALUE;
+
+        for (Supplier<Tyre> tyre : TYRES) {
+            for (Supplier<AerodynamicKit> aero : AERO_KITS) {
+                RaceCar candidate = new RaceCar(entrant.getEngine(), tyre.get(), aero.get(), entrant.getFuelTankCapacity());
+                if (ConfigurationValidator.hasBlockingConflict(candidate)) {
+                    continue;
+                }
+                int warnings = ConfigurationValidator.getWarnings(candidate, track).size();
+                double time = RaceStrategySimulator.calculateRaceResult(candidate, track).totalRaceTime();
+                if (warnings < bestWarnings || (warnings == bestWarnings && time < bestTime)) {
+                    best = candidate;
+                    bestWarnings = warnings;
+                    bestTime = time;
+                }
+            }
+        }
+        return best;
+    }
+
+    static double retirementRisk(RaceCar car, RaceTrack track) {
+        return BASE_RETIREMENT_RISK + RISK_PER_WARNING * ConfigurationValidator.getWarnings(car, track).size();
+    }
+
+    public static void main(String[] args) {
+        List<RaceCar> fleet = List.of(
+                new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80),
+                new RaceCar(new TurboEngine(), new MediumTyre(), new StandardKit(), 90),
+                new RaceCar(new HybridEngine(), new MediumTyre(), new StandardKit(), 80),
+                new RaceCar(new V8Engine(), new MediumTyre(), new StandardKit(), 100),
+                new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 70));
+
+        new ChampionshipSimulator(TrackFactory.getPresetTracks(), fleet, 2024).simulate().printStandings();
+    }
+}
@@ -0,0 +1,157 @@
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import engine.ElectricEngine;
+
+// Plans charging stops for an electric car. Charging runs at full power up to TAPER_START and then slows
+// down towards a full battery, so several short charges from a low state of charge can beat one long one
+// once the fixed pit overhead is paid. Charge times come from a cumulative table built once per car. Every stop
+// count is evaluated exactly, in parallel, with the charge target of each stop solved for that count.
+public class ChargingStopPlanner {
+
+    static final double PLUG_IN_TIME = 30 / 3600.0;      // hours on top of the pit lane loss
+    static final double TAPER_START = 0.5;               // state of charge where the power starts dropping
+    static final double MIN_POWER_FRACTION = 0.15;       // power left at a full battery
+    static final double RESERVE = 0.05;                  // part of the battery never used
+    static final int TABLE_STEPS = 1000;
+    static final int MAX_STOPS = 50;
+
+    static final String BATTERY_TOO_SMALL = "Battery too small to complete a single lap.";
+    static final String TOO_MANY_STOPS = "Race needs more than " + MAX_STOPS + " charging stops.";
+    static final String TOO_FEW_STOPS = "Not enough charging stops to cover the race.";
+
+    // targetStateOfCharge is the highest charge level any stop goes up to.
+    // infeasibleReason names the limit that was hit and is empty for a feasible plan
+    public record ChargingPlan(int stops, double targetStateOfCharge, int[] stopLaps, double energyChargedKwh,
+                               double chargingTime, double totalRaceTime, boolean feasible, String infeasibleReason) {
+
+        // Hours spent in the pits: lane losses, plugging in and charging
+        public double pitTime() {
+            return stops * (GridRaceSimulator.PIT_LOSS + PLUG_IN_TIME) + chargingTime;
+        }
+
+        // Same stops at a different race pace. Every plan races the same laps, so the choice of plan does not
+        // depend on the lap time and only the total has to follow it.
+        public ChargingPlan withLapTime(int laps, double lapTime) {
+            if (!feasible) return this;
+            return new ChargingPlan(stops, targetStateOfCharge, stopLaps, energyChargedKwh, chargingTime,
+                    laps * lapTime + pitTime(), true, infeasibleReason);
+        }
+
+        public void printPlan() {
+            System.out.println("\n🔌 Charging Plan:");
+            if (!feasible) {
+                System.out.println("⚠️ " + infeasibleReason);
+                return;
+            }
+            System.out.printf("Charging Stops: %d\n", stops);
+            if (stops > 0) {
+                System.out.printf("Charge up to %.0f%% per stop, only as far as the next stint needs (%.1f kWh, %.2f minutes charging)\n",
+                        targetStateOfCharge * 100, energyChargedKwh, chargingTime * 60);
+                System.out.print("Stop after laps:");
+                for (int lap : stopLaps) System.out.print(" " + lap);
+                System.out.println();
+            }
+            System.out.printf("Total Race Time: %.2f minutes\n", totalRaceTime * 60);
+        }
+    }
+
+    private final double capacity;
+    private final double energyPerLap;
+    private final double lapTime;
+    private final int laps;
+    private final double[] cumulativeHours = new double[TABLE_STEPS + 1];
+
+    public ChargingStopPlanner(RaceCar car, RaceTrack track) {
+        if (!(car.getEngine() instanceof ElectricEngine ev)) {
+            throw new IllegalArgumentException("Charging stops only apply to electric cars");
+        }
+        this.capacity = car.getFuelTankCapacity();
+        this.energyPerLap = track.getTrackLengthKm() * ev.getEnergyConsumption() / 100.0;
+        this.lapTime = car.calculateLapTime(track.getTrackLengthKm(), track.getTemperatureC());
+        this.laps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+
+        // cumulativeHours[i] = time to charge an empty battery to i / TABLE_STEPS
+        double slice = capacity / TABLE_STEPS;
+        for (int i = 0; i < TABLE_STEPS; i++) {
+            double stateOfCharge = (i + 0.5) / TABLE_STEPS;
+            cumulativeHours[i + 1] = cumulativeHours[i] + slice / chargePower(ev.getMaxChargingPower(), stateOfCharge);
+        }
+    }
+
+    // kW drawn at the given state of charge (0 to 1)
+    static double chargePower(double maxPower, double stateOfCharge) {
+        if (stateOfCharge <= TAPER_START) return maxPower;
+        double taper = (stateOfCharge - TAPER_START) / (1 - TAPER_START);
+        return maxPower * (1 - (1 - MIN_POWER_FRACTION) * taper);
+    }
+
+    // Hours to charge between two states of charge, interpolated from the table
+    public double chargeTime(double from, double to) {
+        return cumulativeTime(to) - cumulativeTime(from);
+    }
+
+    private double cumulativeTime(double stateOfCharge) {
+        double position = Math.max(0, Math.min(1, stateOfCharge)) * TABLE_STEPS;
+        int i = (int) Math.min(TABLE_STEPS - 1, Math.floor(position));
+        return cumulativeHours[i] + (position - i) * (cumulativeHours[i + 1] - cumulativeHours[i]);
+    }
+
+    public ChargingPlan plan() {
+        // A stop needs at least one lap after it
+        int maxStops = Math.max(0, Math.min(MAX_STOPS, laps - 1));
+
+        return IntStream.rangeClosed(0, maxStops).parallel()
+                .mapToObj(this::evaluate)
+                .filter(ChargingPlan::feasible)
+                .min(Comparator.comparingDouble(ChargingPlan::totalRaceTime)
+                        .thenComparingInt(ChargingPlan::stops))
+                .orElseGet(() -> infeasible(0, 0, capacity * (1 - RESERVE) < energyPerLap ? BATTERY_TOO_SMALL : TOO_MANY_STOPS));
+    }
+
+    private static ChargingPlan infeasible(int stops, double target, String reason) {
+        return new ChargingPlan(stops, target, new int[0], 0, 0, Double.POSITIVE_INFINITY, false, reason);
+    }
+
+    // Exactly `stops` stops. The first stint runs the full battery down to the reserve (shortened only if every
+    // later stint still needs a lap), the laps left are shared as evenly as the lap count allows, and each stop
+    // charges from the reserve just far enough for its stint. Charging slows as the battery fills, so equal
+    // charges from the lowest level are the cheapest way to put the missing energy in with this many stops.
+    ChargingPlan evaluate(int stops) {
+        if (stops < 0 || (stops > 0 && stops >= laps)) {
+            throw new IllegalArgumentException("Cannot spread " + stops + " stops over " + laps + " laps");
+        }
+        double reserve = capacity * RESERVE;
+        int longestStint = (int) Math.floor((capacity - reserve) / energyPerLap + 1e-9);
+        if (longestStint == 0 && laps > 0) return infeasible(stops, 0, BATTERY_TOO_SMALL);
+
+        int firstStint = Math.min(longestStint, laps - stops);
+        int left = laps - firstStint;
+        if (stops == 0) {
+            if (left > 0) return infeasible(0, 0, TOO_FEW_STOPS);
+            return new ChargingPlan(0, 0, new int[0], 0, 0, 0, true, "").withLapTime(laps, lapTime);
+        }
+
+        int[] stopLaps = new int[stops];
+        double charge = capacity - firstStint * energyPerLap;
+        double charged = 0;
+        double chargingTime = 0;
+        double highest = 0;
+        int lap = firstStint;
+        for (int k = 0; k < stops; k++) {
+            int stint = left / stops + (k < left % stops ? 1 : 0);
+            double goal = Math.max(charge, reserve + stint * energyPerLap);
+            if (goal > capacity + 1e-9) return infeasible(stops, goal / capacity, TOO_FEW_STOPS);
+
+            stopLaps[k] = lap;
+            chargingTime += chargeTime(charge / capacity, goal / capacity);
+            charged += goal - charge;
+            highest = Math.max(highest, goal);
+            charge = goal - stint * energyPerLap;
+            lap += stint;
+        }
+
+        return new ChargingPlan(stops, highest / capacity, stopLaps, charged, chargingTime, 0, true, "")
+                .withLapTime(laps, lapTime);
+    }
+}
@@ -1,35 +1,53 @@
+import java.util.ArrayList;
+import java.util.List;
 
 public class ConfigurationValidator {
     public static boolean isValid(RaceCar car, RaceTrack track) {
+        if (hasBlockingConflict(car)) {
+            System.out.println("❌ Invalid Configuration: Wet Weather Kit cannot be used with Hard Tyres.");
+            return false;
+        }
+
+        for (String warning : getWarnings(car, track)) {
+            System.out.println(warning);
+        }
+
+        return true;
+    }
+
+    // Combinations that cannot race at all
+    public static boolean hasBlockingConflict(RaceCar car) {
+        String tyreType = car.getTyre().getType().toLowerCase();
+        String aeroName = car.getAeroKit().getName().toLowerCase();
+        return aeroName.contains("wet") && tyreType.contains("hard");
+    }
+
+    // Risky but legal combinations, without printing (used by the batch tools)
+    public static List<String> getWarnings(RaceCar car, RaceTrack track) {
         String tyreType = car.getTyre().getType().toLowerCase();
         String aeroName = car.getAeroKit().getName().toLowerCase();
         String engineName = car.getEngine().getName().toLowerCase();
         double engineWeight = car.getEngine().getWeight();
         double trackLength = track.getTrackLengthKm();
 
-        boolean valid = true;
-
-        if (aeroName.contains("wet") && tyreType.contains("hard")) {
-            System.out.println("❌ Invalid Configuration: Wet Weather Kit cannot be used with Hard Tyres.");
-            return false;
-        }
+        List<String> warnings = new ArrayList<>();
 
         if (engineName.contains("turbo") && tyreType.contains("soft") && trackLength > 8) {
-            System.out.println("⚠️ Warning: Soft Tyres may degrade quickly with Turbo src.engine.Engine on a long track.");
+            warnings.add("⚠️ Warning: Soft Tyres may degrade quickly with Turbo src.engine.Engine on a long track.");
         }
 
         if (aeroName.contains("extreme") && engineName.contains("electric")) {
-            System.out.println("⚠️ Warning: Extreme Aero Kit may significantly reduce electric performance.");
+            warnings.add("⚠️ Warning: Extreme Aero Kit may significantly reduce electric performance.");
         }
 
         if (aeroName.contains("ground") && engineWeight > 230) {
-            System.out.println("⚠️ Warning: Heavy engine may limit effectiveness of Ground Effect Kit.");
+            warnings.add("⚠️ Warning: Heavy engine may limit effectiveness of Ground Effect Kit.");
         }
 
         if (aeroName.contains("low") && track.isWet()) {
-            System.out.println("⚠️ Warning: Low Drag Aero Kit is not recommended on wet tracks.");
+            warnings.add("⚠️ Warning: Low Drag Aero Kit is not recommended on wet tracks.");
         }
 
-        return valid;
+        return warnings;
     }
-}
\ No newline at end of file
+}
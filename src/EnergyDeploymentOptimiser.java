@@ -0,0 +1,128 @@
+import java.util.Arrays;
+
+import engine.ElectricEngine;
+import engine.Engine;
+import engine.HybridEngine;
+
+// Chooses how much battery energy to deploy on each lap of an Electric or Hybrid race.
+// Every lap harvests energy under braking (more corners and chicanes, more harvest) and deployment buys
+// time on the straights with diminishing returns. A DP over (lap, quantised state of charge) finds the
+// plan with the lowest race time that never runs the battery flat.
+public class EnergyDeploymentOptimiser {
+
+    static final double HARVEST_PER_CORNER = 0.01;   // kWh per corner at full brake efficiency
+    static final double HARVEST_PER_CHICANE = 0.02;  // kWh per chicane
+    static final double DEPLOY_PER_KM = 0.15;        // kWh per km that the motor can usefully add in one lap
+    static final double MAX_GAIN = 0.04;             // lap time fraction saved by full deployment
+    static final double STRAIGHTS_BONUS = 1.5;       // deployment pays more on long straights
+    static final int MAX_STATES = 4000;
+    static final int DEPLOY_LEVELS = 20;
+
+    // Per-lap plan; arrays are indexed by lap (stateOfChargeKwh has one extra entry for the finish)
+    public record DeploymentPlan(double[] deploymentKwh, double[] stateOfChargeKwh, double[] lapTimes,
+                                 double totalRaceTime, double timeGained, boolean feasible) {
+
+        public void printPlan() {
+            System.out.println("\n🔋 Energy Deployment Plan:");
+            if (!feasible) {
+                System.out.println("⚠️ Battery cannot cover the distance - plan a charging stop.");
+                return;
+            }
+            for (int lap = 0; lap < deploymentKwh.length; lap++) {
+                System.out.printf("Lap %2d: deploy %.2f kWh, %.2f minutes, %.1f kWh left\n", lap + 1,
+                        deploymentKwh[lap], lapTimes[lap] * 60, stateOfChargeKwh[lap + 1]);
+            }
+            System.out.printf("Total Race Time: %.2f minutes (%.2f minutes gained)\n", totalRaceTime * 60, timeGained * 60);
+        }
+    }
+
+    // Whole race from a full battery
+    public static DeploymentPlan optimise(RaceCar car, RaceTrack track) {
+        int laps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+        return optimise(car, track, laps, batteryCapacity(car));
+    }
+
+    // A stint of the given number of laps, starting with startChargeKwh in the battery
+    public static DeploymentPlan optimise(RaceCar car, RaceTrack track, int laps, double startChargeKwh) {
+        Engine engine = car.getEngine();
+        double capacity = batteryCapacity(car);
+        double lapKm = track.getTrackLengthKm();
+        double baseLapTime = car.calculateLapTime(lapKm, track.getTemperatureC());
+
+        // Electric cars drive on the battery; a hybrid only deploys from it
+        double consumption = engine instanceof ElectricEngine ev ? lapKm * ev.getEnergyConsumption() / 100.0 : 0.0;
+        double harvest = (track.getNumberOfCurves() * HARVEST_PER_CORNER
+                + track.getNumberOfChicanes() * HARVEST_PER_CHICANE) * car.getAeroKit().getBrakeEfficiency();
+        double maxDeploy = lapKm * DEPLOY_PER_KM;
+        double maxGain = baseLapTime * MAX_GAIN * (track.hasLongStraights() ? STRAIGHTS_BONUS : 1.0);
+
+        // Fine enough for DEPLOY_LEVELS deployment steps, coarse enough to keep the table small
+        double step = Math.max(maxDeploy / DEPLOY_LEVELS, capacity / MAX_STATES);
+        int states = (int) Math.floor(capacity / step);
+        int deployLevels = (int) Math.floor(maxDeploy / step);
+        int consumptionSteps = (int) Math.ceil(consumption / step);   // rounded against us
+        int harvestSteps = (int) Math.floor(harvest / step);
+        int start = (int) Math.floor(Math.min(startChargeKwh, capacity) / step);
+
+        // Concave gain, so the DP spreads energy rather than spending it all at once
+        double[] gain = new double[deployLevels + 1];
+        for (int d = 0; d <= deployLevels; d++) {
+            gain[d] = maxGain * (1 - Math.exp(-2.0 * d * step / maxDeploy)) / (1 - Math.exp(-2.0));
+        }
+
+        // best[s] = most time that can still be gained from the current lap on, starting the lap at charge s
+        double[] best = new double[states + 1];
+        double[] next = new double[states + 1];
+        short[][] choice = new short[laps][states + 1];
+        for (int lap = laps - 1; lap >= 0; lap--) {
+            for (int s = 0; s <= states; s++) {
+                double bestValue = Double.NEGATIVE_INFINITY;
+                int bestDeploy = -1;
+                int limit = Math.min(deployLevels, s);
+                for (int d = 0; d <= limit; d++) {
+                    int after = s - consumptionSteps - d + harvestSteps;
+                    if (after < 0) break;
+                    double value = gain[d] + best[Math.min(states, after)];
+                    if (value > bestValue) {
+                        bestValue = value;
+                        bestDeploy = d;
+                    }
+                }
+                next[s] = bestValue;
+                choice[lap][s] = (short) bestDeploy;
+            }
+            double[] swap = best;
+            best = next;
+            next = swap;
+        }
+
+        double[] deployment = new double[laps];
+        double[] charge = new double[laps + 1];
+        double[] lapTimes = new double[laps];
+        if (laps > 0 && best[start] == Double.NEGATIVE_INFINITY) {
+            Arrays.fill(lapTimes, baseLapTime);
+            return new DeploymentPlan(deployment, charge, lapTimes, baseLapTime * laps, 0, false);
+        }
+
+        double total = 0;
+        int s = start;
+        charge[0] = s * step;
+        for (int lap = 0; lap < laps; lap++) {
+            int d = choice[lap][s];
+            deployment[lap] = d * step;
+            lapTimes[lap] = baseLapTime - gain[d];
+            total += lapTimes[lap];
+            s = Math.min(states, s - consumptionSteps - d + harvestSteps);
+            charge[lap + 1] = s * step;
+        }
+        return new DeploymentPlan(deployment, charge, lapTimes, total, baseLapTime * laps - total, true);
+    }
+
+    // Electric cars reuse the fuel tank capacity as the battery, as RaceStrategySimulator does
+    static double batteryCapacity(RaceCar car) {
+        Engine engine = car.getEngine();
+        if (engine instanceof ElectricEngine) return car.getFuelTankCapacity();
+        if (engine instanceof HybridEngine hybrid) return hybrid.getBatteryCapacity();
+        throw new IllegalArgumentException("Energy deployment needs an Electric or Hybrid engine, not " + engine.getName());
+    }
+}
@@ -0,0 +1,141 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class FleetAssignmentSolver {
+
+    // Cost used for combinations that cannot race (e.g. Wet Weather Kit on Hard tyres); large but finite
+    // so the Hungarian potentials stay well defined
+    static final double INFEASIBLE = 1e9;
+
+    // trackForCar[i] is the index of the event car i is sent to, or -1 if there are more cars than events
+    public record Assignment(int[] trackForCar, double totalRaceTime, double[][] costMatrix) {
+
+        public boolean isFeasible() {
+            return totalRaceTime < INFEASIBLE;
+        }
+
+        public void printAssignment(List<RaceCar> cars, List<RaceTrack> tracks) {
+            System.out.println("\n📋 Fleet Assignment:");
+            for (int car = 0; car < trackForCar.length; car++) {
+                RaceCar c = cars.get(car);
+                String setup = c.getEngine().getName() + " / " + c.getTyre().getType() + " / " + c.getAeroKit().getName();
+                if (trackForCar[car] < 0) {
+                    System.out.println("- " + setup + " → reserve");
+                } else {
+                    System.out.printf("- %s → %s (%.2f minutes)\n", setup, tracks.get(trackForCar[car]).getName(),
+                            costMatrix[car][trackForCar[car]] * 60);
+                }
+            }
+            System.out.printf("Total race time: %.2f minutes\n", totalRaceTime * 60);
+        }
+    }
+
+    // Race time of every car on every track; rows are filled in parallel
+    public static double[][] buildCostMatrix(List<RaceCar> cars, List<RaceTrack> tracks) {
+        double[][] cost = new double[cars.size()][tracks.size()];
+        IntStream.range(0, cars.size()).parallel().forEach(i -> {
+            RaceCar car = cars.get(i);
+            boolean blocked = ConfigurationValidator.hasBlockingConflict(car);
+            for (int j = 0; j < tracks.size(); j++) {
+                cost[i][j] = blocked ? INFEASIBLE
+                        : RaceStrategySimulator.calculateRaceResult(car, tracks.get(j)).totalRaceTime();
+            }
+        });
+        return cost;
+    }
+
+    public static Assignment solve(List<RaceCar> cars, List<RaceTrack> tracks) {
+        double[][] cost = buildCostMatrix(cars, tracks);
+        int[] trackForCar = solve(cost);
+
+        double total = 0;
+        for (int car = 0; car < trackForCar.length; car++) {
+            if (trackForCar[car] >= 0) total += cost[car][trackForCar[car]];
+        }
+        return new Assignment(trackForCar, total, cost);
+    }
+
+    // Minimum-cost assignment of rows to columns; every row gets a column when rows <= columns,
+    // otherwise every column gets a row and the remaining rows are -1
+    public static int[] solve(double[][] cost) {
+        int rows = cost.length;
+        int cols = rows == 0 ? 0 : cost[0].length;
+        int[] result = new int[rows];
+        Arrays.fill(result, -1);
+        if (rows == 0 || cols == 0) {
+            return result;
+        }
+
+        if (rows <= cols) {
+            int[] colForRow = hungarian(cost, rows, cols, false);
+            System.arraycopy(colForRow, 0, result, 0, rows);
+        } else {
+            int[] rowForCol = hungarian(cost, cols, rows, true);
+            for (int col = 0; col < cols; col++) {
+                result[rowForCol[col]] = col;
+            }
+        }
+        return result;
+    }
+
+    // Hungarian algorithm with row/column potentials, O(n^2 m) for an n x m problem with n <= m.
+    // When transposed, a[i][j] is read as cost[j][i] so the matrix is never copied.
+    private static int[] hungarian(double[][] cost, int n, int m, boolean transposed) {
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] p = new int[m + 1];      // p[j] = row (1-based) matched to column j, 0 if free
+        int[] way = new int[m + 1];
+        double[] minv = new double[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                double delta = Double.POSITIVE_INFINITY;
+                int j1 = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) continue;
+                    double a = transposed ? cost[j - 1][i0 - 1] : cost[i0 - 1][j - 1];
+                    double reduced = a - u[i0] - v[j];
+                    if (reduced < minv[j]) {
+                        minv[j] = reduced;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+
+            // Flip the augmenting path
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        int[] colForRow = new int[n];
+        for (int j = 1; j <= m; j++) {
+            if (p[j] != 0) colForRow[p[j] - 1] = j - 1;
+        }
+        return colForRow;
+    }
+}
@@ -0,0 +1,408 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Reads a GPS trace of one lap (text lines "latitude,longitude[,elevation]", '#' comments and a header
+// line are skipped), resamples and smooths it, and derives corners, chicanes, straights and climbs
+// from the curvature. The result is cached next to the trace in a small binary file.
+public class GpsTrackImporter {
+
+    static final double EARTH_RADIUS_M = 6_371_000;
+    static final double SAMPLE_SPACING_M = 5.0;
+    static final int SMOOTHING_RADIUS = 3;          // samples either side in the moving average
+    static final int CURVATURE_OFFSET = 2;          // neighbours used for the three-point curvature
+    static final double CORNER_CURVATURE = 1.0 / 150.0;  // anything tighter than a 150 m radius is a corner
+    static final double MIN_CORNER_M = 15.0;
+    static final double MERGE_GAP_M = 10.0;         // same-direction bends closer than this are one corner
+    static final double CHICANE_GAP_M = 60.0;       // opposite bends closer than this form a chicane
+    static final double LONG_STRAIGHT_M = 800.0;
+    static final double CLIMB_GRADE = 0.03;
+
+    private static final int CACHE_MAGIC = 0x52534745;
+    private static final int CACHE_VERSION = 1;
+
+    // Raw trace in local metres (x east, y north) plus elevation
+    private record Polyline(double[] x, double[] y, double[] elevation, int count) {
+    }
+
+    // Loads from the cache when it was built from the same version of the trace, otherwise imports
+    public static TrackGeometry load(Path gpsFile) throws IOException {
+        Path cache = cachePathFor(gpsFile);
+        long size = Files.size(gpsFile);
+        long modified = Files.getLastModifiedTime(gpsFile).toMillis();
+
+        if (Files.exists(cache)) {
+            TrackGeometry cached = readCache(cache, size, modified);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        TrackGeometry geometry = importTrace(gpsFile);
+        writeCache(cache, geometry, size, modified);
+        return geometry;
+    }
+
+    public static Path cachePathFor(Path gpsFile) {
+        return gpsFile.resolveSibling(gpsFile.getFileName() + ".geo");
+    }
+
+    public static TrackGeometry importTrace(Path gpsFile) throws IOException {
+        Polyline trace = readTrace(gpsFile);
+        if (trace.count() < 3) {
+            throw new IOException("GPS trace needs at least 3 points: " + gpsFile);
+        }
+
+        double[][] samples = resample(trace);
+        double[] x = smooth(samples[0]);
+        double[] y = smooth(samples[1]);
+        double[] elevation = smooth(samples[2]);
+        double spacing = samples[3][0];
+
+        return buildGeometry(curvature(x, y), elevation, spacing);
+    }
+
+    // ---- Reading -------------------------------------------------------------------------------
+
+    private static Polyline readTrace(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("GPS trace too large: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int limit = buffer.limit();
+
+            double[] lat = new double[1024];
+            double[] lon = new double[1024];
+            double[] ele = new double[1024];
+            double[] fields = new double[3];
+            int count = 0;
+
+            int pos = 0;
+            while (pos < limit) {
+                int lineEnd = pos;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') lineEnd++;
+
+                int parsed = parseLine(buffer, pos, lineEnd, fields);
+                if (parsed >= 2) {
+                    if (count == lat.length) {
+                        lat = Arrays.copyOf(lat, count * 2);
+                        lon = Arrays.copyOf(lon, count * 2);
+                        ele = Arrays.copyOf(ele, count * 2);
+                    }
+                    lat[count] = fields[0];
+                    lon[count] = fields[1];
+                    ele[count] = parsed >= 3 ? fields[2] : 0;
+                    count++;
+                }
+                pos = lineEnd + 1;
+            }
+
+            // Equirectangular projection around the first point; plenty for a few kilometres
+            double[] x = new double[count];
+            double[] y = new double[count];
+            double cosLat = Math.cos(Math.toRadians(count > 0 ? lat[0] : 0));
+            for (int i = 0; i < count; i++) {
+                x[i] = Math.toRadians(lon[i] - lon[0]) * cosLat * EARTH_RADIUS_M;
+                y[i] = Math.toRadians(lat[i] - lat[0]) * EARTH_RADIUS_M;
+            }
+            return new Polyline(x, y, Arrays.copyOf(ele, count), count);
+        }
+    }
+
+    // Parses up to three numbers separated by commas, semicolons or blanks, without creating strings.
+    // Returns how many were read, or 0 for comments, headers and malformed lines.
+    static int parseLine(ByteBuffer buffer, int start, int end, double[] out) {
+        int pos = start;
+        int found = 0;
+        while (pos < end && found < out.length) {
+            byte b = buffer.get(pos);
+            if (b == ',' || b == ';' || b == ' ' || b == '\t' || b == '\r') {
+                pos++;
+                continue;
+            }
+            if (b == '#') {
+                return found;
+            }
+
+            int numberStart = pos;
+            boolean negative = false;
+            if (b == '-' || b == '+') {
+                negative = b == '-';
+                pos++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int scale = 0;
+            boolean fraction = false;
+            boolean exponent = false;
+            while (pos < end) {
+                byte c = buffer.get(pos);
+                if (c >= '0' && c <= '9') {
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                        if (fraction) scale++;
+                    } else if (!fraction) {
+                        scale--;
+                    }
+                } else if (c == '.' && !fraction) {
+                    fraction = true;
+                } else if (c == 'e' || c == 'E') {
+                    exponent = true;
+                } else if (exponent && (c == '-' || c == '+')) {
+                    // part of the exponent, handled by the slow path below
+                } else {
+                    break;
+                }
+                pos++;
+            }
+
+            if (exponent) {
+                byte[] text = new byte[pos - numberStart];
+                for (int i = 0; i < text.length; i++) text[i] = buffer.get(numberStart + i);
+                try {
+                    out[found++] = Double.parseDouble(new String(text, StandardCharsets.US_ASCII));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+                continue;
+            }
+            if (digits == 0 || (pos < end && !isSeparator(buffer.get(pos)))) {
+                return 0;
+            }
+            double value = scale >= 0 ? mantissa / Math.pow(10, scale) : mantissa * Math.pow(10, -scale);
+            out[found++] = negative ? -value : value;
+        }
+        return found;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\t' || b == '\r' || b == '#';
+    }
+
+    // ---- Geometry ------------------------------------------------------------------------------
+
+    // Evenly spaced samples around the closed loop; returns {x, y, elevation, {spacing}}
+    private static double[][] resample(Polyline trace) {
+        int n = trace.count();
+        double[] cumulative = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            int next = (i + 1) % n;
+            cumulative[i + 1] = cumulative[i] + Math.hypot(trace.x()[next] - trace.x()[i], trace.y()[next] - trace.y()[i]);
+        }
+        double length = cumulative[n];
+        int samples = Math.max(8, (int) Math.round(length / SAMPLE_SPACING_M));
+        double spacing = length / samples;
+
+        double[] x = new double[samples];
+        double[] y = new double[samples];
+        double[] e = new double[samples];
+        int segment = 0;
+        for (int s = 0; s < samples; s++) {
+            double d = s * spacing;
+            while (segment < n - 1 && cumulative[segment + 1] < d) segment++;
+            int next = (segment + 1) % n;
+            double span = cumulative[segment + 1] - cumulative[segment];
+            double t = span > 0 ? (d - cumulative[segment]) / span : 0;
+            x[s] = trace.x()[segment] + t * (trace.x()[next] - trace.x()[segment]);
+            y[s] = trace.y()[segment] + t * (trace.y()[next] - trace.y()[segment]);
+            e[s] = trace.elevation()[segment] + t * (trace.elevation()[next] - trace.elevation()[segment]);
+        }
+        return new double[][]{x, y, e, {spacing}};
+    }
+
+    // Circular moving average, so the start/finish line is not special
+    private static double[] smooth(double[] values) {
+        int n = values.length;
+        double[] smoothed = new double[n];
+        int window = 2 * SMOOTHING_RADIUS + 1;
+        double sum = 0;
+        for (int k = -SMOOTHING_RADIUS; k <= SMOOTHING_RADIUS; k++) {
+            sum += values[Math.floorMod(k, n)];
+        }
+        for (int i = 0; i < n; i++) {
+            smoothed[i] = sum / window;
+            sum += values[Math.floorMod(i + SMOOTHING_RADIUS + 1, n)] - values[Math.floorMod(i - SMOOTHING_RADIUS, n)];
+        }
+        return smoothed;
+    }
+
+    // Signed curvature (1/m, positive = left turn) from the circle through three neighbouring samples
+    private static double[] curvature(double[] x, double[] y) {
+        int n = x.length;
+        double[] kappa = new double[n];
+        for (int i = 0; i < n; i++) {
+            int a = Math.floorMod(i - CURVATURE_OFFSET, n);
+            int c = Math.floorMod(i + CURVATURE_OFFSET, n);
+            double abx = x[i] - x[a], aby = y[i] - y[a];
+            double bcx = x[c] - x[i], bcy = y[c] - y[i];
+            double cross = abx * bcy - aby * bcx;
+            double ab = Math.hypot(abx, aby);
+            double bc = Math.hypot(bcx, bcy);
+            double ac = Math.hypot(x[c] - x[a], y[c] - y[a]);
+            double denominator = ab * bc * ac;
+            kappa[i] = denominator > 0 ? 2 * cross / denominator : 0;
+        }
+        return kappa;
+    }
+
+    // Splits the lap into sectors from the curvature profile
+    static TrackGeometry buildGeometry(double[] curvature, double[] elevation, double spacing) {
+        int n = curvature.length;
+
+        double elevationGain = 0;
+        for (int i = 0; i < n; i++) {
+            elevationGain += Math.max(0, elevation[(i + 1) % n] - elevation[i]);
+        }
+
+        // Start the walk on a straight sample so no turn is cut in two by the wrap-around
+        int origin = 0;
+        while (origin < n && Math.abs(curvature[origin]) > CORNER_CURVATURE) origin++;
+        if (origin == n) {
+            return new TrackGeometry(n * spacing / 1000, (int) Math.round(elevationGain), 1, 0, false,
+                    List.of(TrackSector.corner(n * spacing / 1000)));
+        }
+
+        // Turn runs as [start, end) offsets from origin, with the sign of the bend
+        List<int[]> turns = new ArrayList<>();
+        int i = 0;
+        while (i < n) {
+            double k = curvature[(origin + i) % n];
+            if (Math.abs(k) <= CORNER_CURVATURE) {
+                i++;
+                continue;
+            }
+            int sign = k > 0 ? 1 : -1;
+            int start = i;
+            while (i < n && Math.abs(curvature[(origin + i) % n]) > CORNER_CURVATURE
+                    && Math.signum(curvature[(origin + i) % n]) == sign) {
+                i++;
+            }
+            int[] last = turns.isEmpty() ? null : turns.get(turns.size() - 1);
+            if (last != null && last[2] == sign && (start - last[1]) * spacing < MERGE_GAP_M) {
+                last[1] = i;
+            } else {
+                turns.add(new int[]{start, i, sign, 0});
+            }
+        }
+        turns.removeIf(turn -> (turn[1] - turn[0]) * spacing < MIN_CORNER_M);
+
+        // Opposite bends in quick succession become one chicane (turn[3] = 1)
+        List<int[]> merged = new ArrayList<>();
+        for (int t = 0; t < turns.size(); t++) {
+            int[] turn = turns.get(t);
+            if (t + 1 < turns.size()) {
+                int[] next = turns.get(t + 1);
+                if (next[2] != turn[2] && (next[0] - turn[1]) * spacing <= CHICANE_GAP_M) {
+                    merged.add(new int[]{turn[0], next[1], 0, 1});
+                    t++;
+                    continue;
+                }
+            }
+            merged.add(turn);
+        }
+
+        List<TrackSector> sectors = new ArrayList<>();
+        int corners = 0;
+        int chicanes = 0;
+        boolean longStraights = false;
+        int cursor = 0;
+        for (int[] turn : merged) {
+            longStraights |= addStraight(sectors, elevation, origin, cursor, turn[0], spacing);
+            double length = (turn[1] - turn[0]) * spacing / 1000;
+            if (turn[3] == 1) {
+                sectors.add(TrackSector.chicane(length));
+                chicanes++;
+            } else {
+                sectors.add(TrackSector.corner(length));
+                corners++;
+            }
+            cursor = turn[1];
+        }
+        longStraights |= addStraight(sectors, elevation, origin, cursor, n, spacing);
+
+        return new TrackGeometry(n * spacing / 1000, (int) Math.round(elevationGain), corners, chicanes,
+                longStraights, sectors);
+    }
+
+    // Adds the straight (or climb, if it rises steeply enough) between two turns; returns true if it is long
+    private static boolean addStraight(List<TrackSector> sectors, double[] elevation, int origin,
+                                       int from, int to, double spacing) {
+        if (to <= from) {
+            return false;
+        }
+        int n = elevation.length;
+        double lengthM = (to - from) * spacing;
+        double rise = elevation[(origin + to) % n] - elevation[(origin + from) % n];
+        if (rise / lengthM > CLIMB_GRADE) {
+            sectors.add(TrackSector.climb(lengthM / 1000, (int) Math.round(rise)));
+        } else {
+            sectors.add(TrackSector.straight(lengthM / 1000));
+        }
+        return lengthM >= LONG_STRAIGHT_M;
+    }
+
+    // ---- Binary cache --------------------------------------------------------------------------
+
+    private static void writeCache(Path cache, TrackGeometry geometry, long sourceSize, long sourceModified) throws IOException {
+        Path temp = cache.resolveSibling(cache.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(CACHE_MAGIC);
+            out.writeInt(CACHE_VERSION);
+            out.writeLong(sourceSize);
+            out.writeLong(sourceModified);
+            out.writeDouble(geometry.lengthKm());
+            out.writeInt(geometry.elevationGainM());
+            out.writeInt(geometry.numberOfCurves());
+            out.writeInt(geometry.numberOfChicanes());
+            out.writeBoolean(geometry.hasLongStraights());
+            out.writeInt(geometry.sectors().size());
+            for (TrackSector sector : geometry.sectors()) {
+                out.writeByte(sector.type().ordinal());
+                out.writeDouble(sector.lengthKm());
+                out.writeInt(sector.elevationGainM());
+            }
+        }
+        Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Returns null when the cache is stale, from another format version, or unreadable
+    static TrackGeometry readCache(Path cache, long sourceSize, long sourceModified) throws IOException {
+        try (FileChannel channel = FileChannel.open(cache, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.remaining() < 24 || in.getInt() != CACHE_MAGIC || in.getInt() != CACHE_VERSION
+                    || in.getLong() != sourceSize || in.getLong() != sourceModified) {
+                return null;
+            }
+            double lengthKm = in.getDouble();
+            int elevationGain = in.getInt();
+            int curves = in.getInt();
+            int chicanes = in.getInt();
+            boolean longStraights = in.get() != 0;
+            int count = in.getInt();
+
+            TrackSector.SectorType[] types = TrackSector.SectorType.values();
+            List<TrackSector> sectors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                TrackSector.SectorType type = types[in.get()];
+                sectors.add(new TrackSector(type, in.getDouble(), in.getInt()));
+            }
+            return new TrackGeometry(lengthKm, elevationGain, curves, chicanes, longStraights, sectors);
+        } catch (RuntimeException e) {
+            // truncated or corrupt file: rebuild from the trace
+            return null;
+        }
+    }
+}
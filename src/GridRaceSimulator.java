@@ -0,0 +1,138 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+public class GridRaceSimulator {
+
+    // Time lost driving through the pit lane and stopping (hours, like every other time in the model)
+    static final double PIT_LOSS = 20.0 / 3600.0;
+
+    // Gap between consecutive grid slots at the start
+    static final double GRID_GAP = 0.25 / 3600.0;
+
+    // Relative standard deviation of a single lap time
+    static final double LAP_TIME_SPREAD = 0.005;
+
+    private enum EventType { LAP_COMPLETE, PIT_EXIT }
+
+    // A lap completion or the moment a car leaves the pit lane; ties are broken by car index so runs are repeatable
+    private record RaceEvent(double time, int carIndex, int lap, EventType type) {
+    }
+
+    private static final Comparator<RaceEvent> EVENT_ORDER =
+            Comparator.comparingDouble(RaceEvent::time).thenComparingInt(RaceEvent::carIndex);
+
+    public record Finisher(int carIndex, RaceCar car, int gridPosition, int finishPosition,
+                           double totalRaceTime, int pitStops) {
+    }
+
+    // classification is ordered by finishing position
+    public record GridRaceResult(List<Finisher> classification, int positionChanges, int eventsProcessed) {
+
+        public void printClassification(int topN) {
+            System.out.println("\n🏁 Race Classification:");
+            for (Finisher f : classification.subList(0, Math.min(topN, classification.size()))) {
+                System.out.printf("P%d (from P%d): %s / %s / %s - %.2f minutes, %d pit stop(s)\n",
+                        f.finishPosition(), f.gridPosition(), f.car().getEngine().getName(),
+                        f.car().getTyre().getType(), f.car().getAeroKit().getName(),
+                        f.totalRaceTime() * 60, f.pitStops());
+            }
+            System.out.printf("Position changes: %d\n", positionChanges);
+        }
+    }
+
+    private final RaceTrack track;
+    private final List<RaceCar> grid;
+    private final long seed;
+
+    public GridRaceSimulator(RaceTrack track, List<RaceCar> grid, long seed) {
+        this.track = track;
+        this.grid = List.copyOf(grid);
+        this.seed = seed;
+    }
+
+    // Grid order is the list order. Each event costs O(log n) on the queue; positions come from
+    // per-lap completion counters, so no car is ever compared against the whole field.
+    public GridRaceResult simulate() {
+        int n = grid.size();
+        int totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+
+        double[] baseLapTime = new double[n];
+        int[] plannedStops = new int[n];
+        int[] pitStops = new int[n];
+        int[] position = new int[n];
+        double[] finishTime = new double[n];
+        SplittableRandom[] random = new SplittableRandom[n];
+
+        PriorityQueue<RaceEvent> events = new PriorityQueue<>(Math.max(1, n), EVENT_ORDER);
+        for (int i = 0; i < n; i++) {
+            RaceCar car = grid.get(i);
+            RaceResult result = RaceStrategySimulator.calculateRaceResult(car, track);
+            baseLapTime[i] = result.lapTime();
+            // At most one stop per lap, and never after the final lap
+            plannedStops[i] = Math.min(result.stopsMade(), Math.max(0, totalLaps - 1));
+            position[i] = i + 1;
+            random[i] = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (i + 1)));
+
+            if (totalLaps > 0) {
+                double start = i * GRID_GAP;
+                events.add(new RaceEvent(start + lapTime(baseLapTime[i], random[i]), i, 1, EventType.LAP_COMPLETE));
+            }
+        }
+
+        int[] completedOnLap = new int[totalLaps + 1];
+        int positionChanges = 0;
+        int processed = 0;
+
+        while (!events.isEmpty()) {
+            RaceEvent event = events.poll();
+            processed++;
+            int car = event.carIndex();
+
+            if (event.type() == EventType.PIT_EXIT) {
+                events.add(new RaceEvent(event.time() + lapTime(baseLapTime[car], random[car]),
+                        car, event.lap() + 1, EventType.LAP_COMPLETE));
+                continue;
+            }
+
+            // Everyone who crossed the line on this lap before us is ahead
+            int lap = event.lap();
+            int newPosition = ++completedOnLap[lap];
+            if (newPosition != position[car]) {
+                positionChanges++;
+                position[car] = newPosition;
+            }
+
+            if (lap == totalLaps) {
+                finishTime[car] = event.time();
+            } else if (pitStops[car] < plannedStops[car]
+                    && lap == nextPitLap(pitStops[car], plannedStops[car], totalLaps)) {
+                pitStops[car]++;
+                events.add(new RaceEvent(event.time() + PIT_LOSS, car, lap, EventType.PIT_EXIT));
+            } else {
+                events.add(new RaceEvent(event.time() + lapTime(baseLapTime[car], random[car]),
+                        car, lap + 1, EventType.LAP_COMPLETE));
+            }
+        }
+
+        List<Finisher> classification = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            classification.add(new Finisher(i, grid.get(i), i + 1, position[i], finishTime[i], pitStops[i]));
+        }
+        classification.sort(Comparator.comparingInt(Finisher::finishPosition));
+        return new GridRaceResult(classification, positionChanges, processed);
+    }
+
+    // Stops are spread evenly so every stint has roughly the same length
+    static int nextPitLap(int stopsTaken, int plannedStops, int totalLaps) {
+        return (stopsTaken + 1) * totalLaps / (plannedStops + 1);
+    }
+
+    private static double lapTime(double base, SplittableRandom random) {
+        // Box-Muller; clamped so a lap can never be negative
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        return base * Math.max(0.5, 1 + LAP_TIME_SPREAD * gaussian);
+    }
+}
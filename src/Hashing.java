@@ -0,0 +1,14 @@
+// Bit mixing shared by the seeded random streams and the primitive hash maps
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    // Stafford variant 13 finaliser: neighbouring inputs give unrelated outputs, so it works both as a
+    // per-index seed and as a hash for keys that differ only in their low bits
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
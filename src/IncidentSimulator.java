@@ -0,0 +1,123 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+
+// Safety cars, virtual safety cars and red flags as a discrete-event layer on top of a race.
+// Incidents arrive as Poisson processes in race laps, so the next arrival of each type is one exponential
+// draw and a race costs O(incidents) rather than O(laps); nothing new starts while an incident is running.
+// While an incident lasts the field laps slower and a pit stop costs less, so a stop that was due soon is
+// brought forward into it.
+public class IncidentSimulator {
+
+    public enum IncidentType {
+        // per-lap rate on a dry track, min/max laps, lap time factor, share of the pit loss still paid
+        SAFETY_CAR(0.012, 3, 5, 1.40, 0.5),
+        VIRTUAL_SAFETY_CAR(0.015, 1, 3, 1.30, 0.6),
+        RED_FLAG(0.002, 1, 1, 1.00, 0.0);   // the free tyre change under a red flag costs nothing
+
+        final double baseRate;
+        final int minLaps;
+        final int maxLaps;
+        final double lapTimeFactor;
+        final double pitLossFactor;
+
+        IncidentType(double baseRate, int minLaps, int maxLaps, double lapTimeFactor, double pitLossFactor) {
+            this.baseRate = baseRate;
+            this.minLaps = minLaps;
+            this.maxLaps = maxLaps;
+            this.lapTimeFactor = lapTimeFactor;
+            this.pitLossFactor = pitLossFactor;
+        }
+    }
+
+    // Incident covering laps [startLap, startLap + laps), counted from 0
+    public record Incident(IncidentType type, int startLap, int laps) {
+    }
+
+    static final double RED_FLAG_STOPPAGE = 10 / 60.0;   // hours the race is suspended
+    static final int PIT_WINDOW = 5;                     // a stop due within this many laps moves into the incident
+    static final double WET_MULTIPLIER = 2.5;
+    static final double CHICANE_MULTIPLIER = 0.1;        // extra hazard per chicane
+
+    private static final IncidentType[] TYPES = IncidentType.values();
+
+    private final double dryScale;
+    private final int totalLaps;
+
+    // Hazard rates from the track layout; a scale of 0 turns incidents off
+    public IncidentSimulator(RaceTrack track, double rateScale) {
+        this.dryScale = rateScale * (1 + CHICANE_MULTIPLIER * Math.max(0, track.getNumberOfChicanes()));
+        this.totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+    }
+
+    public IncidentSimulator(RaceTrack track) {
+        this(track, 1.0);
+    }
+
+    // Per-lap rate of the given incident type
+    public double hazardRate(IncidentType type, boolean wet) {
+        return type.baseRate * dryScale * (wet ? WET_MULTIPLIER : 1.0);
+    }
+
+    // Timeline for one race; the same random state always gives the same incidents
+    public List<Incident> draw(SplittableRandom random, boolean wet) {
+        return draw(random::nextDouble, wet);
+    }
+
+    // Timeline driven by uniforms in [0, 1] only, so a caller can mirror them (1 - u) for antithetic sampling
+    public List<Incident> draw(DoubleSupplier uniform, boolean wet) {
+        double[] next = new double[TYPES.length];
+        for (int t = 0; t < TYPES.length; t++) {
+            next[t] = exponential(uniform, hazardRate(TYPES[t], wet));
+        }
+
+        List<Incident> incidents = List.of();
+        while (true) {
+            int first = 0;
+            for (int t = 1; t < TYPES.length; t++) {
+                if (next[t] < next[first]) first = t;
+            }
+            if (next[first] >= totalLaps) return incidents;
+
+            IncidentType type = TYPES[first];
+            int start = (int) next[first];
+            int spread = type.maxLaps - type.minLaps + 1;
+            int laps = Math.min(totalLaps - start, type.minLaps + Math.min(spread - 1, (int) (uniform.getAsDouble() * spread)));
+            if (incidents.isEmpty()) incidents = new ArrayList<>(2);
+            incidents.add(new Incident(type, start, laps));
+
+            // Arrivals are memoryless, so every clock can simply restart when the incident ends
+            for (int t = 0; t < TYPES.length; t++) {
+                next[t] = start + laps + exponential(uniform, hazardRate(TYPES[t], wet));
+            }
+        }
+    }
+
+    // Hours an incident timeline adds to a race with evenly spread stops (negative when cheap stops win out)
+    public static double timeLost(double lapTime, int totalLaps, int stops, List<Incident> incidents) {
+        if (incidents.isEmpty()) return 0;
+
+        double lost = 0;
+        int nextStop = 0;
+        for (Incident incident : incidents) {
+            lost += incident.laps() * lapTime * (incident.type().lapTimeFactor - 1);
+            if (incident.type() == IncidentType.RED_FLAG) lost += RED_FLAG_STOPPAGE;
+
+            // Stops already due before the incident have been made at full cost
+            while (nextStop < stops && GridRaceSimulator.nextPitLap(nextStop, stops, totalLaps) < incident.startLap()) {
+                nextStop++;
+            }
+            if (nextStop < stops
+                    && GridRaceSimulator.nextPitLap(nextStop, stops, totalLaps) <= incident.startLap() + PIT_WINDOW) {
+                lost -= GridRaceSimulator.PIT_LOSS * (1 - incident.type().pitLossFactor);
+                nextStop++;
+            }
+        }
+        return lost;
+    }
+
+    private static double exponential(DoubleSupplier uniform, double rate) {
+        return rate <= 0 ? Double.POSITIVE_INFINITY : -Math.log(Math.max(1e-12, 1 - uniform.getAsDouble())) / rate;
+    }
+}
@@ -0,0 +1,143 @@
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import aerodynamic.AerodynamicKit;
+import engine.ElectricEngine;
+import engine.Engine;
+import tyre.Tyre;
+
+// What-if evaluation for one car on one track. Every output records which inputs it reads; swapping a
+// component only marks the outputs that depend on it, and those are recomputed the next time they are read.
+// A tyre swap, for example, leaves fuel, energy and charging untouched. Not thread-safe: one evaluator per
+// session or tuning loop.
+public class IncrementalRaceEvaluator {
+
+    // Input bits
+    static final int ENGINE = 1;
+    static final int TYRE = 1 << 1;
+    static final int AERO = 1 << 2;
+    static final int TANK = 1 << 3;
+    static final int TRACK = 1 << 4;
+
+    public enum Output {
+        LAP_TIME(ENGINE | TYRE | AERO | TRACK),
+        EFFICIENCY(ENGINE | AERO),
+        FUEL_NEEDED(ENGINE | AERO | TRACK),
+        FUEL_STOPS(ENGINE | AERO | TANK | TRACK),
+        TYRE_CHANGES(TYRE | TRACK),
+        // Only the stops and charge targets are cached: every plan races the same laps, so which plan wins
+        // does not depend on lap time. The plan's total race time is rebuilt from LAP_TIME on every read.
+        CHARGING_PLAN(ENGINE | TANK | TRACK),
+        WARNINGS(ENGINE | TYRE | AERO | TRACK);
+
+        final int dependsOn;
+
+        Output(int dependsOn) {
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    private RaceCar car;
+    private RaceTrack track;
+    private final Map<Output, Object> values = new EnumMap<>(Output.class);
+    private final Map<Output, Integer> computations = new EnumMap<>(Output.class);
+
+    public IncrementalRaceEvaluator(RaceCar car, RaceTrack track) {
+        this.car = Objects.requireNonNull(car, "car");
+        this.track = Objects.requireNonNull(track, "track");
+    }
+
+    public RaceCar getCar() {
+        return car;
+    }
+
+    public RaceTrack getTrack() {
+        return track;
+    }
+
+    public void setEngine(Engine engine) {
+        update(car.withEngine(engine), track, ENGINE);
+    }
+
+    public void setTyre(Tyre tyre) {
+        update(car.withTyre(tyre), track, TYRE);
+    }
+
+    public void setAeroKit(AerodynamicKit aeroKit) {
+        update(car.withAeroKit(aeroKit), track, AERO);
+    }
+
+    public void setFuelTankCapacity(double capacity) {
+        update(car.withFuelTankCapacity(capacity), track, TANK);
+    }
+
+    public void setTrack(RaceTrack track) {
+        update(car, Objects.requireNonNull(track, "track"), TRACK);
+    }
+
+    // Swapping in an equal component keeps every cached value
+    private void update(RaceCar newCar, RaceTrack newTrack, int changed) {
+        if (newCar.equals(car) && newTrack.equals(track)) return;
+        car = newCar;
+        track = newTrack;
+        values.keySet().removeIf(output -> (output.dependsOn & changed) != 0);
+    }
+
+    public int totalLaps() {
+        return (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+    }
+
+    public double lapTime() {
+        return get(Output.LAP_TIME, () -> car.calculateLapTime(track.getTrackLengthKm(), track.getTemperatureC()));
+    }
+
+    public double efficiency() {
+        return get(Output.EFFICIENCY, car::calculateEfficiency);
+    }
+
+    // Litres, or kWh for electric cars
+    public double fuelNeeded() {
+        return get(Output.FUEL_NEEDED, () -> track.getTotalDistanceKm() / efficiency());
+    }
+
+    public int fuelStops() {
+        return get(Output.FUEL_STOPS, () -> (int) Math.ceil(fuelNeeded() / car.getFuelTankCapacity()));
+    }
+
+    public int tyreChanges() {
+        return get(Output.TYRE_CHANGES, () -> (int) (totalLaps() * car.getTyre().getWearRate()));
+    }
+
+    // Null for cars that do not charge
+    public ChargingStopPlanner.ChargingPlan chargingPlan() {
+        ChargingStopPlanner.ChargingPlan stops = get(Output.CHARGING_PLAN,
+                () -> car.getEngine() instanceof ElectricEngine ? new ChargingStopPlanner(car, track).plan() : null);
+        return stops == null ? null : stops.withLapTime(totalLaps(), lapTime());
+    }
+
+    public List<String> warnings() {
+        return get(Output.WARNINGS, () -> List.copyOf(ConfigurationValidator.getWarnings(car, track)));
+    }
+
+    // Same figures as RaceStrategySimulator.calculateRaceResult
+    public RaceResult result() {
+        return new RaceResult(lapTime(), totalLaps(), lapTime() * totalLaps(), fuelNeeded(), fuelStops(), tyreChanges());
+    }
+
+    // How many times an output has been computed, for checking what a change invalidated
+    public int computationCount(Output output) {
+        return computations.getOrDefault(output, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Output output, Supplier<T> compute) {
+        if (!values.containsKey(output)) {
+            values.put(output, compute.get());
+            computations.merge(output, 1, Integer::sum);
+        }
+        return (T) values.get(output);
+    }
+}
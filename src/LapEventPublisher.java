@@ -0,0 +1,140 @@
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tyre.TyreModel;
+
+// Lap-by-lap race output as a Flow.Publisher. Laps are simulated only when the subscriber asks for them,
+// so a slow consumer simply pauses the race instead of letting events pile up in a buffer.
+// Every subscriber gets its own race from lap 1.
+public class LapEventPublisher implements Flow.Publisher<LapEventPublisher.LapEvent> {
+
+    // Times in hours; tyreWear is the worn fraction of the current set (0 = new, 1 = change due)
+    public record LapEvent(int lap, double lapTime, double elapsedTime, double tyreWear, double fuelLeft,
+                           boolean pitStop) {
+    }
+
+    private final RaceCar car;
+    private final RaceTrack track;
+    private final Executor executor;
+
+    public LapEventPublisher(RaceCar car, RaceTrack track) {
+        this(car, track, ForkJoinPool.commonPool());
+    }
+
+    public LapEventPublisher(RaceCar car, RaceTrack track, Executor executor) {
+        this.car = Objects.requireNonNull(car, "car");
+        this.track = Objects.requireNonNull(track, "track");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super LapEvent> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        RaceSubscription subscription = new RaceSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class RaceSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super LapEvent> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private volatile Throwable invalidRequest;
+
+        // Race state, only touched inside drain() (which never runs on two threads at once)
+        private final RaceResult plan = RaceStrategySimulator.calculateRaceResult(car, track);
+        private final TyreModel tyreModel = TyreModel.of(car.getTyre());
+        private final double fuelPerLap = plan.totalLaps() > 0 ? plan.fuelNeeded() / plan.totalLaps() : 0;
+        private int lap;
+        private double elapsed;
+        private double tyreWear;
+        private int lapsSinceStop;
+        private double fuel = Math.min(car.getFuelTankCapacity(), plan.fuelNeeded());
+
+        RaceSubscription(Flow.Subscriber<? super LapEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Demand must be positive, got " + n);
+            } else {
+                // Saturating add: Long.MAX_VALUE means unbounded
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+
+        // Only the caller that moves pending from 0 starts a drain; later calls are picked up by its loop
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (invalidRequest != null && cancelled.compareAndSet(false, true)) {
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                while (!cancelled.get() && demand.get() > 0 && lap < plan.totalLaps()) {
+                    try {
+                        subscriber.onNext(nextLap());
+                    } catch (Throwable t) {
+                        // A failing subscriber ends the subscription; the pending count no longer matters then
+                        cancelled.set(true);
+                        subscriber.onError(t);
+                        return;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+                }
+                if (lap >= plan.totalLaps() && cancelled.compareAndSet(false, true)) {
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        // Refuel when the next lap would not fit in the tank; fit new tyres once the set is worn out.
+        // Both happen in the same stop.
+        private LapEvent nextLap() {
+            lap++;
+            double lapTime = car.calculateLapTime(track.getTrackLengthKm(), track.getTemperatureC(), tyreWear, lapsSinceStop);
+            tyreWear += tyreModel.wearPerLap(track.getTemperatureC());
+            lapsSinceStop++;
+            fuel -= fuelPerLap;
+
+            boolean pitStop = false;
+            if (lap < plan.totalLaps()) {
+                double remaining = fuelPerLap * (plan.totalLaps() - lap);
+                boolean needsFuel = fuel + 1e-9 < Math.min(fuelPerLap, remaining);
+                boolean needsTyres = tyreWear >= 1;
+                if (needsFuel || needsTyres) {
+                    pitStop = true;
+                    lapTime += GridRaceSimulator.PIT_LOSS;
+                    if (needsFuel) fuel = Math.min(car.getFuelTankCapacity(), remaining);
+                    if (needsTyres) {
+                        tyreWear = 0;
+                        lapsSinceStop = 0;
+                    }
+                }
+            }
+            elapsed += lapTime;
+            return new LapEvent(lap, lapTime, elapsed, tyreWear, Math.max(0, fuel), pitStop);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import tyre.Tyre;
+import tyre.TyreModel;
+
+// Mid-race strategy updates from live telemetry. Each observed lap recalibrates the race model (pace against
+// the RaceCar estimate, fuel used per lap, current tyre age), then the remaining pit stops and compounds are
+// re-planned under a time budget. The search is anytime: it starts from the plan the simple stop rules give
+// and only ever replaces it with a faster one, so whatever it holds when the budget runs out is usable.
+public class LiveStrategyOptimiser {
+
+    static final int MAX_STOPS = 3;
+    static final double SMOOTHING = 0.3;        // weight of the newest lap in the running estimates
+    static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000;   // tail() gives up when the file stops growing
+    private static final int READ_BUFFER_BYTES = 8192;
+
+    // One lap as reported by the car; lap time in seconds, fuel in litres (kWh for electric cars)
+    public record TelemetrySample(int lap, double lapTimeSeconds, int tyreAgeLaps, double fuelLeft) {
+
+        // "lap,lapTimeSeconds,tyreAgeLaps,fuelLeft"
+        public static TelemetrySample parse(String line) {
+            String[] fields = line.trim().split(",");
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Expected lap,lapTime,tyreAge,fuel but got: " + line);
+            }
+            return new TelemetrySample(Integer.parseInt(fields[0].trim()), Double.parseDouble(fields[1].trim()),
+                    Integer.parseInt(fields[2].trim()), Double.parseDouble(fields[3].trim()));
+        }
+    }
+
+    // Stop at the end of the given lap
+    public record PlannedStop(int lap, Tyre compound, double fuelAdded) {
+    }
+
+    // predictedRemainingTime is in hours; complete is false when the budget ran out before the search finished.
+    // feasible is false when no plan reaches the flag (e.g. the tank cannot cover the laps between stops).
+    public record StrategyPlan(List<PlannedStop> stops, double predictedRemainingTime, long plansEvaluated,
+                               boolean complete, boolean feasible) {
+
+        public void printPlan() {
+            if (!feasible) {
+                System.out.printf("\n📡 Live Strategy: no plan reaches the flag within %d stop(s) (%d plans)\n",
+                        MAX_STOPS, plansEvaluated);
+                return;
+            }
+            System.out.printf("\n📡 Live Strategy: %d stop(s), %.2f minutes to go (%d plans%s)\n", stops.size(),
+                    predictedRemainingTime * 60, plansEvaluated, complete ? "" : ", budget reached");
+            for (PlannedStop stop : stops) {
+                System.out.printf("- Lap %d: %s tyres, +%.1f fuel\n", stop.lap(), stop.compound().getType(), stop.fuelAdded());
+            }
+        }
+    }
+
+    private final RaceCar car;
+    private final int totalLaps;
+    private final double[] compoundLapTime = new double[SetupKey.tyreCount()];
+    private final double[] compoundWear = new double[SetupKey.tyreCount()];
+    private final double temperature;
+
+    // Race state, updated from telemetry
+    private int lapsCompleted;
+    private int currentCompound;
+    private int tyreAge;
+    private double fuel;
+    private double fuelPerLap;
+    private double paceFactor = 1.0;
+    private long skippedLines;
+
+    public LiveStrategyOptimiser(RaceCar car, RaceTrack track) {
+        this.car = Objects.requireNonNull(car, "car");
+        this.totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+        this.temperature = track.getTemperatureC();
+        for (int i = 0; i < SetupKey.tyreCount(); i++) {
+            Tyre compound = SetupKey.tyre(i);
+            compoundLapTime[i] = car.withTyre(compound).calculateBaseLapTime(track.getTrackLengthKm());
+            compoundWear[i] = TyreModel.of(compound).wearPerLap(temperature);
+        }
+        this.currentCompound = SetupKey.tyreOrdinal(car.getTyre());
+
+        RaceResult plan = RaceStrategySimulator.calculateRaceResult(car, track);
+        this.fuelPerLap = totalLaps > 0 ? plan.fuelNeeded() / totalLaps : 0;
+        this.fuel = Math.min(car.getFuelTankCapacity(), plan.fuelNeeded());
+    }
+
+    public void observe(TelemetrySample sample) {
+        if (sample.lap() <= lapsCompleted) return;  // stale or repeated line
+
+        // Pace relative to the model for the tyres as they were during the lap
+        double expected = lapTime(currentCompound, Math.max(0, sample.tyreAgeLaps() - 1));
+        double observedRatio = sample.lapTimeSeconds() / 3600.0 / expected;
+        paceFactor += SMOOTHING * (observedRatio - paceFactor);
+
+        // Fuel drop per lap, ignoring laps where the car was refuelled
+        int laps = sample.lap() - lapsCompleted;
+        double used = (fuel - sample.fuelLeft()) / laps;
+        if (used > 0) {
+            fuelPerLap += SMOOTHING * (used - fuelPerLap);
+        }
+
+        lapsCompleted = sample.lap();
+        tyreAge = sample.tyreAgeLaps();
+        fuel = sample.fuelLeft();
+    }
+
+    // Tyres fitted at a stop the team actually made
+    public void fittedTyres(Tyre compound) {
+        currentCompound = SetupKey.tyreOrdinal(compound);
+        tyreAge = 0;
+    }
+
+    public int getLapsCompleted() {
+        return lapsCompleted;
+    }
+
+    public double getPaceFactor() {
+        return paceFactor;
+    }
+
+    public double getFuelPerLap() {
+        return fuelPerLap;
+    }
+
+    // Telemetry lines follow() and tail() could not parse and left out
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    // Best plan for the remaining laps found within budgetNanos
+    public StrategyPlan reoptimise(long budgetNanos) {
+        Search search = new Search(System.nanoTime() + budgetNanos);
+        search.consider(ruleBasedPlan());
+        search.complete = true;
+        for (int stops = 0; stops <= MAX_STOPS && search.complete; stops++) {
+            search.enumerate(new int[stops], new int[stops], 0, lapsCompleted + 1);
+        }
+        return search.result();
+    }
+
+    // Stop when the next lap would not fit in the tank or the tyres are worn out, keeping the same compound
+    private int[][] ruleBasedPlan() {
+        List<Integer> laps = new ArrayList<>();
+        double tank = fuel;
+        int age = tyreAge;
+        for (int lap = lapsCompleted + 1; lap < totalLaps; lap++) {
+            tank -= fuelPerLap;
+            age++;
+            if (tank < fuelPerLap || (age + 1) * compoundWear[currentCompound] > 1) {
+                laps.add(lap);
+                tank = Math.min(car.getFuelTankCapacity(), fuelPerLap * (totalLaps - lap));
+                age = 0;
+            }
+        }
+        int[] stopLaps = laps.stream().mapToInt(Integer::intValue).toArray();
+        int[] compounds = new int[stopLaps.length];
+        Arrays.fill(compounds, currentCompound);
+        return new int[][]{stopLaps, compounds};
+    }
+
+    // Lap time on the given compound at the given age (0 = out-lap), from the compound's TyreModel
+    private double lapTime(int compound, int age) {
+        double factor = TyreModel.of(SetupKey.tyre(compound)).lapTimeFactor(temperature, age * compoundWear[compound], age);
+        return compoundLapTime[compound] * factor;
+    }
+
+    private final class Search {
+        private final long deadline;
+        private int[] bestLaps = new int[0];
+        private int[] bestCompounds = new int[0];
+        private double bestTime = Double.POSITIVE_INFINITY;
+        private long evaluated;
+        private boolean complete;
+
+        Search(long deadline) {
+            this.deadline = deadline;
+        }
+
+        void consider(int[][] plan) {
+            evaluate(plan[0], plan[1]);
+        }
+
+        // Stop laps in increasing order, every compound at every stop; false once the budget is gone
+        boolean enumerate(int[] laps, int[] compounds, int depth, int firstLap) {
+            if (depth == laps.length) {
+                evaluate(laps, compounds);
+                if ((evaluated & 63) == 0 && System.nanoTime() > deadline) {
+                    complete = false;
+                }
+                return complete;
+            }
+            for (int lap = firstLap; lap < totalLaps; lap++) {
+                laps[depth] = lap;
+                for (int c = 0; c < SetupKey.tyreCount(); c++) {
+                    compounds[depth] = c;
+                    if (!enumerate(laps, compounds, depth + 1, lap + 1)) return false;
+                }
+            }
+            return true;
+        }
+
+        private void evaluate(int[] laps, int[] compounds) {
+            evaluated++;
+            double time = 0;
+            double tank = fuel;
+            int compound = currentCompound;
+            int age = tyreAge;
+            int next = 0;
+            for (int lap = lapsCompleted + 1; lap <= totalLaps; lap++) {
+                if (tank + 1e-9 < fuelPerLap) return;  // runs dry
+                time += lapTime(compound, age) * paceFactor;
+                tank -= fuelPerLap;
+                age++;
+                if (next < laps.length && laps[next] == lap) {
+                    time += GridRaceSimulator.PIT_LOSS;
+                    tank = Math.max(tank, Math.min(car.getFuelTankCapacity(), fuelPerLap * (totalLaps - lap)));
+                    compound = compounds[next++];
+                    age = 0;
+                }
+                if (time >= bestTime) return;  // already slower than the incumbent
+            }
+            bestTime = time;
+            bestLaps = laps.clone();
+            bestCompounds = compounds.clone();
+        }
+
+        StrategyPlan result() {
+            List<PlannedStop> stops = new ArrayList<>();
+            double tank = fuel;
+            int next = 0;
+            for (int lap = lapsCompleted + 1; lap <= totalLaps && next < bestLaps.length; lap++) {
+                tank -= fuelPerLap;
+                if (bestLaps[next] == lap) {
+                    double refuelled = Math.max(tank, Math.min(car.getFuelTankCapacity(), fuelPerLap * (totalLaps - lap)));
+                    stops.add(new PlannedStop(lap, SetupKey.tyre(bestCompounds[next++]), refuelled - tank));
+                    tank = refuelled;
+                }
+            }
+            boolean feasible = bestTime != Double.POSITIVE_INFINITY;
+            return new StrategyPlan(List.copyOf(stops), bestTime, evaluated, complete, feasible);
+        }
+    }
+
+    // Feeds every telemetry line from a reader (e.g. a socket's input stream) and publishes a plan per lap.
+    // A malformed line is skipped and counted rather than ending the feed.
+    public void follow(BufferedReader source, long budgetNanos, Consumer<StrategyPlan> onPlan) throws IOException {
+        String line;
+        while ((line = source.readLine()) != null) {
+            accept(line, budgetNanos, onPlan);
+            if (lapsCompleted >= totalLaps) return;
+        }
+    }
+
+    public void tail(Path file, long budgetNanos, long pollMillis, Consumer<StrategyPlan> onPlan)
+            throws IOException, InterruptedException, TimeoutException {
+        tail(file, budgetNanos, pollMillis, DEFAULT_IDLE_TIMEOUT_MILLIS, onPlan);
+    }
+
+    // Follows a file that is still being written, polling for new lines until the last lap is in. Reads in
+    // blocks and decodes whole lines as UTF-8, skipping malformed ones; fails if the file stops growing for
+    // idleTimeoutMillis.
+    public void tail(Path file, long budgetNanos, long pollMillis, long idleTimeoutMillis, Consumer<StrategyPlan> onPlan)
+            throws IOException, InterruptedException, TimeoutException {
+        try (FileChannel input = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+            ByteArrayOutputStream partial = new ByteArrayOutputStream();
+            long lastData = System.nanoTime();
+            while (lapsCompleted < totalLaps) {
+                buffer.clear();
+                int read = input.read(buffer);
+                if (read <= 0) {
+                    if (System.nanoTime() - lastData > TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis)) {
+                        throw new TimeoutException("No telemetry for " + idleTimeoutMillis + " ms after lap " + lapsCompleted);
+                    }
+                    Thread.sleep(pollMillis);
+                    continue;
+                }
+                lastData = System.nanoTime();
+
+                byte[] bytes = buffer.array();
+                int lineStart = 0;
+                for (int i = 0; i < read && lapsCompleted < totalLaps; i++) {
+                    if (bytes[i] != '\n') continue;
+                    partial.write(bytes, lineStart, i - lineStart);
+                    accept(partial.toString(StandardCharsets.UTF_8), budgetNanos, onPlan);
+                    partial.reset();
+                    lineStart = i + 1;
+                }
+                partial.write(bytes, lineStart, read - lineStart);
+            }
+        }
+    }
+
+    private void accept(String line, long budgetNanos, Consumer<StrategyPlan> onPlan) {
+        if (line.isBlank()) return;
+        TelemetrySample sample;
+        try {
+            sample = TelemetrySample.parse(line);
+        } catch (IllegalArgumentException e) {
+            // A garbled or half-written line must not end a live feed
+            skippedLines++;
+            return;
+        }
+        observe(sample);
+        onPlan.accept(reoptimise(budgetNanos));
+    }
+}
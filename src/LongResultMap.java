@@ -0,0 +1,139 @@
+import java.util.Arrays;
+
+// Open-addressing hash map from long keys to a fixed number of doubles per key. Keys live in one long[] and
+// values in one flat double[], so there is no boxing and no entry object per mapping. Linear probing over a
+// power-of-two table, resized at LOAD_FACTOR. With zero values per key it works as a set.
+// Long.MIN_VALUE marks an empty slot and cannot be used as a key. Not thread-safe.
+public class LongResultMap {
+
+    static final double LOAD_FACTOR = 0.6;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final int width;
+    private long[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongResultMap(int valuesPerKey) {
+        this(valuesPerKey, 16);
+    }
+
+    public LongResultMap(int valuesPerKey, int expectedSize) {
+        if (valuesPerKey < 0) {
+            throw new IllegalArgumentException("Values per key cannot be negative: " + valuesPerKey);
+        }
+        this.width = valuesPerKey;
+        allocate(Math.max(16, Integer.highestOneBit((int) Math.ceil(Math.max(1, expectedSize) / LOAD_FACTOR)) << 1));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int valuesPerKey() {
+        return width;
+    }
+
+    // Slot holding the key, or -1; slots stay valid until the next insert
+    public int find(long key) {
+        if (key == EMPTY) return -1;
+        int slot = (int) Hashing.mix64(key) & mask;
+        while (true) {
+            long k = keys[slot];
+            if (k == key) return slot;
+            if (k == EMPTY) return -1;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    public double value(int slot, int field) {
+        return values[slot * width + field];
+    }
+
+    public void setValue(int slot, int field, double value) {
+        values[slot * width + field] = value;
+    }
+
+    // Slot for the key, inserting it with zeroed values if absent
+    public int slotFor(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is reserved and cannot be used as a key");
+        }
+        int slot = (int) Hashing.mix64(key) & mask;
+        while (true) {
+            long k = keys[slot];
+            if (k == key) return slot;
+            if (k == EMPTY) break;
+            slot = (slot + 1) & mask;
+        }
+        if (size + 1 > resizeAt) {
+            grow();
+            return slotFor(key);
+        }
+        keys[slot] = key;
+        size++;
+        return slot;
+    }
+
+    public void put(long key, double... row) {
+        if (row.length != width) {
+            throw new IllegalArgumentException("Expected " + width + " values but got " + row.length);
+        }
+        int slot = slotFor(key);   // may grow the table, so before reading values
+        System.arraycopy(row, 0, values, slot * width, width);
+    }
+
+    // Copies the key's values into row; false (and row untouched) when the key is absent
+    public boolean get(long key, double[] row) {
+        int slot = find(key);
+        if (slot < 0) return false;
+        System.arraycopy(values, slot * width, row, 0, width);
+        return true;
+    }
+
+    // Set use: true when the key was not there before
+    public boolean add(long key) {
+        int before = size;
+        slotFor(key);
+        return size > before;
+    }
+
+    // Empties the map but keeps its capacity, so a reused map does not allocate again
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    // Bytes held by the key and value arrays
+    public long memoryBytes() {
+        return (long) keys.length * Long.BYTES + (long) values.length * Double.BYTES;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new double[capacity * width];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(keys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = (int) Hashing.mix64(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            System.arraycopy(oldValues, i * width, values, slot * width, width);
+        }
+    }
+}
@@ -63,9 +63,9 @@ public class Main {
         if (modeChoice == 2) {
             RaceCar recommendedCar = RaceStrategySimulator.getRecommendedSetup(selectedTrack); // selectedTrack must be in scope
             System.out.println("\n🏎️ Recommended Setup for " + selectedTrack.getName() + ":");
-            System.out.println("- Engine: " + recommendedCar.engine.getName());
-            System.out.println("- Tyres: " + recommendedCar.tyre.getType());
-            System.out.println("- Aero Kit: " + recommendedCar.aeroKit.getName());
+            System.out.println("- Engine: " + recommendedCar.getEngine().getName());
+            System.out.println("- Tyres: " + recommendedCar.getTyre().getType());
+            System.out.println("- Aero Kit: " + recommendedCar.getAeroKit().getName());
             System.out.println("- Fuel Tank: " + recommendedCar.getFuelTankCapacity() + "L");
 
             System.out.println("💡 Why this setup? " + RaceStrategySimulator.explainSetupChoice(selectedTrack));
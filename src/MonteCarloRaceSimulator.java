@@ -0,0 +1,208 @@
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import tyre.TyreModel;
+
+// Race outcomes under random conditions (temperature, rain, pace noise, slow stops and, optionally, incidents).
+// Draws are a pure function of (seed, sample index), so every setup can be run against exactly the same
+// conditions (common random numbers), and sample pairs can mirror each other's draws (antithetic variates).
+public class MonteCarloRaceSimulator {
+
+    public enum SamplingMode { INDEPENDENT, COMMON, ANTITHETIC }
+
+    static final double TEMPERATURE_SPREAD = 4.0;   // °C, standard deviation around the track temperature
+    static final double LAP_TIME_SPREAD = 0.01;     // relative standard deviation of race pace
+    static final double MEAN_PIT_DELAY = 3.0 / 3600.0;  // extra time of a slow stop, exponential (hours)
+
+    // One draw of everything random about a race
+    public record RaceConditions(double temperatureC, boolean wet, double paceFactor, double pitDelay,
+                                 List<IncidentSimulator.Incident> incidents) {
+
+        public RaceConditions(double temperatureC, boolean wet, double paceFactor, double pitDelay) {
+            this(temperatureC, wet, paceFactor, pitDelay, List.of());
+        }
+    }
+
+    // Paired difference a - b in race time (minutes); negative means setup a is faster
+    public record SetupComparison(double meanDifference, double standardError, int observations) {
+
+        public double lower() {
+            return meanDifference - 1.96 * standardError;
+        }
+
+        public double upper() {
+            return meanDifference + 1.96 * standardError;
+        }
+
+        // True when the 95% interval excludes zero
+        public boolean isSignificant() {
+            return lower() > 0 || upper() < 0;
+        }
+
+        public void printComparison() {
+            System.out.printf("Race time difference: %+.3f minutes (95%% CI %+.3f to %+.3f, %d observations)%s\n",
+                    meanDifference, lower(), upper(), observations,
+                    isSignificant() ? "" : " - not distinguishable");
+        }
+    }
+
+    private final RaceTrack track;
+    private final long seed;
+    private final IncidentSimulator incidents;
+
+    public MonteCarloRaceSimulator(RaceTrack track, long seed) {
+        this(track, seed, null);
+    }
+
+    // incidents may be null for races without safety cars or red flags
+    public MonteCarloRaceSimulator(RaceTrack track, long seed, IncidentSimulator incidents) {
+        this.track = track;
+        this.seed = seed;
+        this.incidents = incidents;
+    }
+
+    public RaceTrack getTrack() {
+        return track;
+    }
+
+    // Conditions for one sample; the antithetic twin uses 1 - u for every uniform draw
+    public RaceConditions drawConditions(long sample, boolean antithetic) {
+        return drawConditions(seed, sample, antithetic);
+    }
+
+    private RaceConditions drawConditions(long streamSeed, long sample, boolean antithetic) {
+        long mixed = Hashing.mix64(streamSeed ^ Hashing.mix64(sample));
+        SplittableRandom random = new SplittableRandom(mixed);
+        double u0 = random.nextDouble();
+        double u1 = random.nextDouble();
+        double u2 = random.nextDouble();
+        double u3 = random.nextDouble();
+        if (antithetic) {
+            u0 = 1 - u0;
+            u1 = 1 - u1;
+            u2 = 1 - u2;
+            u3 = 1 - u3;
+        }
+
+        double temperature = track.getTemperatureC() + TEMPERATURE_SPREAD * inverseNormal(u0);
+        boolean wet = u1 < (track.isWet() ? 0.8 : 0.15);
+        double pace = Math.max(0.5, 1 + LAP_TIME_SPREAD * inverseNormal(u2));
+        double pitDelay = -MEAN_PIT_DELAY * Math.log(Math.max(1e-12, 1 - u3));
+
+        // Drawn after the uniforms above, so adding incidents leaves the other draws unchanged; mirrored as well
+        DoubleSupplier uniform = antithetic ? () -> 1 - random.nextDouble() : random::nextDouble;
+        List<IncidentSimulator.Incident> timeline = incidents == null ? List.of() : incidents.draw(uniform, wet);
+        return new RaceConditions(temperature, wet, pace, pitDelay, timeline);
+    }
+
+    // Race under the given conditions. Rain costs more with weak brakes and low-grip tyres; the temperature
+    // penalty and the faster wear outside the tyre window come from the compound's TyreModel.
+    public RaceResult simulate(RaceCar car, RaceConditions conditions) {
+        RaceTrack raceDay = new RaceTrack(track.getName(), track.getTrackLengthKm(), track.getTotalDistanceKm(),
+                conditions.temperatureC(), conditions.wet(), track.getNumberOfCurves(), track.getNumberOfChicanes(),
+                track.hasLongStraights(), track.getElevationGain(), track.getSectors());
+        TyreModel tyreModel = TyreModel.of(car.getTyre());
+        // Warmed-up pace on a fresh set; wear is paid for through the tyre changes below
+        double thermalLapTime = car.calculateBaseLapTime(track.getTrackLengthKm())
+                * tyreModel.lapTimeFactor(conditions.temperatureC(), 0, Integer.MAX_VALUE);
+        RaceResult base = RaceStrategySimulator.calculateRaceResult(car, raceDay, thermalLapTime);
+
+        double lapTime = base.lapTime() * wetFactor(car, conditions.wet() ? 1 : 0) * conditions.paceFactor();
+
+        double wear = tyreModel.wearPerLap(conditions.temperatureC());
+        int tyreChanges = (int) (base.totalLaps() * wear);
+        double fuel = base.fuelNeeded() * (conditions.wet() ? 0.97 : 1.0);
+        int tanks = (int) Math.ceil(fuel / car.getFuelTankCapacity());
+
+        // Refuels and tyre changes share stops, as in GridRaceSimulator
+        int stops = Math.max(tanks - 1, tyreChanges);
+        double totalTime = lapTime * base.totalLaps() + stops * (GridRaceSimulator.PIT_LOSS + conditions.pitDelay())
+                + IncidentSimulator.timeLost(lapTime, base.totalLaps(), stops, conditions.incidents());
+        return new RaceResult(lapTime, base.totalLaps(), totalTime, fuel, tanks, tyreChanges);
+    }
+
+    // Lap time multiplier on a track with the given wetness (0 = dry, 1 = fully wet)
+    static double wetFactor(RaceCar car, double wetness) {
+        return 1 + wetness * (0.1 * (1 - car.getAeroKit().getBrakeEfficiency()) + 0.05 * (1 - car.getTyre().getGrip()));
+    }
+
+    public RaceResult simulate(RaceCar car, long sample) {
+        return simulate(car, drawConditions(sample, false));
+    }
+
+    // Outcome percentiles over the given number of samples, in constant memory per worker
+    public RaceDistribution distribution(RaceCar car, long samples) {
+        return LongStream.range(0, samples).parallel()
+                .mapToObj(i -> simulate(car, i))
+                .collect(RaceDistribution.collector());
+    }
+
+    // Compares two setups over the given number of observations. COMMON and ANTITHETIC give both setups the
+    // same draws; ANTITHETIC additionally averages each draw with its mirrored twin into one observation.
+    public SetupComparison compare(RaceCar a, RaceCar b, int observations, SamplingMode mode) {
+        if (observations <= 0) {
+            throw new IllegalArgumentException("Observations must be positive, got " + observations);
+        }
+        double[] differences = new double[observations];
+        IntStream.range(0, observations).parallel().forEach(i -> {
+            differences[i] = switch (mode) {
+                case INDEPENDENT -> raceMinutes(a, drawConditions(seed, i, false))
+                        - raceMinutes(b, drawConditions(~seed, i, false));
+                case COMMON -> pairedDifference(a, b, drawConditions(i, false));
+                case ANTITHETIC -> 0.5 * (pairedDifference(a, b, drawConditions(i, false))
+                        + pairedDifference(a, b, drawConditions(i, true)));
+            };
+        });
+
+        double mean = 0;
+        for (double d : differences) mean += d;
+        mean /= observations;
+
+        double variance = 0;
+        for (double d : differences) variance += (d - mean) * (d - mean);
+        variance = observations > 1 ? variance / (observations - 1) : 0;
+
+        return new SetupComparison(mean, Math.sqrt(variance / observations), observations);
+    }
+
+    private double pairedDifference(RaceCar a, RaceCar b, RaceConditions conditions) {
+        return raceMinutes(a, conditions) - raceMinutes(b, conditions);
+    }
+
+    private double raceMinutes(RaceCar car, RaceConditions conditions) {
+        return simulate(car, conditions).totalRaceTime() * 60;
+    }
+
+    // Coefficients of Acklam's inverse normal approximation
+    private static final double[] ICDF_A = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+            1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+    private static final double[] ICDF_B = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+            6.680131188771972e+01, -1.328068155288572e+01};
+    private static final double[] ICDF_C = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+            -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+    private static final double[] ICDF_D = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+            3.754408661907416e+00};
+    private static final double ICDF_LOW = 0.02425;
+
+    // Acklam's rational approximation of the standard normal quantile (relative error below 1.2e-9)
+    static double inverseNormal(double p) {
+        if (p <= 0) return -8.0;
+        if (p >= 1) return 8.0;
+
+        if (p < ICDF_LOW) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((ICDF_C[0] * q + ICDF_C[1]) * q + ICDF_C[2]) * q + ICDF_C[3]) * q + ICDF_C[4]) * q + ICDF_C[5])
+                    / ((((ICDF_D[0] * q + ICDF_D[1]) * q + ICDF_D[2]) * q + ICDF_D[3]) * q + 1);
+        }
+        if (p > 1 - ICDF_LOW) {
+            return -inverseNormal(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((ICDF_A[0] * r + ICDF_A[1]) * r + ICDF_A[2]) * r + ICDF_A[3]) * r + ICDF_A[4]) * r + ICDF_A[5]) * q
+                / (((((ICDF_B[0] * r + ICDF_B[1]) * r + ICDF_B[2]) * r + ICDF_B[3]) * r + ICDF_B[4]) * r + 1);
+    }
+}
@@ -0,0 +1,424 @@
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+// Race results for large sweeps (every setup against very many tracks), stored outside the Java heap as
+// fixed-width records so millions of them add no GC pressure. Records live in chunks of direct buffers, or of
+// a memory-mapped file when the sweep is bigger than RAM; the OS then pages chunks in and out as needed.
+// Offers bulk append, random access by index, a chunked merge sort by race time and range scans over the sorted
+// order. Not thread-safe: one writer, and no reads while it appends.
+// Plain buffers rather than MemorySegment: the Foreign Function & Memory API is only the jdk.incubator.foreign
+// incubator module in 17 and a preview in 21, so it would need --add-modules or --enable-preview. close() frees
+// the chunks at once instead of waiting for the GC.
+// The header (record count, sort flag) is brought up to date by appendAll, sortByRaceTime, flush and close,
+// not by every single append.
+public class OffHeapResultStore implements AutoCloseable {
+
+    static final int RECORD_BYTES = 48;
+    static final int CHUNK_RECORDS = 1 << 16;
+    static final int HEADER_BYTES = 64;
+    private static final long CHUNK_BYTES = (long) CHUNK_RECORDS * RECORD_BYTES;
+    private static final int STORE_MAGIC = 0x5253524F;
+    private static final int STORE_VERSION = 1;
+
+    // Record layout
+    private static final int TRACK = 0;          // long
+    private static final int SETUP = 8;          // int, a SetupKey
+    private static final int PIT_STOPS = 12;     // int
+    private static final int TYRE_CHANGES = 16;  // int
+    private static final int TOTAL_LAPS = 20;    // int
+    private static final int LAP_TIME = 24;      // double
+    private static final int RACE_TIME = 32;     // double
+    private static final int FUEL = 40;          // double
+
+    // Header layout
+    private static final int COUNT = 8;          // long
+    private static final int SORTED = 16;        // int
+
+    // Unsafe.invokeCleaner(ByteBuffer) from jdk.unsupported, or null when the runtime does not offer it
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private final FileChannel channel;           // null for a store in direct memory
+    private final Path file;                     // backing file of a mapped store, where sort scratch goes
+    private final ByteBuffer header;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long size;
+    private boolean sorted;
+    private boolean closed;
+
+    private OffHeapResultStore(FileChannel channel, Path file) throws IOException {
+        this.channel = channel;
+        this.file = file;
+        if (channel == null) {
+            header = ByteBuffer.allocateDirect(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            writeHeader();
+            return;
+        }
+
+        boolean existing = channel.size() >= HEADER_BYTES;
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (!existing) {
+            writeHeader();
+            return;
+        }
+        if (header.getInt(0) != STORE_MAGIC || header.getInt(4) != STORE_VERSION) {
+            throw new IOException("Not a result store, or from another format version");
+        }
+        size = header.getLong(COUNT);
+        sorted = header.getInt(SORTED) != 0;
+        long neededChunks = (size + CHUNK_RECORDS - 1) / CHUNK_RECORDS;
+        for (long c = 0; c < neededChunks; c++) {
+            addChunk();
+        }
+    }
+
+    // Store in direct (off-heap) memory, released by close()
+    public static OffHeapResultStore inMemory() {
+        try {
+            return new OffHeapResultStore(null, null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);   // no file involved
+        }
+    }
+
+    // Store backed by a memory-mapped file; an existing store file is reopened with its records
+    public static OffHeapResultStore mapped(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new OffHeapResultStore(channel, file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    // Index of the new record
+    public long append(long trackIndex, int setupKey, RaceResult result) {
+        long index = size;
+        ByteBuffer chunk = index / CHUNK_RECORDS < chunks.size() ? chunk(index) : addChunk();
+        int at = offset(index);
+        chunk.putLong(at + TRACK, trackIndex);
+        chunk.putInt(at + SETUP, setupKey);
+        chunk.putInt(at + PIT_STOPS, result.pitStops());
+        chunk.putInt(at + TYRE_CHANGES, result.tyreChanges());
+        chunk.putInt(at + TOTAL_LAPS, result.totalLaps());
+        chunk.putDouble(at + LAP_TIME, result.lapTime());
+        chunk.putDouble(at + RACE_TIME, result.totalRaceTime());
+        chunk.putDouble(at + FUEL, result.fuelNeeded());
+        size = index + 1;
+        sorted = false;
+        return index;
+    }
+
+    // One track against many setups, as a sweep produces them; returns the index of the first record
+    public long appendAll(long trackIndex, int[] setupKeys, RaceResult[] results) {
+        if (setupKeys.length != results.length) {
+            throw new IllegalArgumentException("Got " + setupKeys.length + " setup keys for " + results.length + " results");
+        }
+        long first = size;
+        for (int i = 0; i < results.length; i++) {
+            append(trackIndex, setupKeys[i], results[i]);
+        }
+        writeHeader();
+        return first;
+    }
+
+    public long trackIndex(long index) {
+        return chunk(checkIndex(index)).getLong(offset(index) + TRACK);
+    }
+
+    public int setupKey(long index) {
+        return chunk(checkIndex(index)).getInt(offset(index) + SETUP);
+    }
+
+    public double totalRaceTime(long index) {
+        return chunk(checkIndex(index)).getDouble(offset(index) + RACE_TIME);
+    }
+
+    public RaceResult result(long index) {
+        ByteBuffer chunk = chunk(checkIndex(index));
+        int at = offset(index);
+        return new RaceResult(chunk.getDouble(at + LAP_TIME), chunk.getInt(at + TOTAL_LAPS),
+                chunk.getDouble(at + RACE_TIME), chunk.getDouble(at + FUEL),
+                chunk.getInt(at + PIT_STOPS), chunk.getInt(at + TYRE_CHANGES));
+    }
+
+    // Sorts the records by race time. Each chunk is heapsorted in place while it is paged in, then the sorted
+    // chunks are merged in one pass that reads every chunk and writes the output front to back, so a mapped store
+    // larger than RAM streams through memory instead of jumping around it as a whole-store heapsort would.
+    // The merge needs scratch space the size of the store: direct buffers that replace the chunks, or a temporary
+    // file beside a mapped store that is copied back over it.
+    // Indices change; record order is part of the store, so a reopened file stays sorted.
+    public void sortByRaceTime() {
+        if (sorted) return;
+        byte[] a = new byte[RECORD_BYTES];
+        byte[] b = new byte[RECORD_BYTES];
+        for (long from = 0; from < size; from += CHUNK_RECORDS) {
+            heapsort(from, Math.min(size, from + CHUNK_RECORDS), a, b);
+        }
+        if (size > CHUNK_RECORDS) merge();
+        sorted = true;
+        writeHeader();
+    }
+
+    // First index whose race time is at least the given time; needs a sorted store
+    public long lowerBound(double totalRaceTime) {
+        requireSorted();
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (totalRaceTime(mid) < totalRaceTime) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // Visits indices [from, to) in order; on a sorted store that is fastest first
+    public void scan(long from, long to, LongConsumer visitor) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Range " + from + "-" + to + " outside 0-" + size);
+        }
+        for (long i = from; i < to; i++) {
+            visitor.accept(i);
+        }
+    }
+
+    // Every result with a race time in [fastest, slowest), fastest first; needs a sorted store
+    public void scanRaceTimes(double fastest, double slowest, LongConsumer visitor) {
+        long from = lowerBound(fastest);
+        scan(from, Math.max(from, lowerBound(slowest)), visitor);
+    }
+
+    // Updates the header and writes mapped records back to the file
+    public void flush() {
+        writeHeader();
+        if (channel == null) return;
+        ((MappedByteBuffer) header).force();
+        for (ByteBuffer chunk : chunks) {
+            ((MappedByteBuffer) chunk).force();
+        }
+    }
+
+    // Flushes, then frees the direct memory or unmaps the file straight away; the store cannot be used afterwards
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        try {
+            flush();
+        } finally {
+            closed = true;
+            for (ByteBuffer chunk : chunks) {
+                release(chunk);
+            }
+            chunks.clear();
+            release(header);
+            if (channel != null) channel.close();
+        }
+    }
+
+    // Heapsort of records [from, to); heap positions are relative to from
+    private void heapsort(long from, long to, byte[] a, byte[] b) {
+        long n = to - from;
+        for (long i = n / 2 - 1; i >= 0; i--) {
+            siftDown(from, i, n, a, b);
+        }
+        for (long end = n - 1; end > 0; end--) {
+            swap(from, from + end, a, b);
+            siftDown(from, 0, end, a, b);
+        }
+    }
+
+    private void siftDown(long base, long root, long end, byte[] a, byte[] b) {
+        while (true) {
+            long child = 2 * root + 1;
+            if (child >= end) return;
+            if (child + 1 < end && totalRaceTime(base + child + 1) > totalRaceTime(base + child)) child++;
+            if (totalRaceTime(base + root) >= totalRaceTime(base + child)) return;
+            swap(base + root, base + child, a, b);
+            root = child;
+        }
+    }
+
+    // k-way merge of the sorted chunks into scratch chunks, which then become the records
+    private void merge() {
+        int runs = (int) ((size + CHUNK_RECORDS - 1) / CHUNK_RECORDS);
+        List<ByteBuffer> merged = new ArrayList<>(runs);
+        Path scratchFile = null;
+        FileChannel scratch = null;
+        try {
+            if (channel != null) {
+                scratchFile = Files.createTempFile(file.toAbsolutePath().getParent(), "sort", ".tmp");
+                scratch = FileChannel.open(scratchFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            }
+            for (int c = 0; c < runs; c++) {
+                merged.add((scratch == null ? ByteBuffer.allocateDirect((int) CHUNK_BYTES)
+                        : scratch.map(FileChannel.MapMode.READ_WRITE, c * CHUNK_BYTES, CHUNK_BYTES)).order(ByteOrder.LITTLE_ENDIAN));
+            }
+
+            // Min-heap of runs by the race time of their next record
+            long[] next = new long[runs];
+            int[] heap = new int[runs];
+            for (int r = 0; r < runs; r++) {
+                next[r] = (long) r * CHUNK_RECORDS;
+                heap[r] = r;
+            }
+            int live = runs;
+            for (int i = live / 2 - 1; i >= 0; i--) {
+                siftDownRuns(heap, i, live, next);
+            }
+            for (long out = 0; out < size; out++) {
+                int run = heap[0];
+                long index = next[run]++;
+                merged.get((int) (out / CHUNK_RECORDS)).put(offset(out), chunk(index), offset(index), RECORD_BYTES);
+                if (next[run] == Math.min(size, (long) (run + 1) * CHUNK_RECORDS)) heap[0] = heap[--live];
+                siftDownRuns(heap, 0, live, next);
+            }
+
+            if (channel == null) {
+                for (ByteBuffer chunk : chunks) {
+                    release(chunk);
+                }
+                chunks.clear();
+                chunks.addAll(merged);
+                merged.clear();
+            } else {
+                for (int c = 0; c < runs; c++) {
+                    int records = (int) Math.min(CHUNK_RECORDS, size - (long) c * CHUNK_RECORDS);
+                    chunks.get(c).put(0, merged.get(c), 0, records * RECORD_BYTES);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create scratch space to sort the result store", e);
+        } finally {
+            for (ByteBuffer chunk : merged) {
+                release(chunk);
+            }
+            try {
+                if (scratch != null) scratch.close();
+                if (scratchFile != null) Files.deleteIfExists(scratchFile);
+            } catch (IOException e) {
+                // Only a leftover temporary file; the sort itself is complete
+            }
+        }
+    }
+
+    private void siftDownRuns(int[] heap, int root, int live, long[] next) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= live) return;
+            if (child + 1 < live && totalRaceTime(next[heap[child + 1]]) < totalRaceTime(next[heap[child]])) child++;
+            if (totalRaceTime(next[heap[root]]) <= totalRaceTime(next[heap[child]])) return;
+            int swapped = heap[root];
+            heap[root] = heap[child];
+            heap[child] = swapped;
+            root = child;
+        }
+    }
+
+    private void swap(long i, long j, byte[] a, byte[] b) {
+        ByteBuffer first = chunk(i);
+        ByteBuffer second = chunk(j);
+        first.get(offset(i), a);
+        second.get(offset(j), b);
+        first.put(offset(i), b);
+        second.put(offset(j), a);
+    }
+
+    private void requireSorted() {
+        if (!sorted) {
+            throw new IllegalStateException("Store is not sorted; call sortByRaceTime() first");
+        }
+    }
+
+    private long checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Record " + index + " outside 0-" + size);
+        }
+        return index;
+    }
+
+    private ByteBuffer chunk(long index) {
+        ensureOpen();
+        return chunks.get((int) (index / CHUNK_RECORDS));
+    }
+
+    // A released buffer must never be touched again: the memory behind it is gone
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Result store is closed");
+        }
+    }
+
+    private static int offset(long index) {
+        return (int) (index % CHUNK_RECORDS) * RECORD_BYTES;
+    }
+
+    private ByteBuffer addChunk() {
+        ensureOpen();
+        ByteBuffer chunk;
+        if (channel == null) {
+            chunk = ByteBuffer.allocateDirect((int) CHUNK_BYTES);
+        } else {
+            try {
+                chunk = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + chunks.size() * CHUNK_BYTES, CHUNK_BYTES);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not grow the result store file", e);
+            }
+        }
+        chunks.add(chunk.order(ByteOrder.LITTLE_ENDIAN));
+        return chunk;
+    }
+
+    private void writeHeader() {
+        ensureOpen();
+        header.putInt(0, STORE_MAGIC);
+        header.putInt(4, STORE_VERSION);
+        header.putLong(COUNT, size);
+        header.putInt(SORTED, sorted ? 1 : 0);
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Frees a direct or mapped buffer now; without the cleaner it is left to the garbage collector
+    private static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable e) {
+            // Not freed now, but still freed once the buffer is collected
+        }
+    }
+}
@@ -0,0 +1,254 @@
+import java.util.Objects;
+
+import tyre.Tyre;
+import tyre.TyreModel;
+
+// Pit-wall search between our car and one rival for the remaining laps. Each lap we choose to stay out or
+// pit for a compound, the rival answers, and the lap is run. A car that is close behind and not clearly
+// faster cannot get past, which is what makes undercuts (pit first, pass on fresh tyres) and overcuts
+// (stay out while the rival sits in traffic) worth searching for.
+// Alpha-beta with a transposition table over states packed into a long, deepened one lap at a time until
+// the budget runs out.
+public class PitDuelSearch {
+
+    // Compounds are SetupKey tyre ordinals
+    public enum Action {
+        STAY(-1), PIT_SOFT(0), PIT_MEDIUM(1), PIT_HARD(2);
+
+        final int compound;
+
+        Action(int compound) {
+            this.compound = compound;
+        }
+    }
+
+    // expectedGapSeconds > 0 means we are predicted to finish ahead
+    public record Decision(Action action, double expectedGapSeconds, int depthReached, long nodes, boolean solved) {
+    }
+
+    static final int PIT_LOSS_MS = (int) Math.round(GridRaceSimulator.PIT_LOSS * 3_600_000);
+    static final int DIRTY_AIR_MS = 1_000;      // closer than this, the car behind is in the leader's wake
+    static final int OVERTAKE_DELTA_MS = 500;   // pace advantage needed to get past
+    static final int FOLLOW_GAP_MS = 300;       // gap left behind a car that could not be passed
+    static final int MAX_AGE = 127;
+
+    private static final Action[] ACTIONS = Action.values();
+    private static final int EXACT = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+
+    // Transposition table fields
+    private static final int VALUE = 0;
+    private static final int DEPTH = 1;
+    private static final int BOUND = 2;
+    private static final int BEST_ACTION = 3;
+
+    private final int totalLaps;
+    // lapMs[car][compound][age]; car 0 is us, 1 the rival
+    private final int[][][] lapMs = new int[2][SetupKey.tyreCount()][MAX_AGE + 1];
+    // futureMs[car][compound][age][lapsLeft]: cheapest finish with at most one more stop, for leaf estimates
+    private final int[][][][] futureMs;
+
+    private final LongResultMap table = new LongResultMap(4, 1 << 12);
+    private long nodes;
+    private long deadline;
+    private boolean outOfTime;
+
+    public PitDuelSearch(RaceCar us, RaceCar rival, RaceTrack track) {
+        Objects.requireNonNull(us, "us");
+        Objects.requireNonNull(rival, "rival");
+        this.totalLaps = Math.min(255, (int) (track.getTotalDistanceKm() / track.getTrackLengthKm()));
+
+        RaceCar[] cars = {us, rival};
+        int compounds = SetupKey.tyreCount();
+        for (int car = 0; car < 2; car++) {
+            for (int c = 0; c < compounds; c++) {
+                Tyre compound = SetupKey.tyre(c);
+                TyreModel model = TyreModel.of(compound);
+                double temperature = track.getTemperatureC();
+                double base = cars[car].withTyre(compound).calculateBaseLapTime(track.getTrackLengthKm());
+                double wearPerLap = model.wearPerLap(temperature);
+                for (int age = 0; age <= MAX_AGE; age++) {
+                    double factor = model.lapTimeFactor(temperature, age * wearPerLap, age);
+                    lapMs[car][c][age] = (int) Math.round(base * factor * 3_600_000);
+                }
+            }
+        }
+
+        futureMs = new int[2][compounds][MAX_AGE + 1][totalLaps + 1];
+        for (int car = 0; car < 2; car++) {
+            for (int c = 0; c < compounds; c++) {
+                for (int age = 0; age <= MAX_AGE; age++) {
+                    int sum = 0;
+                    for (int left = 1; left <= totalLaps; left++) {
+                        sum += lapMs[car][c][Math.min(MAX_AGE, age + left - 1)];
+                        futureMs[car][c][age][left] = sum;
+                    }
+                }
+            }
+            // Taken from the no-stop sums before any one-stop option is folded in, so the set fitted at the
+            // stop runs to the flag and the estimate never allows a second stop
+            int[] freshest = new int[totalLaps + 1];
+            for (int left = 1; left <= totalLaps; left++) {
+                freshest[left] = Integer.MAX_VALUE;
+                for (int c = 0; c < compounds; c++) freshest[left] = Math.min(freshest[left], futureMs[car][c][0][left - 1]);
+            }
+            for (int left = 1; left <= totalLaps; left++) {
+                for (int c = 0; c < compounds; c++) {
+                    for (int age = 0; age <= MAX_AGE; age++) {
+                        // Stop at the end of the first remaining lap, then run a fresh set to the flag
+                        int oneStop = lapMs[car][c][age] + PIT_LOSS_MS + freshest[left];
+                        futureMs[car][c][age][left] = Math.min(futureMs[car][c][age][left], oneStop);
+                    }
+                }
+            }
+        }
+    }
+
+    // lap: 8 bits, gap: 24 bits signed (ms, positive = we are ahead), then age and compound for each car
+    static long encode(int lap, int gapMs, int ourAge, int ourCompound, int rivalAge, int rivalCompound) {
+        int gap = Math.max(-(1 << 23), Math.min((1 << 23) - 1, gapMs));
+        return (long) lap
+                | ((long) (gap & 0xFFFFFF) << 8)
+                | ((long) Math.min(MAX_AGE, ourAge) << 32)
+                | ((long) ourCompound << 39)
+                | ((long) Math.min(MAX_AGE, rivalAge) << 41)
+                | ((long) rivalCompound << 48);
+    }
+
+    static int lap(long state) { return (int) (state & 0xFF); }
+    static int gap(long state) { return ((int) (state >>> 8) << 8) >> 8; }
+    static int ourAge(long state) { return (int) ((state >>> 32) & 0x7F); }
+    static int ourCompound(long state) { return (int) ((state >>> 39) & 0x3); }
+    static int rivalAge(long state) { return (int) ((state >>> 41) & 0x7F); }
+    static int rivalCompound(long state) { return (int) ((state >>> 48) & 0x3); }
+
+    public Decision decide(int lap, double gapSeconds, int ourAge, Tyre ourTyre, int rivalAge, Tyre rivalTyre,
+                           long budgetNanos) {
+        long root = encode(lap, (int) Math.round(gapSeconds * 1000), ourAge, SetupKey.tyreOrdinal(ourTyre),
+                rivalAge, SetupKey.tyreOrdinal(rivalTyre));
+        deadline = System.nanoTime() + budgetNanos;
+        nodes = 0;
+        table.clear();
+
+        int lapsLeft = totalLaps - lap;
+        if (lapsLeft <= 0) {
+            return new Decision(Action.STAY, gapSeconds, 0, 0, true);
+        }
+
+        // Depth 1 always completes so there is a decision even with no budget
+        outOfTime = false;
+        int value = search(root, 1, Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+        int action = bestAction(root);
+        int depth = 1;
+        while (depth < lapsLeft) {
+            int deeper = search(root, depth + 1, Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+            if (outOfTime) break;
+            depth++;
+            value = deeper;
+            action = bestAction(root);
+        }
+        return new Decision(ACTIONS[action], value / 1000.0, depth, nodes, depth >= lapsLeft);
+    }
+
+    // Value in ms for us (the maximiser) with `depth` laps still to search
+    int search(long state, int depth, int alpha, int beta) {
+        nodes++;
+        if (depth > 1 && (nodes & 255) == 0 && System.nanoTime() > deadline) {
+            outOfTime = true;
+        }
+        if (outOfTime && depth > 1) return 0;  // discarded by decide()
+
+        int lap = lap(state);
+        if (lap >= totalLaps) return gap(state);
+        if (depth == 0) return estimate(state);
+
+        int slot = table.find(state);
+        int firstAction = 0;
+        if (slot >= 0) {
+            if (table.value(slot, DEPTH) >= depth) {
+                int value = (int) table.value(slot, VALUE);
+                int bound = (int) table.value(slot, BOUND);
+                if (bound == EXACT) return value;
+                if (bound == LOWER && value >= beta) return value;
+                if (bound == UPPER && value <= alpha) return value;
+            }
+            firstAction = (int) table.value(slot, BEST_ACTION);
+        }
+
+        int alphaIn = alpha;
+        int best = Integer.MIN_VALUE;
+        int bestAction = firstAction;
+        for (int i = 0; i < ACTIONS.length; i++) {
+            int ours = i == 0 ? firstAction : (i <= firstAction ? i - 1 : i);
+
+            // Rival replies to our choice and minimises
+            int worst = Integer.MAX_VALUE;
+            for (int theirs = 0; theirs < ACTIONS.length; theirs++) {
+                int v = search(next(state, ours, theirs), depth - 1, alpha, Math.min(beta, worst));
+                if (v < worst) worst = v;
+                if (worst <= alpha) break;
+            }
+
+            if (worst > best) {
+                best = worst;
+                bestAction = ours;
+            }
+            if (best > alpha) alpha = best;
+            if (alpha >= beta) break;
+        }
+
+        int bound = best <= alphaIn ? UPPER : best >= beta ? LOWER : EXACT;
+        if (!outOfTime) {
+            slot = table.slotFor(state);
+            table.setValue(slot, VALUE, best);
+            table.setValue(slot, DEPTH, depth);
+            table.setValue(slot, BOUND, bound);
+            table.setValue(slot, BEST_ACTION, bestAction);
+        }
+        return best;
+    }
+
+    private int bestAction(long root) {
+        return (int) table.value(table.find(root), BEST_ACTION);
+    }
+
+    // Runs one lap with both decisions, including the hold-up of a car stuck behind
+    long next(long state, int ourAction, int rivalAction) {
+        int ourCompound = ourCompound(state);
+        int rivalCompound = rivalCompound(state);
+        int ourTime = lapMs[0][ourCompound][ourAge(state)];
+        int rivalTime = lapMs[1][rivalCompound][rivalAge(state)];
+        int gap = gap(state);
+
+        boolean ourStop = ACTIONS[ourAction] != Action.STAY;
+        boolean rivalStop = ACTIONS[rivalAction] != Action.STAY;
+        if (ourStop) ourTime += PIT_LOSS_MS;
+        if (rivalStop) rivalTime += PIT_LOSS_MS;
+
+        int newGap = gap + rivalTime - ourTime;
+        if (!ourStop && !rivalStop) {
+            if (gap > 0 && gap < DIRTY_AIR_MS && newGap < FOLLOW_GAP_MS && ourTime - rivalTime < OVERTAKE_DELTA_MS) {
+                newGap = Math.min(gap, FOLLOW_GAP_MS);       // rival stuck behind us
+            } else if (gap < 0 && gap > -DIRTY_AIR_MS && newGap > -FOLLOW_GAP_MS && rivalTime - ourTime < OVERTAKE_DELTA_MS) {
+                newGap = Math.max(gap, -FOLLOW_GAP_MS);      // we are stuck behind the rival
+            }
+        }
+
+        return encode(lap(state) + 1, newGap,
+                ourStop ? 0 : ourAge(state) + 1, ourStop ? ACTIONS[ourAction].compound : ourCompound,
+                rivalStop ? 0 : rivalAge(state) + 1, rivalStop ? ACTIONS[rivalAction].compound : rivalCompound);
+    }
+
+    // Lap time in ms of one car (0 = us) on a compound at an age
+    int lapMs(int car, int compound, int age) {
+        return lapMs[car][compound][Math.min(MAX_AGE, age)];
+    }
+
+    // Current gap plus how much faster we can finish from here, each car with at most one more stop
+    int estimate(long state) {
+        int left = totalLaps - lap(state);
+        return gap(state) + futureMs[1][rivalCompound(state)][rivalAge(state)][left]
+                - futureMs[0][ourCompound(state)][ourAge(state)][left];
+    }
+}
@@ -0,0 +1,110 @@
+import java.util.List;
+
+import tyre.TyreModel;
+
+// Physics lap-time mode: integrates a speed profile along the lap using the engine's acceleration,
+// braking from the aero kit, cornering grip and the climb gradient.
+// Buffers are reused between calls, so one solver must not be shared between threads.
+public class PointMassLapSolver {
+
+    static final double STEP_M = 10.0;
+    static final double GRAVITY = 9.81;
+
+    // Radius assumed for each kind of turn in the sector model (metres)
+    static final double CORNER_RADIUS_M = 60.0;
+    static final double CHICANE_RADIUS_M = 25.0;
+
+    // Per-point speed limit (m/s, squared) and gradient, then the working speed profile (m/s, squared)
+    private double[] limitSq = new double[1024];
+    private double[] grade = new double[1024];
+    private double[] speedSq = new double[1024];
+
+    public double calculateLapTime(RaceCar car, RaceTrack track) {
+        List<TrackSector> sectors = track.hasSectorModel() ? track.getSectors() : TrackFactory.deriveSectors(track);
+        int points = fillLimits(car, track, sectors);
+
+        // Engine: getAcceleration() is the 0-100 km/h time in seconds; the push fades to zero at top speed
+        double topSpeed = car.calculateOverallSpeed() / 3.6;
+        double launch = (100 / 3.6) / car.getEngine().getAcceleration();
+
+        // Brakes: kit efficiency, helped by downforce and tyre grip
+        double mu = tyreGrip(car, track);
+        double braking = GRAVITY * mu * (1.0 + car.getAeroKit().getDownforce() / 400.0) * car.getAeroKit().getBrakeEfficiency();
+
+        // Flying lap: run the acceleration pass twice so the lap starts at the speed it finishes with
+        speedSq[0] = limitSq[0];
+        accelerate(points, launch, topSpeed);
+        speedSq[0] = Math.min(limitSq[0], speedSq[points - 1]);
+        accelerate(points, launch, topSpeed);
+        brake(points, braking);
+
+        double seconds = 0;
+        for (int i = 0; i + 1 < points; i++) {
+            seconds += 2 * STEP_M / (Math.sqrt(speedSq[i]) + Math.sqrt(speedSq[i + 1]));
+        }
+        return seconds / 3600.0;
+    }
+
+    public RaceResult calculateRaceResult(RaceCar car, RaceTrack track) {
+        return RaceStrategySimulator.calculateRaceResult(car, track, calculateLapTime(car, track));
+    }
+
+    // Samples the sectors every STEP_M metres; returns the number of points used
+    private int fillLimits(RaceCar car, RaceTrack track, List<TrackSector> sectors) {
+        int points = (int) Math.ceil(track.getTrackLengthKm() * 1000 / STEP_M) + 1;
+        ensureCapacity(points);
+
+        double topSpeedSq = Math.pow(car.calculateOverallSpeed() / 3.6, 2);
+        double mu = tyreGrip(car, track) * (1.0 + car.getAeroKit().getDownforce() / 500.0)
+                * (1.0 + car.getAeroKit().getCorneringAbility() / 20.0);
+
+        int sector = 0;
+        double sectorEnd = sectors.get(0).lengthKm() * 1000;
+        for (int i = 0; i < points; i++) {
+            double distance = i * STEP_M;
+            while (distance > sectorEnd && sector + 1 < sectors.size()) {
+                sector++;
+                sectorEnd += sectors.get(sector).lengthKm() * 1000;
+            }
+            TrackSector s = sectors.get(sector);
+            limitSq[i] = switch (s.type()) {
+                case CORNER -> Math.min(topSpeedSq, mu * GRAVITY * CORNER_RADIUS_M);
+                case CHICANE -> Math.min(topSpeedSq, mu * GRAVITY * CHICANE_RADIUS_M);
+                case STRAIGHT, CLIMB -> topSpeedSq;
+            };
+            grade[i] = s.type() == TrackSector.SectorType.CLIMB ? s.elevationGainM() / (s.lengthKm() * 1000) : 0;
+        }
+        return points;
+    }
+
+    // Forward pass: v^2 grows by 2 a ds, limited by the corner ahead
+    private void accelerate(int points, double launch, double topSpeed) {
+        for (int i = 0; i + 1 < points; i++) {
+            double v = Math.sqrt(speedSq[i]);
+            double a = launch * Math.max(0, 1 - v / topSpeed) - GRAVITY * grade[i];
+            speedSq[i + 1] = Math.min(limitSq[i + 1], Math.max(0.25, speedSq[i] + 2 * a * STEP_M));
+        }
+    }
+
+    // Backward pass: every point must be slow enough to brake down to the next one
+    private void brake(int points, double braking) {
+        for (int i = points - 2; i >= 0; i--) {
+            double decel = braking + GRAVITY * grade[i];
+            speedSq[i] = Math.min(speedSq[i], speedSq[i + 1] + 2 * decel * STEP_M);
+        }
+    }
+
+    private static double tyreGrip(RaceCar car, RaceTrack track) {
+        double grip = TyreModel.of(car.getTyre()).grip(track.getTemperatureC(), 0, Integer.MAX_VALUE);
+        return track.isWet() ? grip * 0.7 : grip;
+    }
+
+    private void ensureCapacity(int points) {
+        if (limitSq.length < points) {
+            int size = Math.max(points, limitSq.length * 2);
+            limitSq = new double[size];
+            grade = new double[size];
+            speedSq = new double[size];
+        }
+    }
+}
@@ -0,0 +1,173 @@
+import java.util.Arrays;
+
+// Streaming, mergeable quantile sketch in the style of KLL (Karnin, Lang, Liberty).
+// Values enter level 0; a full level is sorted and every other item is promoted one level up with twice
+// the weight. Level capacities shrink geometrically towards the bottom, so the sketch keeps O(k) items
+// however many values it has seen. At k = 200 the rank error is about 1.7%.
+public class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 8;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long compactions;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY);
+        }
+        this.k = k;
+        levels[0] = new double[capacity(0)];
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN to a quantile sketch");
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+
+        if (sizes[0] == levels[0].length) {
+            levels[0] = Arrays.copyOf(levels[0], levels[0].length * 2);
+        }
+        levels[0][sizes[0]++] = value;
+        if (sizes[0] >= capacity(0)) {
+            compress();
+        }
+    }
+
+    // Folds the other sketch into this one; the other sketch is left unchanged
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with different k");
+        }
+        while (levels.length < other.levels.length) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.length; h++) {
+            append(h, other.levels[h], other.sizes[h]);
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        compress();
+        return this;
+    }
+
+    // Value at the given rank fraction (0 = minimum, 1 = maximum)
+    public double quantile(double q) {
+        if (count == 0) {
+            throw new IllegalStateException("Quantile of an empty sketch");
+        }
+        if (q <= 0) return min;
+        if (q >= 1) return max;
+
+        int retained = retainedItems();
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int h = 0; h < levels.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                values[n] = levels[h][i];
+                weights[n++] = 1L << h;
+            }
+        }
+
+        // Sort an index by value so the weights follow
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double target = q * count;
+        long cumulative = 0;
+        for (int i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) return values[i];
+        }
+        return max;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    // Items held in memory, bounded by roughly 3k regardless of count()
+    public int retainedItems() {
+        int total = 0;
+        for (int size : sizes) total += size;
+        return total;
+    }
+
+    // Top level holds k items, each level below two thirds of the one above
+    private int capacity(int level) {
+        int depth = levels.length - 1 - level;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.length; h++) {
+            if (sizes[h] >= capacity(h)) {
+                if (h + 1 == levels.length) {
+                    addLevel();
+                }
+                compact(h);
+            }
+        }
+    }
+
+    // Halves a level: sorted items at odd or even positions move up, the rest are dropped.
+    // An odd item out stays behind so the total weight is preserved exactly.
+    private void compact(int level) {
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        int keep = size % 2;
+        double leftover = keep == 1 ? items[size - 1] : 0;
+        int offset = (int) (Hashing.mix64(++compactions) & 1);
+
+        int promoted = size / 2;
+        double[] survivors = new double[promoted];
+        for (int i = 0; i < promoted; i++) {
+            survivors[i] = items[2 * i + offset];
+        }
+        append(level + 1, survivors, promoted);
+
+        sizes[level] = keep;
+        if (keep == 1) items[0] = leftover;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        levels[levels.length - 1] = new double[MIN_CAPACITY];
+    }
+
+    private void append(int level, double[] values, int length) {
+        int size = sizes[level];
+        if (size + length > levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(size + length, levels[level].length * 2));
+        }
+        System.arraycopy(values, 0, levels[level], size, length);
+        sizes[level] = size + length;
+    }
+}
@@ -1,19 +1,24 @@
+import java.util.Objects;
+
 import aerodynamic.AerodynamicKit;
 import engine.ElectricEngine;
 import engine.Engine;
 import tyre.Tyre;
+import tyre.TyreModel;
 
 
+// Immutable, so one car can be shared between threads and used as a cache key; use the with* methods
+// to derive a changed setup
 public class RaceCar {
-    public Engine engine;
-    public Tyre tyre;
-    public AerodynamicKit aeroKit;
-    private double fuelTankCapacity; // or battery capacity (if electric)
+    private final Engine engine;
+    private final Tyre tyre;
+    private final AerodynamicKit aeroKit;
+    private final double fuelTankCapacity; // or battery capacity (if electric)
 
     public RaceCar(Engine engine, Tyre tyre, AerodynamicKit aeroKit, double fuelTankCapacity) {
-        this.engine = engine;
-        this.tyre = tyre;
-        this.aeroKit = aeroKit;
+        this.engine = Objects.requireNonNull(engine, "engine");
+        this.tyre = Objects.requireNonNull(tyre, "tyre");
+        this.aeroKit = Objects.requireNonNull(aeroKit, "aeroKit");
         this.fuelTankCapacity = fuelTankCapacity;
     }
 
@@ -22,13 +27,24 @@ public class RaceCar {
         return aeroKit.getTopSpeed() + engine.getSpeedBoost() - (engine.getWeight() / 100);
     }
 
-    // Lap time calculation based on temp fit, aero cornering, brake impact
+    // Lap time calculation based on temp fit, aero cornering, brake impact.
+    // Race-level estimate with the on/off temperature window; per-lap models use the overload below.
     public double calculateLapTime(double trackLength, double temperature) {
         double tempPenalty = tyre.isTemperatureOptimal(temperature) ? 1.0 : 1.1;
+        return calculateBaseLapTime(trackLength) * tempPenalty;
+    }
+
+    // Lap time of one particular lap: temperature, wear and warm-up come from the compound's TyreModel
+    public double calculateLapTime(double trackLength, double temperature, double tyreWear, int lapsSinceStop) {
+        return calculateBaseLapTime(trackLength) * TyreModel.of(tyre).lapTimeFactor(temperature, tyreWear, lapsSinceStop);
+    }
+
+    // Pace with the tyres inside their window, before any tyre effect
+    public double calculateBaseLapTime(double trackLength) {
         double corneringModifier = 1.0 - (aeroKit.getCorneringAbility() / 20.0);
         double brakeModifier = 1.0 - aeroKit.getBrakeEfficiency();
         double baseTime = trackLength / calculateOverallSpeed();
-        return baseTime * tempPenalty * corneringModifier * brakeModifier;
+        return baseTime * corneringModifier * brakeModifier;
     }
 
     // 🔥 Improved logic: combine AeroKit's fuelEfficiency and Engine's consumption and added EnergyConsumption
@@ -58,4 +74,38 @@ public class RaceCar {
     public double getFuelTankCapacity() {
         return fuelTankCapacity;
     }
+
+    public RaceCar withEngine(Engine engine) {
+        return new RaceCar(engine, tyre, aeroKit, fuelTankCapacity);
+    }
+
+    public RaceCar withTyre(Tyre tyre) {
+        return new RaceCar(engine, tyre, aeroKit, fuelTankCapacity);
+    }
+
+    public RaceCar withAeroKit(AerodynamicKit aeroKit) {
+        return new RaceCar(engine, tyre, aeroKit, fuelTankCapacity);
+    }
+
+    public RaceCar withFuelTankCapacity(double fuelTankCapacity) {
+        return new RaceCar(engine, tyre, aeroKit, fuelTankCapacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RaceCar other)) return false;
+        return engine.equals(other.engine) && tyre.equals(other.tyre) && aeroKit.equals(other.aeroKit)
+                && Double.compare(fuelTankCapacity, other.fuelTankCapacity) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(engine, tyre, aeroKit, fuelTankCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return engine.getName() + " / " + tyre.getType() + " / " + aeroKit.getName() + " / " + fuelTankCapacity;
+    }
 }
@@ -0,0 +1,71 @@
+import java.util.stream.Collector;
+
+// Percentiles of race outcomes over many simulated races, kept in fixed-size quantile sketches so memory
+// does not grow with the sample count. Parallel streams give every worker its own distribution through
+// collector(), and the partial distributions are merged at the end.
+public class RaceDistribution {
+
+    public record Percentiles(double p5, double p50, double p95) {
+    }
+
+    private final QuantileSketch raceTimeMinutes = new QuantileSketch();
+    private final QuantileSketch fuelNeeded = new QuantileSketch();
+    private final QuantileSketch stops = new QuantileSketch();
+    private final QuantileSketch tyreChanges = new QuantileSketch();
+
+    public static Collector<RaceResult, RaceDistribution, RaceDistribution> collector() {
+        return Collector.of(RaceDistribution::new, RaceDistribution::accept, RaceDistribution::combine,
+                Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    public void accept(RaceResult result) {
+        raceTimeMinutes.add(result.totalRaceTime() * 60);
+        fuelNeeded.add(result.fuelNeeded());
+        stops.add(result.stopsMade());
+        tyreChanges.add(result.tyreChanges());
+    }
+
+    public RaceDistribution combine(RaceDistribution other) {
+        raceTimeMinutes.merge(other.raceTimeMinutes);
+        fuelNeeded.merge(other.fuelNeeded);
+        stops.merge(other.stops);
+        tyreChanges.merge(other.tyreChanges);
+        return this;
+    }
+
+    public long count() {
+        return raceTimeMinutes.count();
+    }
+
+    public Percentiles raceTimeMinutes() {
+        return percentiles(raceTimeMinutes);
+    }
+
+    public Percentiles fuelNeeded() {
+        return percentiles(fuelNeeded);
+    }
+
+    public Percentiles stops() {
+        return percentiles(stops);
+    }
+
+    public Percentiles tyreChanges() {
+        return percentiles(tyreChanges);
+    }
+
+    public void printDistribution() {
+        System.out.printf("\n📊 Race Outcome Distribution (%d races, p5 / p50 / p95):\n", count());
+        print("Race Time (minutes)", raceTimeMinutes());
+        print("Fuel Needed", fuelNeeded());
+        print("Pit Stops", stops());
+        print("Tyre Changes", tyreChanges());
+    }
+
+    private static void print(String label, Percentiles p) {
+        System.out.printf("%-20s %8.2f / %8.2f / %8.2f\n", label + ":", p.p5(), p.p50(), p.p95());
+    }
+
+    private static Percentiles percentiles(QuantileSketch sketch) {
+        return new Percentiles(sketch.quantile(0.05), sketch.quantile(0.5), sketch.quantile(0.95));
+    }
+}
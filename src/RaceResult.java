@@ -0,0 +1,10 @@
+// Outcome of a single race calculation, shared by the console simulation and the analysis tools.
+// Times are in hours (same unit as RaceCar.calculateLapTime); fuelNeeded is litres, or kWh for electric cars.
+public record RaceResult(double lapTime, int totalLaps, double totalRaceTime,
+                         double fuelNeeded, int pitStops, int tyreChanges) {
+
+    // pitStops counts tanks, so one tank less has to be refilled; tyre changes can share the same stop
+    public int stopsMade() {
+        return Math.max(pitStops - 1, tyreChanges);
+    }
+}
@@ -1,3 +1,7 @@
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
 import aerodynamic.*;
 import engine.*;
 import tyre.*;
@@ -7,32 +11,31 @@ public class RaceStrategySimulator {
     private final RaceTrack track;
 
     public RaceStrategySimulator(RaceCar car, RaceTrack track) {
-        this.car = car;
-        this.track = track;
+        this.car = Objects.requireNonNull(car, "car");
+        this.track = Objects.requireNonNull(track, "track");
     }
 
     public void simulateRace() {
         System.out.println("\n=== Race Strategy Simulation ===");
 
         System.out.println("\n🚗 Selected Car Setup:");
-        System.out.println("Engine: " + car.engine.getName());
-        System.out.println("Tyres: " + car.tyre.getType());
-        System.out.println("Aero Kit: " + car.aeroKit.getName());
+        System.out.println("Engine: " + car.getEngine().getName());
+        System.out.println("Tyres: " + car.getTyre().getType());
+        System.out.println("Aero Kit: " + car.getAeroKit().getName());
         System.out.printf("Fuel/Battery Capacity: %.1fL\n", car.getFuelTankCapacity());
 
 
+        RaceResult result = calculateRaceResult(car, track);
         double fuelEfficiency = car.calculateEfficiency();
-        double fuelNeeded = track.getTotalDistanceKm() / fuelEfficiency;
-        int fuelStops = (int) Math.ceil(fuelNeeded / car.getFuelTankCapacity());
-
-        double lapTime = car.calculateLapTime(track.getTrackLengthKm(), track.getTemperatureC());
-        int totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
-        double totalRaceTime = lapTime * totalLaps;
+        double fuelNeeded = result.fuelNeeded();
+        int fuelStops = result.pitStops();
 
-        double tyreWearPerLap = car.getTyre().getWearRate();
-        int tyreChanges = (int) (totalLaps * tyreWearPerLap);
+        double lapTime = result.lapTime();
+        double totalRaceTime = result.totalRaceTime();
+        int tyreChanges = result.tyreChanges();
 
-        System.out.printf("Estimated Lap Time: %.2f minutes\n", lapTime * 60);
+        System.out.printf("Estimated Lap Time: %.2f minutes%s\n", lapTime * 60,
+                track.hasSectorModel() ? String.format(" (%d-sector model)", track.getSectors().size()) : "");
         System.out.printf("Estimated Total Race Time: %.2f minutes\n", totalRaceTime * 60);
         System.out.printf("Tyre Changes Estimated: %d\n", tyreChanges);
 
@@ -45,9 +48,17 @@ public class RaceStrategySimulator {
             System.out.printf("Energy Consumption: %.2f kWh/100km\n", energyPer100Km);
             System.out.printf("Estimated Energy Needed: %.2f kWh\n", totalEnergy);
 
-            double batteryCapacity = car.getFuelTankCapacity(); // Reuse fuelTankCapacity as batteryCapacity
-            int chargingStops = (int) Math.ceil(totalEnergy / batteryCapacity);
-            System.out.printf("🔌 Charging Stops Required: %d\n", chargingStops);
+            // fuelTankCapacity is the battery capacity; stops follow the tapering charge curve
+            ChargingStopPlanner.ChargingPlan chargingPlan = new ChargingStopPlanner(car, track).plan();
+            if (!chargingPlan.feasible()) {
+                System.out.println("⚠️ " + chargingPlan.infeasibleReason());
+            } else {
+                System.out.printf("🔌 Charging Stops Required: %d\n", chargingPlan.stops());
+                if (chargingPlan.stops() > 0) {
+                    System.out.printf("Charge up to %.0f%% per stop, only as far as the next stint needs (%.2f minutes charging)\n",
+                            chargingPlan.targetStateOfCharge() * 100, chargingPlan.chargingTime() * 60);
+                }
+            }
         } else {
             System.out.printf("Fuel Efficiency: %.2f km/l\n", fuelEfficiency);
             System.out.printf("Estimated Fuel Needed: %.2f L\n", fuelNeeded);
@@ -74,9 +85,9 @@ public class RaceStrategySimulator {
 
         RaceCar optimalCar = getRecommendedSetup(track);
 
-        boolean engineChanged = !car.engine.getClass().equals(optimalCar.engine.getClass());
-        boolean tyreChanged = !car.tyre.getClass().equals(optimalCar.tyre.getClass());
-        boolean aeroChanged = !car.aeroKit.getClass().equals(optimalCar.aeroKit.getClass());
+        boolean engineChanged = !car.getEngine().getClass().equals(optimalCar.getEngine().getClass());
+        boolean tyreChanged = !car.getTyre().getClass().equals(optimalCar.getTyre().getClass());
+        boolean aeroChanged = !car.getAeroKit().getClass().equals(optimalCar.getAeroKit().getClass());
         boolean fuelChanged = Math.abs(car.getFuelTankCapacity() - optimalCar.getFuelTankCapacity()) > 5;
 
 
@@ -107,15 +118,15 @@ public class RaceStrategySimulator {
         // Warn if component is manually downgraded even if threshold not violated
         if (!isSameSetup) {
             if (engineChanged) {
-                System.out.println("- ❗ Engine selection is suboptimal. Recommended: " + optimalCar.engine.getName());
+                System.out.println("- ❗ Engine selection is suboptimal. Recommended: " + optimalCar.getEngine().getName());
                 hasRecommendation = true;
             }
             if (tyreChanged) {
-                System.out.println("- ❗ Tyre type differs from the track-optimized compound. Recommended: " + optimalCar.tyre.getType());
+                System.out.println("- ❗ Tyre type differs from the track-optimized compound. Recommended: " + optimalCar.getTyre().getType());
                 hasRecommendation = true;
             }
             if (aeroChanged) {
-                System.out.println("- ❗ Aerodynamic kit choice may not provide the ideal performance. Recommended: " + optimalCar.aeroKit.getName());
+                System.out.println("- ❗ Aerodynamic kit choice may not provide the ideal performance. Recommended: " + optimalCar.getAeroKit().getName());
                 hasRecommendation = true;
             }
             if (fuelChanged) {
@@ -178,6 +189,34 @@ public class RaceStrategySimulator {
     }
 
 
+    // Lap-by-lap events for this car and track, produced as fast as the subscriber requests them
+    public Flow.Publisher<LapEventPublisher.LapEvent> lapEvents(Executor executor) {
+        return new LapEventPublisher(car, track, executor);
+    }
+
+    // Same figures simulateRace prints, without any console output (safe to call from worker threads).
+    // A track with a sector model is timed sector by sector.
+    public static RaceResult calculateRaceResult(RaceCar car, RaceTrack track) {
+        double lapTime = track.hasSectorModel() ? SectorLapTimeCalculator.lapTime(car, track)
+                : car.calculateLapTime(track.getTrackLengthKm(), track.getTemperatureC());
+        return calculateRaceResult(car, track, lapTime);
+    }
+
+    // Variant for callers that computed the lap time with another model (e.g. the sector model)
+    public static RaceResult calculateRaceResult(RaceCar car, RaceTrack track, double lapTime) {
+        double fuelNeeded = track.getTotalDistanceKm() / car.calculateEfficiency();
+        int fuelStops = (int) Math.ceil(fuelNeeded / car.getFuelTankCapacity());
+
+        int totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+        double totalRaceTime = lapTime * totalLaps;
+
+        double tyreWearPerLap = car.getTyre().getWearRate();
+        int tyreChanges = (int) (totalLaps * tyreWearPerLap);
+
+        return new RaceResult(lapTime, totalLaps, totalRaceTime, fuelNeeded, fuelStops, tyreChanges);
+    }
+
+
     // pre recommended cars setups for tracks
     public static RaceCar getRecommendedSetup(RaceTrack track) {
         // ENGINE
@@ -1,35 +1,48 @@
+import java.util.List;
+import java.util.Objects;
 
+// Immutable value type: safe to share between threads and to use as a cache key
 public class RaceTrack {
-    private String name;
+    private final String name;
 
     // Length of a single lap in kilometers
-    private double trackLengthKm;
+    private final double trackLengthKm;
 
     // Total race distance in kilometers (used to calculate total laps)
-    private int totalDistanceKm;
+    private final int totalDistanceKm;
 
     // Ambient temperature at the race (in Celsius), affects tyre wear
-    private double temperatureC;
+    private final double temperatureC;
 
     // Indicates whether the track is wet (rain conditions)
-    private boolean isWet;
+    private final boolean isWet;
 
     // Number of sharp or medium-speed corners, increases cornering demand and tyre wear
-    private int numberOfCurves;
+    private final int numberOfCurves;
 
     // Number of tight double-apex or S-bend chicanes, affects braking and grip requirements
-    private int numberOfChicanes;
+    private final int numberOfChicanes;
 
     // True if the track has long straights (favors low-drag, high top-speed builds)
-    private boolean hasLongStraights;
+    private final boolean hasLongStraights;
 
     // Total elevation gain in meters (impacts acceleration/braking performance)
-    private int elevationGain;
+    private final int elevationGain;
+
+    // Optional ordered sector layout (empty when only the aggregate counts above are known)
+    private final List<TrackSector> sectors;
 
     public RaceTrack(String name, double trackLengthKm, int totalDistanceKm, double temperatureC,
                      boolean isWet, int numberOfCurves, int numberOfChicanes,
                      boolean hasLongStraights, int elevationGain) {
-        this.name = name;
+        this(name, trackLengthKm, totalDistanceKm, temperatureC, isWet, numberOfCurves, numberOfChicanes,
+                hasLongStraights, elevationGain, List.of());
+    }
+
+    public RaceTrack(String name, double trackLengthKm, int totalDistanceKm, double temperatureC,
+                     boolean isWet, int numberOfCurves, int numberOfChicanes,
+                     boolean hasLongStraights, int elevationGain, List<TrackSector> sectors) {
+        this.name = Objects.requireNonNull(name, "name");
         this.trackLengthKm = trackLengthKm;
         this.totalDistanceKm = totalDistanceKm;
         this.temperatureC = temperatureC;
@@ -38,6 +51,13 @@ public class RaceTrack {
         this.numberOfChicanes = numberOfChicanes;
         this.hasLongStraights = hasLongStraights;
         this.elevationGain = elevationGain;
+        this.sectors = List.copyOf(sectors);
+    }
+
+    // Same track with a sector layout attached
+    public RaceTrack withSectors(List<TrackSector> sectors) {
+        return new RaceTrack(name, trackLengthKm, totalDistanceKm, temperatureC, isWet, numberOfCurves,
+                numberOfChicanes, hasLongStraights, elevationGain, sectors);
     }
 
     // Getters
@@ -50,6 +70,8 @@ public class RaceTrack {
     public int getNumberOfChicanes() { return numberOfChicanes; }
     public boolean hasLongStraights() { return hasLongStraights; }
     public int getElevationGain() { return elevationGain; }
+    public List<TrackSector> getSectors() { return sectors; }
+    public boolean hasSectorModel() { return !sectors.isEmpty(); }
 
     public int getDifficultyScore() {
         int score = 0;
@@ -68,4 +90,26 @@ public class RaceTrack {
 
         return Math.min(score, 10); // Ensure it caps at 10
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RaceTrack other)) return false;
+        return name.equals(other.name) && Double.compare(trackLengthKm, other.trackLengthKm) == 0
+                && totalDistanceKm == other.totalDistanceKm && Double.compare(temperatureC, other.temperatureC) == 0
+                && isWet == other.isWet && numberOfCurves == other.numberOfCurves
+                && numberOfChicanes == other.numberOfChicanes && hasLongStraights == other.hasLongStraights
+                && elevationGain == other.elevationGain && sectors.equals(other.sectors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, trackLengthKm, totalDistanceKm, temperatureC, isWet, numberOfCurves,
+                numberOfChicanes, hasLongStraights, elevationGain, sectors);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + trackLengthKm + " km, " + totalDistanceKm + " km race)";
+    }
 }
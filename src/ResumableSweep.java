@@ -0,0 +1,160 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+// Catalogue sweep of setups over synthetic tracks that survives being killed. Tracks are handled in ranges;
+// each finished range is checkpointed in a SweepJournal with its per-setup wins and race time totals, so a
+// restart replays the journal and only races the ranges that are missing. Synthetic track i depends only on
+// (seed, i), which is what makes any range safe to redo or skip. One journal write per range keeps the
+// checkpoint cost small next to the racing.
+public class ResumableSweep {
+
+    // Each checkpoint forces two writes to disk (entry, then its length); each force can take milliseconds on
+    // real storage, so ranges of this size keep the cost negligible next to racing them
+    public static final int DEFAULT_RANGE_SIZE = 10_000;
+
+    // wins[s] counts tracks where setup s was fastest; times are mean race minutes over completed tracks
+    public record SweepSummary(List<RaceCar> setups, long[] wins, double[] meanRaceTimeMinutes, long tracksCompleted,
+                               int rangesRestored, int rangesRaced, boolean complete) {
+
+        public RaceCar mostWins() {
+            int best = 0;
+            for (int s = 1; s < wins.length; s++) {
+                if (wins[s] > wins[best]) best = s;
+            }
+            return setups.get(best);
+        }
+
+        public void printSummary() {
+            System.out.printf("\n🗂️ Sweep: %d tracks done (%d range(s) restored, %d raced)%s\n", tracksCompleted,
+                    rangesRestored, rangesRaced, complete ? "" : ", more to go");
+            for (int s = 0; s < setups.size(); s++) {
+                RaceCar car = setups.get(s);
+                System.out.printf("- %s / %s / %s: %d win(s), %.2f minutes on average\n", car.getEngine().getName(),
+                        car.getTyre().getType(), car.getAeroKit().getName(), wins[s], meanRaceTimeMinutes[s]);
+            }
+        }
+    }
+
+    private final List<RaceCar> setups;
+    private final SyntheticTrackGenerator generator;
+    private final long trackCount;
+    private final int rangeSize;
+
+    public ResumableSweep(List<RaceCar> setups, SyntheticTrackGenerator generator, long trackCount) {
+        this(setups, generator, trackCount, DEFAULT_RANGE_SIZE);
+    }
+
+    public ResumableSweep(List<RaceCar> setups, SyntheticTrackGenerator generator, long trackCount, int rangeSize) {
+        if (setups.isEmpty()) {
+            throw new IllegalArgumentException("No setups to sweep");
+        }
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("Range size must be positive, got " + rangeSize);
+        }
+        this.setups = List.copyOf(setups);
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.trackCount = trackCount;
+        this.rangeSize = rangeSize;
+    }
+
+    // Identifies this sweep in its journal: generator seed, the setups in order, track count and range size.
+    // Components count by class, as in SetupKey, and class names keep the value stable across JVM runs.
+    public long fingerprint() {
+        long hash = Hashing.mix64(generator.getSeed());
+        for (RaceCar car : setups) {
+            hash = Hashing.mix64(hash ^ car.getEngine().getClass().getName().hashCode());
+            hash = Hashing.mix64(hash ^ car.getTyre().getClass().getName().hashCode());
+            hash = Hashing.mix64(hash ^ car.getAeroKit().getClass().getName().hashCode());
+            hash = Hashing.mix64(hash ^ Double.doubleToLongBits(car.getFuelTankCapacity()));
+        }
+        hash = Hashing.mix64(hash ^ trackCount);
+        return Hashing.mix64(hash ^ rangeSize);
+    }
+
+    // Journal for this sweep; a file written by another sweep is refused
+    public SweepJournal openJournal(Path file) throws IOException {
+        return SweepJournal.open(file, fingerprint());
+    }
+
+    public SweepSummary run(SweepJournal journal) {
+        return run(journal, Long.MAX_VALUE);
+    }
+
+    // Races at most maxRanges missing ranges (in parallel), e.g. to work through a sweep in time slices
+    public SweepSummary run(SweepJournal journal, long maxRanges) {
+        if (journal.fingerprint() != fingerprint()) {
+            throw new IllegalStateException("Journal was written by a different sweep");
+        }
+        int n = setups.size();
+        // Per setup: wins, then race minutes summed over tracks
+        double[] totals = new double[2 * n];
+        long ranges = (trackCount + rangeSize - 1) / rangeSize;
+
+        // Replay: a range counts once however many times it was journalled
+        LongResultMap done = new LongResultMap(0);
+        long tracksCompleted = 0;
+        int restored = 0;
+        for (SweepJournal.Checkpoint checkpoint : journal.checkpoints()) {
+            if (checkpoint.aggregates().length != totals.length || checkpoint.from() % rangeSize != 0
+                    || checkpoint.to() != Math.min(trackCount, checkpoint.from() + rangeSize)) {
+                throw new IllegalStateException("Journal was written by a different sweep");
+            }
+            if (!done.add(checkpoint.from() / rangeSize)) continue;
+            merge(totals, checkpoint.aggregates());
+            tracksCompleted += checkpoint.to() - checkpoint.from();
+            restored++;
+        }
+
+        long[] missing = LongStream.range(0, ranges).filter(r -> !done.containsKey(r)).limit(maxRanges).toArray();
+        double[][] partials = new double[missing.length][];
+        LongStream.range(0, missing.length).parallel().forEach(i -> {
+            long from = missing[(int) i] * rangeSize;
+            long to = Math.min(trackCount, from + rangeSize);
+            partials[(int) i] = raceRange(from, to);
+            journal.append(from, to, partials[(int) i]);
+        });
+
+        for (int i = 0; i < missing.length; i++) {
+            merge(totals, partials[i]);
+            tracksCompleted += Math.min(trackCount, (missing[i] + 1) * rangeSize) - missing[i] * rangeSize;
+        }
+
+        long[] wins = new long[n];
+        double[] mean = new double[n];
+        for (int s = 0; s < n; s++) {
+            wins[s] = Math.round(totals[s]);
+            mean[s] = tracksCompleted > 0 ? totals[n + s] / tracksCompleted : 0;
+        }
+        return new SweepSummary(setups, wins, mean, tracksCompleted, restored, missing.length,
+                tracksCompleted == trackCount);
+    }
+
+    private double[] raceRange(long from, long to) {
+        int n = setups.size();
+        double[] partial = new double[2 * n];
+        for (long t = from; t < to; t++) {
+            RaceTrack track = generator.generate(t);
+            int fastest = 0;
+            double fastestTime = Double.MAX_VALUE;
+            for (int s = 0; s < n; s++) {
+                double minutes = RaceStrategySimulator.calculateRaceResult(setups.get(s), track).totalRaceTime() * 60;
+                partial[n + s] += minutes;
+                if (minutes < fastestTime) {
+                    fastestTime = minutes;
+                    fastest = s;
+                }
+            }
+            partial[fastest]++;
+        }
+        return partial;
+    }
+
+    private static void merge(double[] totals, double[] partial) {
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] += partial[i];
+        }
+    }
+}
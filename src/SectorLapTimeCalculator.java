@@ -0,0 +1,130 @@
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import aerodynamic.AerodynamicKit;
+import engine.Engine;
+import tyre.Tyre;
+import tyre.TyreModel;
+
+// Lap time as the sum of per-sector times for a track with a sector model.
+// Each sector time is cached against only the components it depends on, so swapping e.g. the tyre
+// reuses every straight and climb and recomputes only corners and chicanes.
+public class SectorLapTimeCalculator {
+
+    // Key ordinal for a component the sector does not depend on
+    private static final int UNUSED = 7;
+    private static final int STRIPES = 16;        // power of two
+
+    // Key for setups SetupKey cannot encode. Components compare by value, so two instances of one custom
+    // class with different figures get separate entries; null means "does not matter"
+    private record SectorKey(int sectorIndex, Engine engine, Tyre tyre, AerodynamicKit aeroKit) {
+    }
+
+    private final RaceTrack track;
+    private final List<TrackSector> sectors;
+    // Packed keys in primitive maps, striped by key hash; each stripe is guarded by itself, so parallel
+    // sweeps only contend when two threads land on the same stripe
+    private final LongResultMap[] stripes = new LongResultMap[STRIPES];
+    private final ConcurrentHashMap<SectorKey, Double> customCache = new ConcurrentHashMap<>();
+    private final LongAdder computations = new LongAdder();
+
+    public SectorLapTimeCalculator(RaceTrack track) {
+        if (!track.hasSectorModel()) {
+            throw new IllegalArgumentException("Track has no sector model: " + track.getName());
+        }
+        this.track = track;
+        this.sectors = track.getSectors();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LongResultMap(1);
+        }
+    }
+
+    public double calculateLapTime(RaceCar car) {
+        double lapTime = 0;
+        for (int i = 0; i < sectors.size(); i++) {
+            lapTime += sectorTime(car, i);
+        }
+        return lapTime;
+    }
+
+    public RaceResult calculateRaceResult(RaceCar car) {
+        return RaceStrategySimulator.calculateRaceResult(car, track, calculateLapTime(car));
+    }
+
+    // Uncached lap time for a one-off race on a sector track
+    static double lapTime(RaceCar car, RaceTrack track) {
+        double lapTime = 0;
+        for (TrackSector sector : track.getSectors()) {
+            lapTime += computeSectorTime(car, sector, track.getTemperatureC());
+        }
+        return lapTime;
+    }
+
+    public double sectorTime(RaceCar car, int sectorIndex) {
+        TrackSector sector = sectors.get(sectorIndex);
+        boolean usesEngine = sector.type() == TrackSector.SectorType.STRAIGHT || sector.type() == TrackSector.SectorType.CLIMB;
+        boolean usesTyre = sector.type() == TrackSector.SectorType.CORNER || sector.type() == TrackSector.SectorType.CHICANE;
+
+        if (!SetupKey.isCatalogued(car)) {
+            SectorKey key = new SectorKey(sectorIndex,
+                    usesEngine ? car.getEngine() : null,
+                    usesTyre ? car.getTyre() : null,
+                    car.getAeroKit());
+            return customCache.computeIfAbsent(key, k -> compute(car, sector));
+        }
+
+        long key = sectorKey(sectorIndex,
+                usesEngine ? SetupKey.engineOrdinal(car.getEngine()) : UNUSED,
+                usesTyre ? SetupKey.tyreOrdinal(car.getTyre()) : UNUSED,
+                SetupKey.aeroOrdinal(car.getAeroKit()));
+        return cachedTime(key, car, sector);
+    }
+
+    // Sector index in the high half, then 3 bits each for the engine, tyre and aero kit ordinals
+    static long sectorKey(int sectorIndex, int engine, int tyre, int aeroKit) {
+        return (long) sectorIndex << 32 | engine | tyre << 3 | aeroKit << 6;
+    }
+
+    private double cachedTime(long key, RaceCar car, TrackSector sector) {
+        LongResultMap stripe = stripes[(int) Hashing.mix64(key) & (STRIPES - 1)];
+        synchronized (stripe) {
+            int slot = stripe.find(key);
+            if (slot >= 0) return stripe.value(slot, 0);
+
+            double time = compute(car, sector);
+            stripe.setValue(stripe.slotFor(key), 0, time);
+            return time;
+        }
+    }
+
+    private double compute(RaceCar car, TrackSector sector) {
+        computations.increment();
+        return computeSectorTime(car, sector, track.getTemperatureC());
+    }
+
+    // Number of sector times actually computed (the rest were cache hits)
+    public long getComputationCount() {
+        return computations.sum();
+    }
+
+    // Sector time in hours. Straights and climbs: engine + aero; corners and chicanes: aero + tyre.
+    static double computeSectorTime(RaceCar car, TrackSector sector, double temperatureC) {
+        // Warmed-up, unworn tyres: the sector model has no stint, only the track temperature
+        double tyreFactor = TyreModel.of(car.getTyre()).grip(temperatureC, 0, Integer.MAX_VALUE);
+
+        double speed = switch (sector.type()) {
+            case STRAIGHT -> car.calculateOverallSpeed();
+            case CLIMB -> {
+                // Heavier engines lose more on the gradient
+                double grade = sector.elevationGainM() / (sector.lengthKm() * 1000.0);
+                yield car.calculateOverallSpeed() * Math.max(0.5, 1.0 - grade * car.getEngine().getWeight() / 40.0);
+            }
+            case CORNER -> (80 + 10 * car.getAeroKit().getCorneringAbility() + 0.1 * car.getAeroKit().getDownforce())
+                    * tyreFactor;
+            case CHICANE -> (60 + 60 * car.getAeroKit().getBrakeEfficiency() + 5 * car.getAeroKit().getCorneringAbility())
+                    * tyreFactor;
+        };
+        return sector.lengthKm() / speed;
+    }
+}
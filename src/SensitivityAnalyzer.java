@@ -0,0 +1,239 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class SensitivityAnalyzer {
+
+    // Every RaceTrack attribute we perturb. Booleans are treated as 0/1 so they share the numeric scan.
+    // step = finite-difference step, min/max = range scanned when looking for recommendation flip points,
+    // widened to take in a track whose own value lies outside it
+    public enum TrackAttribute {
+        TRACK_LENGTH("Lap length", "km", 0.1, 1.0, 10.0),
+        TOTAL_DISTANCE("Race distance", "km", 1, 50, 300),
+        TEMPERATURE("Temperature", "°C", 0.5, -10, 50),
+        WET("Wet track", "", 1, 0, 1),
+        CURVES("Curves", "", 1, 0, 40),
+        CHICANES("Chicanes", "", 1, 0, 20),
+        LONG_STRAIGHTS("Long straights", "", 1, 0, 1),
+        ELEVATION("Elevation gain", "m", 5, 0, 500);
+
+        private final String label;
+        private final String unit;
+        private final double step;
+        private final double min;
+        private final double max;
+
+        TrackAttribute(String label, String unit, double step, double min, double max) {
+            this.label = label;
+            this.unit = unit;
+            this.step = step;
+            this.min = min;
+            this.max = max;
+        }
+
+        public String getLabel() { return label; }
+        public String getUnit() { return unit; }
+        public double getStep() { return step; }
+
+        public boolean isBoolean() {
+            return this == WET || this == LONG_STRAIGHTS;
+        }
+
+        public double valueOf(RaceTrack track) {
+            return switch (this) {
+                case TRACK_LENGTH -> track.getTrackLengthKm();
+                case TOTAL_DISTANCE -> track.getTotalDistanceKm();
+                case TEMPERATURE -> track.getTemperatureC();
+                case WET -> track.isWet() ? 1 : 0;
+                case CURVES -> track.getNumberOfCurves();
+                case CHICANES -> track.getNumberOfChicanes();
+                case LONG_STRAIGHTS -> track.hasLongStraights() ? 1 : 0;
+                case ELEVATION -> track.getElevationGain();
+            };
+        }
+
+        // Copy of the track with only this attribute replaced
+        public RaceTrack withValue(RaceTrack track, double value) {
+            double length = this == TRACK_LENGTH ? value : track.getTrackLengthKm();
+            int distance = this == TOTAL_DISTANCE ? (int) Math.round(value) : track.getTotalDistanceKm();
+            double temperature = this == TEMPERATURE ? value : track.getTemperatureC();
+            boolean wet = this == WET ? value >= 0.5 : track.isWet();
+            int curves = this == CURVES ? (int) Math.round(value) : track.getNumberOfCurves();
+            int chicanes = this == CHICANES ? (int) Math.round(value) : track.getNumberOfChicanes();
+            boolean straights = this == LONG_STRAIGHTS ? value >= 0.5 : track.hasLongStraights();
+            int elevation = this == ELEVATION ? (int) Math.round(value) : track.getElevationGain();
+            return new RaceTrack(track.getName(), length, distance, temperature, wet,
+                    curves, chicanes, straights, elevation, sectorsFor(track, length));
+        }
+
+        // A new lap length stretches every sector by the same factor so the sector model still adds up
+        private static List<TrackSector> sectorsFor(RaceTrack track, double length) {
+            List<TrackSector> sectors = track.getSectors();
+            if (sectors.isEmpty() || length == track.getTrackLengthKm()) return sectors;
+            double scale = length / track.getTrackLengthKm();
+            List<TrackSector> scaled = new ArrayList<>(sectors.size());
+            for (TrackSector sector : sectors) {
+                scaled.add(new TrackSector(sector.type(), sector.lengthKm() * scale, sector.elevationGainM()));
+            }
+            return scaled;
+        }
+    }
+
+    // Value of the attribute at which one recommended component changes (e.g. tyre Hard -> Medium at 30.0°C)
+    public record FlipPoint(String component, String from, String to, double value) {
+    }
+
+    // raceTimeEffect is in minutes per unit of the attribute (for booleans: minutes gained by toggling it)
+    public record AttributeSensitivity(TrackAttribute attribute, double baseValue,
+                                       double raceTimeEffect, List<FlipPoint> flipPoints) {
+    }
+
+    public record SensitivityReport(RaceTrack track, RaceCar recommendedCar, double baseRaceTimeMinutes,
+                                    List<AttributeSensitivity> attributes) {
+
+        public void printReport() {
+            System.out.printf("\n📈 Sensitivity Report: %s (base race time %.2f minutes)\n",
+                    track.getName(), baseRaceTimeMinutes);
+            for (AttributeSensitivity s : attributes) {
+                TrackAttribute attribute = s.attribute();
+                String base = attribute.isBoolean()
+                        ? (s.baseValue() >= 0.5 ? "yes" : "no")
+                        : formatValue(attribute, s.baseValue());
+                String effect = attribute.isBoolean()
+                        ? String.format("%+.2f min if toggled", s.raceTimeEffect())
+                        : String.format("%+.3f min per %s", s.raceTimeEffect(),
+                                attribute.getUnit().isEmpty() ? "unit" : attribute.getUnit());
+
+                StringBuilder flips = new StringBuilder();
+                for (FlipPoint flip : s.flipPoints()) {
+                    flips.append(flips.length() == 0 ? " | " : ", ");
+                    flips.append(String.format("%s %s→%s at %s", flip.component(), flip.from(), flip.to(),
+                            attribute.isBoolean() ? (flip.value() >= 0.5 ? "yes" : "no") : formatValue(attribute, flip.value())));
+                }
+                System.out.printf("- %s (%s): %s%s\n", attribute.getLabel(), base, effect,
+                        flips.length() == 0 ? " | stable" : flips);
+            }
+        }
+
+        private static String formatValue(TrackAttribute attribute, double value) {
+            boolean integral = attribute.getStep() >= 1;
+            return (integral ? String.format("%.0f", value) : String.format("%.1f", value)) + attribute.getUnit();
+        }
+    }
+
+    private static final String[] COMPONENTS = {"Engine", "Tyres", "Aero", "Fuel"};
+
+    // Analyses every track; all (track, attribute) pairs are independent and run in parallel
+    public static List<SensitivityReport> analyse(List<RaceTrack> tracks) {
+        record Job(int trackIndex, TrackAttribute attribute) {
+        }
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < tracks.size(); i++) {
+            for (TrackAttribute attribute : TrackAttribute.values()) {
+                jobs.add(new Job(i, attribute));
+            }
+        }
+
+        Map<Integer, List<AttributeSensitivity>> byTrack = jobs.parallelStream()
+                .collect(Collectors.groupingByConcurrent(Job::trackIndex,
+                        Collectors.mapping(job -> analyseAttribute(tracks.get(job.trackIndex()), job.attribute()),
+                                Collectors.toList())));
+
+        List<SensitivityReport> reports = new ArrayList<>();
+        for (int i = 0; i < tracks.size(); i++) {
+            RaceTrack track = tracks.get(i);
+            RaceCar recommended = RaceStrategySimulator.getRecommendedSetup(track);
+            List<AttributeSensitivity> attributes = new ArrayList<>(byTrack.get(i));
+            attributes.sort(Comparator.comparing(AttributeSensitivity::attribute));
+            double baseTime = RaceStrategySimulator.calculateRaceResult(recommended, track).totalRaceTime() * 60;
+            reports.add(new SensitivityReport(track, recommended, baseTime, attributes));
+        }
+        return reports;
+    }
+
+    public static SensitivityReport analyse(RaceTrack track) {
+        return analyse(List.of(track)).get(0);
+    }
+
+    // The car is held fixed at the base recommendation so the race-time effect isolates the track change
+    static AttributeSensitivity analyseAttribute(RaceTrack track, TrackAttribute attribute) {
+        RaceCar car = RaceStrategySimulator.getRecommendedSetup(track);
+        double base = attribute.valueOf(track);
+        double min = Math.min(attribute.min, base);
+        double max = Math.max(attribute.max, base);
+
+        double effect;
+        if (attribute.isBoolean()) {
+            double toggled = base >= 0.5 ? 0 : 1;
+            effect = raceTimeMinutes(car, attribute.withValue(track, toggled)) - raceTimeMinutes(car, track);
+        } else {
+            // Central difference, falling back to a one-sided one at either edge of the valid range
+            double h = attribute.getStep();
+            double lower = Math.max(min, base - h);
+            double upper = Math.min(max, base + h);
+            effect = (raceTimeMinutes(car, attribute.withValue(track, upper))
+                    - raceTimeMinutes(car, attribute.withValue(track, lower))) / (upper - lower);
+        }
+
+        return new AttributeSensitivity(attribute, base, effect, findFlipPoints(track, attribute, base, min, max));
+    }
+
+    // Walks away from the base value in both directions and records the nearest change of each component
+    private static List<FlipPoint> findFlipPoints(RaceTrack track, TrackAttribute attribute, double base,
+                                                  double min, double max) {
+        String[] baseSetup = describe(RaceStrategySimulator.getRecommendedSetup(track));
+        FlipPoint[] below = new FlipPoint[COMPONENTS.length];
+        FlipPoint[] above = new FlipPoint[COMPONENTS.length];
+
+        scan(track, attribute, base, -attribute.getStep(), min, max, baseSetup, below);
+        scan(track, attribute, base, attribute.getStep(), min, max, baseSetup, above);
+
+        List<FlipPoint> flips = new ArrayList<>();
+        for (int c = 0; c < COMPONENTS.length; c++) {
+            if (below[c] != null) flips.add(below[c]);
+            if (above[c] != null) flips.add(above[c]);
+        }
+        return flips;
+    }
+
+    private static void scan(RaceTrack track, TrackAttribute attribute, double base, double step,
+                             double min, double max, String[] baseSetup, FlipPoint[] found) {
+        int remaining = COMPONENTS.length;
+        for (int i = 1; remaining > 0; i++) {
+            // multiply rather than accumulate so fractional steps don't drift
+            double value = base + i * step;
+            if (value < min - 1e-9 || value > max + 1e-9) {
+                break;
+            }
+            String[] setup = describe(RaceStrategySimulator.getRecommendedSetup(attribute.withValue(track, value)));
+            for (int c = 0; c < COMPONENTS.length; c++) {
+                if (found[c] == null && !setup[c].equals(baseSetup[c])) {
+                    found[c] = new FlipPoint(COMPONENTS[c], baseSetup[c], setup[c], value);
+                    remaining--;
+                }
+            }
+        }
+    }
+
+    private static String[] describe(RaceCar car) {
+        return new String[]{
+                car.getEngine().getName(),
+                car.getTyre().getType(),
+                car.getAeroKit().getName(),
+                String.format("%.0fL", car.getFuelTankCapacity())
+        };
+    }
+
+    private static double raceTimeMinutes(RaceCar car, RaceTrack track) {
+        return RaceStrategySimulator.calculateRaceResult(car, track).totalRaceTime() * 60;
+    }
+
+    public static void main(String[] args) {
+        for (SensitivityReport report : analyse(TrackFactory.getPresetTracks())) {
+            report.printReport();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+// Canonical packed form of a setup, for use as a primitive map key:
+//   bits 0-2 engine, 3-4 tyre, 5-7 aero kit, 8-30 fuel tank capacity in tenths of a litre
+// Components are identified by class, which is enough for the catalogue below since each of them has fixed
+// values. The key is never negative.
+public final class SetupKey {
+
+    static final double CAPACITY_UNITS = 10;      // steps per litre (kWh for electric cars)
+    static final int CAPACITY_BITS = 23;
+
+    // Ordinal order is part of the encoding: append new components, never reorder
+    private static final Engine[] ENGINES = {new StandardEngine(), new TurboEngine(), new V8Engine(),
+            new HybridEngine(), new ElectricEngine()};
+    private static final Tyre[] TYRES = {new SoftTyre(), new MediumTyre(), new HardTyre()};
+    private static final AerodynamicKit[] AERO_KITS = {new StandardKit(), new DownforceKit(), new LowDragKit(),
+            new GroundEffectKit(), new WetWeatherKit(), new ExtremeAeroKit()};
+
+    private SetupKey() {
+    }
+
+    public static int encode(RaceCar car) {
+        long capacity = Math.round(car.getFuelTankCapacity() * CAPACITY_UNITS);
+        if (capacity < 0 || capacity >= 1L << CAPACITY_BITS) {
+            throw new IllegalArgumentException("Fuel tank capacity out of range for a setup key: " + car.getFuelTankCapacity());
+        }
+        return engineOrdinal(car.getEngine())
+                | tyreOrdinal(car.getTyre()) << 3
+                | aeroOrdinal(car.getAeroKit()) << 5
+                | (int) capacity << 8;
+    }
+
+    public static RaceCar decode(int key) {
+        return new RaceCar(ENGINES[engineOrdinal(key)], TYRES[tyreOrdinal(key)], AERO_KITS[aeroOrdinal(key)],
+                capacity(key));
+    }
+
+    public static int engineOrdinal(int key) { return key & 0x7; }
+    public static int tyreOrdinal(int key) { return (key >>> 3) & 0x3; }
+    public static int aeroOrdinal(int key) { return (key >>> 5) & 0x7; }
+    public static double capacity(int key) { return (key >>> 8) / CAPACITY_UNITS; }
+
+    public static int engineOrdinal(Engine engine) {
+        return ordinal(ENGINES, engine, "engine");
+    }
+
+    public static int tyreOrdinal(Tyre tyre) {
+        return ordinal(TYRES, tyre, "tyre compound");
+    }
+
+    // The compound catalogue in ordinal order, shared by everything that indexes per-compound tables
+    public static int tyreCount() {
+        return TYRES.length;
+    }
+
+    public static Tyre tyre(int ordinal) {
+        return TYRES[ordinal];
+    }
+
+    public static int aeroOrdinal(AerodynamicKit aeroKit) {
+        return ordinal(AERO_KITS, aeroKit, "aero kit");
+    }
+
+    // True when the engine, tyre and aero kit all have ordinals (the fuel tank capacity is not checked)
+    public static boolean isCatalogued(RaceCar car) {
+        return find(ENGINES, car.getEngine()) >= 0 && find(TYRES, car.getTyre()) >= 0
+                && find(AERO_KITS, car.getAeroKit()) >= 0;
+    }
+
+    private static int ordinal(Object[] catalogue, Object component, String kind) {
+        int ordinal = find(catalogue, component);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Unknown " + kind + ": " + component.getClass().getSimpleName());
+        }
+        return ordinal;
+    }
+
+    private static int find(Object[] catalogue, Object component) {
+        for (int i = 0; i < catalogue.length; i++) {
+            if (catalogue[i].getClass() == component.getClass()) return i;
+        }
+        return -1;
+    }
+}
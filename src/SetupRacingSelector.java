@@ -0,0 +1,165 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Picks the fastest setup under uncertainty without giving every candidate the full Monte Carlo budget.
+// Candidates are raced in rounds on common random numbers; after each round any candidate whose paired
+// difference to the leader is significantly positive is dropped, and the next round doubles the batch
+// (as in successive halving) so the survivors get a growing share of the samples.
+public class SetupRacingSelector {
+
+    public record SelectionResult(RaceCar best, double meanRaceTimeMinutes, double confidence,
+                                  List<RaceCar> survivors, int rounds, long samplesUsed) {
+
+        // True when every other candidate was ruled out at the requested family-wide confidence
+        public boolean isSeparated() {
+            return survivors.size() == 1;
+        }
+
+        public void printSelection() {
+            System.out.println("\n🏁 Setup Selection:");
+            System.out.printf("Best: %s / %s / %s / %.1fL - %.2f minutes\n", best.getEngine().getName(),
+                    best.getTyre().getType(), best.getAeroKit().getName(), best.getFuelTankCapacity(), meanRaceTimeMinutes);
+            if (isSeparated()) {
+                System.out.printf("All other setups ruled out at %.0f%% confidence (%d rounds, %d samples)\n",
+                        confidence * 100, rounds, samplesUsed);
+            } else {
+                System.out.printf("%d setup(s) still within the %.0f%% confidence bound after %d samples\n",
+                        survivors.size() - 1, confidence * 100, samplesUsed);
+            }
+        }
+    }
+
+    private final MonteCarloRaceSimulator simulator;
+    private final ForkJoinPool pool;
+
+    public SetupRacingSelector(MonteCarloRaceSimulator simulator) {
+        this(simulator, ForkJoinPool.commonPool());
+    }
+
+    public SetupRacingSelector(MonteCarloRaceSimulator simulator, ForkJoinPool pool) {
+        this.simulator = simulator;
+        this.pool = pool;
+    }
+
+    // maxSamples caps the samples any single candidate can receive
+    public SelectionResult select(List<RaceCar> candidates, double confidence, int initialBatch, int maxSamples) {
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("No candidate setups to select from");
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1, got " + confidence);
+        }
+        if (initialBatch <= 0 || maxSamples <= 0) {
+            throw new IllegalArgumentException("Batch size and sample cap must be positive, got "
+                    + initialBatch + " and " + maxSamples);
+        }
+        int k = candidates.size();
+        // Grown round by round for the candidates still racing, so early drop-outs never get a full row
+        double[][] samples = new double[k][0];
+        boolean[] alive = new boolean[k];
+        Arrays.fill(alive, true);
+
+        int aliveCount = k;
+        int used = 0;
+        int firstBatch = Math.max(2, Math.min(initialBatch, maxSamples));
+        int batch = firstBatch;
+        int rounds = 0;
+        long samplesUsed = 0;
+
+        // Every look at the growing sample is another test, so the error budget is split over all rounds
+        // as well as all rivals (Bonferroni over at most (k - 1) * maxRounds comparisons)
+        double alpha = (1 - confidence) / (Math.max(1, k - 1) * (double) maxRounds(firstBatch, maxSamples));
+
+        // At least one round, so even a lone candidate comes back with a race time estimate
+        while ((rounds == 0 || aliveCount > 1) && used < maxSamples) {
+            int from = used;
+            int to = Math.min(maxSamples, used + batch);
+            int[] racing = aliveIndices(alive);
+            for (int c : racing) {
+                samples[c] = Arrays.copyOf(samples[c], to);
+            }
+
+            // One flat task list over (candidate, sample) keeps every worker busy whatever the field size
+            int width = to - from;
+            pool.submit(() -> IntStream.range(0, racing.length * width).parallel().forEach(task -> {
+                int candidate = racing[task / width];
+                int sample = from + task % width;
+                samples[candidate][sample] = simulator.simulate(candidates.get(candidate), sample).totalRaceTime() * 60;
+            })).join();
+
+            used = to;
+            rounds++;
+            samplesUsed += (long) racing.length * width;
+            aliveCount = eliminate(samples, alive, racing, used, alpha);
+            batch *= 2;
+        }
+
+        int[] survivors = aliveIndices(alive);
+        int best = survivors[0];
+        for (int c : survivors) {
+            if (mean(samples[c], used) < mean(samples[best], used)) best = c;
+        }
+
+        List<RaceCar> survivorCars = new ArrayList<>();
+        survivorCars.add(candidates.get(best));
+        for (int c : survivors) {
+            if (c != best) survivorCars.add(candidates.get(c));
+        }
+        return new SelectionResult(candidates.get(best), mean(samples[best], used), confidence,
+                survivorCars, rounds, samplesUsed);
+    }
+
+    // Rounds the doubling schedule needs to reach maxSamples
+    static int maxRounds(int firstBatch, int maxSamples) {
+        int rounds = 0;
+        long batch = firstBatch;
+        for (long used = 0; used < maxSamples; used += batch, batch *= 2) {
+            rounds++;
+        }
+        return Math.max(1, rounds);
+    }
+
+    // Drops every candidate that is slower than the leader with one-sided error alpha per comparison
+    private static int eliminate(double[][] samples, boolean[] alive, int[] racing, int used, double alpha) {
+        int leader = racing[0];
+        for (int c : racing) {
+            if (mean(samples[c], used) < mean(samples[leader], used)) leader = c;
+        }
+
+        double z = MonteCarloRaceSimulator.inverseNormal(1 - alpha);
+        int remaining = racing.length;
+        for (int c : racing) {
+            if (c == leader) continue;
+
+            // Paired on common random numbers: sample i of every candidate saw the same conditions
+            double sum = 0;
+            double sumSq = 0;
+            for (int i = 0; i < used; i++) {
+                double d = samples[c][i] - samples[leader][i];
+                sum += d;
+                sumSq += d * d;
+            }
+            double mean = sum / used;
+            double variance = Math.max(0, (sumSq - used * mean * mean) / (used - 1));
+            double lower = mean - z * Math.sqrt(variance / used);
+            if (lower > 0) {
+                alive[c] = false;
+                remaining--;
+            }
+        }
+        return remaining;
+    }
+
+    private static int[] aliveIndices(boolean[] alive) {
+        return IntStream.range(0, alive.length).filter(i -> alive[i]).toArray();
+    }
+
+    private static double mean(double[] values, int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) sum += values[i];
+        return sum / count;
+    }
+}
@@ -0,0 +1,244 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import tyre.Tyre;
+import tyre.TyreModel;
+
+// Constant-time stint costs for one car on one track. A lap costs base pace x (TyreModel factor + fuel mass term),
+// the tyre factor being (1 + thermal(lap temperature)) x (1 + wear(stint age)) x (1 + warm-up(age, temperature)).
+// The first WARMUP_LAPS laps of any stint are summed exactly into a table per start lap. After that the factor is
+// (1 + thermal)(1 + wear): the thermal and wear parts are prefix sums, and the cross term is taken as the stint's
+// mean thermal part times its summed wear part. That is exact when the temperature is constant over the rest of
+// the stint; otherwise it is off by the covariance of the two, under 0.1% of the stint for forecast-sized swings.
+// Wear accumulates at one wear temperature. The fuel part has a closed form, so the time of any stint is a handful
+// of array reads. A new fuel assumption needs no rebuild; a new per-lap temperature only rebuilds the tables from
+// the first changed lap onwards.
+public class StintCostIndex {
+
+    static final double FUEL_EFFECT = 0.0003;   // lap time fraction per litre (or kWh) carried
+
+    // One stint of the plan: laps [startLap, startLap + laps), counted from 0
+    public record Stint(Tyre compound, int startLap, int laps, double startFuel, double time) {
+    }
+
+    // totalTime in hours, including pit losses
+    public record StintPlan(List<Stint> stints, double totalTime) {
+
+        public void printPlan() {
+            System.out.printf("\n⏱️ Stint Plan: %d stint(s), %.2f minutes\n", stints.size(), totalTime * 60);
+            for (Stint stint : stints) {
+                System.out.printf("- Laps %d-%d on %s tyres (%.1f fuel): %.2f minutes\n", stint.startLap() + 1,
+                        stint.startLap() + stint.laps(), stint.compound().getType(), stint.startFuel(), stint.time() * 60);
+            }
+        }
+    }
+
+    private final RaceCar car;
+    private final int totalLaps;
+    private final double[] basePace = new double[SetupKey.tyreCount()];
+
+    // agePrefix[c][n]: wear parts of the factor summed over the first n laps of a stint
+    private final double[][] agePrefix;
+    // lapPrefix[c][n]: thermal parts of the factor summed over race laps 0..n-1
+    private final double[][] lapPrefix;
+    // warmUp[c][s][k]: full tyre factors summed over the first k laps of a stint from lap s, k <= WARMUP_LAPS
+    private final double[][][] warmUp;
+    private final double[] temperatures;
+    private double wearTemperature;
+    private double fuelPerLap;
+    private double fuelEffect = FUEL_EFFECT;
+    private int rebuiltLaps;
+
+    public StintCostIndex(RaceCar car, RaceTrack track) {
+        this.car = Objects.requireNonNull(car, "car");
+        Objects.requireNonNull(track, "track");
+        this.totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+
+        // Base pace with the tyres inside their window; temperature comes back in through the tyre factors
+        for (int c = 0; c < SetupKey.tyreCount(); c++) {
+            basePace[c] = car.withTyre(SetupKey.tyre(c)).calculateBaseLapTime(track.getTrackLengthKm());
+        }
+
+        RaceResult plan = RaceStrategySimulator.calculateRaceResult(car, track);
+        this.fuelPerLap = totalLaps > 0 ? plan.fuelNeeded() / totalLaps : 0;
+
+        this.agePrefix = new double[SetupKey.tyreCount()][totalLaps + 1];
+        this.lapPrefix = new double[SetupKey.tyreCount()][totalLaps + 1];
+        this.warmUp = new double[SetupKey.tyreCount()][totalLaps + 1][TyreModel.WARMUP_LAPS + 1];
+        this.temperatures = new double[totalLaps];
+        Arrays.fill(temperatures, track.getTemperatureC());
+        this.wearTemperature = track.getTemperatureC();
+        rebuildAgePrefix();
+        rebuildLapPrefix(0);
+        rebuildWarmUp(0);
+    }
+
+    public int getTotalLaps() {
+        return totalLaps;
+    }
+
+    // Time in hours of `laps` laps on the compound from startLap, starting with startFuel on board
+    public double stintTime(Tyre compound, int startLap, int laps, double startFuel) {
+        return stintTime(SetupKey.tyreOrdinal(compound), startLap, laps, startFuel);
+    }
+
+    private double stintTime(int c, int startLap, int laps, double startFuel) {
+        if (startLap < 0 || laps < 0 || startLap + laps > totalLaps) {
+            throw new IllegalArgumentException("Stint of " + laps + " laps from lap " + startLap
+                    + " does not fit in a " + totalLaps + " lap race");
+        }
+        int warm = Math.min(laps, TyreModel.WARMUP_LAPS);
+        double tyreFactors = warmUp[c][startLap][warm];
+        int rest = laps - warm;
+        if (rest > 0) {
+            double thermal = lapPrefix[c][startLap + laps] - lapPrefix[c][startLap + warm];
+            double wear = agePrefix[c][laps] - agePrefix[c][warm];
+            tyreFactors += rest + thermal + wear + thermal / rest * wear;
+        }
+        // Fuel carried on lap i of the stint is startFuel - i * fuelPerLap
+        double fuelLapSum = laps * startFuel - fuelPerLap * laps * (laps - 1) / 2.0;
+        return basePace[c] * (tyreFactors + fuelEffect * fuelLapSum);
+    }
+
+    // Fuel assumptions only enter the closed-form term, so nothing is rebuilt
+    public void setFuelPerLap(double fuelPerLap) {
+        this.fuelPerLap = fuelPerLap;
+    }
+
+    public void setFuelEffect(double fuelEffect) {
+        this.fuelEffect = fuelEffect;
+    }
+
+    public double getFuelPerLap() {
+        return fuelPerLap;
+    }
+
+    // New temperatures from fromLap onwards (e.g. an updated forecast); earlier prefix sums are kept
+    public void setTemperatures(int fromLap, double[] lapTemperatures) {
+        if (fromLap < 0 || fromLap + lapTemperatures.length > totalLaps) {
+            throw new IllegalArgumentException("Temperatures for laps " + fromLap + "-" + (fromLap + lapTemperatures.length)
+                    + " do not fit in a " + totalLaps + " lap race");
+        }
+        int firstChanged = -1;
+        for (int i = 0; i < lapTemperatures.length; i++) {
+            if (temperatures[fromLap + i] != lapTemperatures[i]) {
+                if (firstChanged < 0) firstChanged = fromLap + i;
+                temperatures[fromLap + i] = lapTemperatures[i];
+            }
+        }
+        if (firstChanged >= 0) {
+            rebuildLapPrefix(firstChanged);
+            rebuildWarmUp(Math.max(0, firstChanged - TyreModel.WARMUP_LAPS + 1));
+        }
+    }
+
+    // Temperature the tyres wear at; a change rebuilds the age prefix sums only
+    public void setWearTemperature(double temperatureC) {
+        if (temperatureC == wearTemperature) return;
+        wearTemperature = temperatureC;
+        rebuildAgePrefix();
+        rebuildWarmUp(0);
+    }
+
+    // Laps whose prefix sums have been recomputed, for checking that updates stay incremental
+    // (the warm-up table is refreshed alongside, for the stints that reach into those laps)
+    public int getRebuiltLaps() {
+        return rebuiltLaps;
+    }
+
+    private void rebuildAgePrefix() {
+        for (int c = 0; c < SetupKey.tyreCount(); c++) {
+            Tyre compound = SetupKey.tyre(c);
+            TyreModel model = TyreModel.of(compound);
+            double windowMiddle = (compound.getMinOptimalTemp() + compound.getMaxOptimalTemp()) / 2;
+            double wearPerLap = model.wearPerLap(wearTemperature);
+            for (int age = 0; age < totalLaps; age++) {
+                // Inside the window and warmed up, so only the wear part of the factor remains
+                double wear = model.lapTimeFactor(windowMiddle, age * wearPerLap, Integer.MAX_VALUE) - 1;
+                agePrefix[c][age + 1] = agePrefix[c][age] + wear;
+            }
+        }
+        rebuiltLaps += totalLaps;
+    }
+
+    private void rebuildLapPrefix(int fromLap) {
+        for (int c = 0; c < SetupKey.tyreCount(); c++) {
+            TyreModel model = TyreModel.of(SetupKey.tyre(c));
+            for (int lap = fromLap; lap < totalLaps; lap++) {
+                // Long after a stop, so only the temperature part of the factor remains
+                double thermal = model.lapTimeFactor(temperatures[lap], 0, Integer.MAX_VALUE) - 1;
+                lapPrefix[c][lap + 1] = lapPrefix[c][lap] + thermal;
+            }
+        }
+        rebuiltLaps += totalLaps - fromLap;
+    }
+
+    // Exact factors for the opening laps of every stint starting at fromStart or later
+    private void rebuildWarmUp(int fromStart) {
+        for (int c = 0; c < SetupKey.tyreCount(); c++) {
+            TyreModel model = TyreModel.of(SetupKey.tyre(c));
+            double wearPerLap = model.wearPerLap(wearTemperature);
+            for (int start = fromStart; start < totalLaps; start++) {
+                int warm = Math.min(TyreModel.WARMUP_LAPS, totalLaps - start);
+                for (int age = 0; age < warm; age++) {
+                    warmUp[c][start][age + 1] = warmUp[c][start][age]
+                            + model.lapTimeFactor(temperatures[start + age], age * wearPerLap, age);
+                }
+            }
+        }
+    }
+
+    // Fastest plan with up to maxStops stops. Each stint starts with the fuel still needed, capped by the tank,
+    // and a stint longer than one tank is not allowed. Every stint is one O(1) query.
+    public StintPlan bestPlan(int maxStops) {
+        double tank = car.getFuelTankCapacity();
+        int maxStintLaps = fuelPerLap > 0 ? (int) Math.floor(tank / fuelPerLap + 1e-9) : totalLaps;
+
+        // best[s][lap]: fastest way to reach the end of `lap` laps using s stints
+        double[][] best = new double[maxStops + 2][totalLaps + 1];
+        int[][] fromLap = new int[maxStops + 2][totalLaps + 1];
+        int[][] fromCompound = new int[maxStops + 2][totalLaps + 1];
+        for (double[] row : best) Arrays.fill(row, Double.POSITIVE_INFINITY);
+        best[0][0] = 0;
+
+        for (int s = 1; s <= maxStops + 1; s++) {
+            for (int end = 1; end <= totalLaps; end++) {
+                for (int start = Math.max(0, end - maxStintLaps); start < end; start++) {
+                    if (best[s - 1][start] == Double.POSITIVE_INFINITY) continue;
+                    double fuel = Math.min(tank, fuelPerLap * (totalLaps - start));
+                    double pit = start > 0 ? GridRaceSimulator.PIT_LOSS : 0;
+                    for (int c = 0; c < SetupKey.tyreCount(); c++) {
+                        double time = best[s - 1][start] + pit + stintTime(c, start, end - start, fuel);
+                        if (time < best[s][end]) {
+                            best[s][end] = time;
+                            fromLap[s][end] = start;
+                            fromCompound[s][end] = c;
+                        }
+                    }
+                }
+            }
+        }
+
+        int stints = -1;
+        for (int s = 1; s <= maxStops + 1; s++) {
+            if (stints < 0 || best[s][totalLaps] < best[stints][totalLaps]) stints = s;
+        }
+        if (stints < 0 || best[stints][totalLaps] == Double.POSITIVE_INFINITY) {
+            return new StintPlan(List.of(), Double.POSITIVE_INFINITY);
+        }
+
+        List<Stint> plan = new ArrayList<>();
+        for (int s = stints, end = totalLaps; s > 0; s--) {
+            int start = fromLap[s][end];
+            int c = fromCompound[s][end];
+            double fuel = Math.min(tank, fuelPerLap * (totalLaps - start));
+            plan.add(new Stint(SetupKey.tyre(c), start, end - start, fuel, stintTime(c, start, end - start, fuel)));
+            end = start;
+        }
+        Collections.reverse(plan);
+        return new StintPlan(List.copyOf(plan), best[stints][totalLaps]);
+    }
+}
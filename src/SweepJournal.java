@@ -0,0 +1,171 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// Append-only progress journal for long sweeps. Each checkpoint records a completed range of work items and
+// the partial aggregates for that range, written through a memory-mapped window and forced to disk before
+// append() returns. Entries are [length][crc32][from][to][count][values...]; the length goes in last, so a
+// crash mid-write leaves either a zero length or a bad checksum, and reopening keeps every entry before it.
+// The header holds a fingerprint of the sweep that owns the journal, so another sweep's file is refused.
+public class SweepJournal implements AutoCloseable {
+
+    static final int HEADER_BYTES = 16;
+    static final int WINDOW_BYTES = 1 << 20;     // mapped at a time; the file grows window by window
+    private static final int JOURNAL_MAGIC = 0x52534A4C;
+    private static final int JOURNAL_VERSION = 2;
+    private static final int FINGERPRINT = 8;     // header offset, long
+    private static final int ENTRY_OVERHEAD = 8;  // length + crc
+
+    // Work items [from, to) are done; aggregates are for those items only
+    public record Checkpoint(long from, long to, double[] aggregates) {
+    }
+
+    private final FileChannel channel;
+    private final long fingerprint;
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+    private final CRC32 crc = new CRC32();
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    private SweepJournal(FileChannel channel, long fingerprint) throws IOException {
+        this.channel = channel;
+        this.fingerprint = fingerprint;
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(0) == 0 && header.getInt(4) == 0) {
+            header.putInt(0, JOURNAL_MAGIC);
+            header.putInt(4, JOURNAL_VERSION);
+            header.putLong(FINGERPRINT, fingerprint);
+            header.force();
+        } else if (header.getInt(0) != JOURNAL_MAGIC || header.getInt(4) != JOURNAL_VERSION) {
+            throw new IOException("Not a sweep journal, or from another format version");
+        } else if (header.getLong(FINGERPRINT) != fingerprint) {
+            throw new IOException("Journal belongs to a different sweep");
+        }
+        position = HEADER_BYTES;
+        replay();
+    }
+
+    // A new file takes the fingerprint; an existing one must have been written with the same fingerprint
+    public static SweepJournal open(Path file, long fingerprint) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            return new SweepJournal(channel, fingerprint);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    // Valid checkpoints in the order they were written, including those from earlier runs
+    public synchronized List<Checkpoint> checkpoints() {
+        return List.copyOf(checkpoints);
+    }
+
+    public synchronized void append(long from, long to, double[] aggregates) {
+        int payload = 8 + 8 + 4 + aggregates.length * 8;
+        int entry = ENTRY_OVERHEAD + payload;
+        if (entry + 4 > WINDOW_BYTES) {
+            throw new IllegalArgumentException("Checkpoint of " + aggregates.length + " values does not fit in a journal window");
+        }
+        // Room for the entry plus the zero length that ends the journal
+        if (window == null || position + entry + 4 > windowStart + WINDOW_BYTES) {
+            mapWindow(position);
+        }
+
+        int at = (int) (position - windowStart);
+        window.putInt(at, 0);   // hide whatever a torn earlier write left here until the entry is complete
+        window.putLong(at + ENTRY_OVERHEAD, from);
+        window.putLong(at + ENTRY_OVERHEAD + 8, to);
+        window.putInt(at + ENTRY_OVERHEAD + 16, aggregates.length);
+        for (int i = 0; i < aggregates.length; i++) {
+            window.putDouble(at + ENTRY_OVERHEAD + 20 + i * 8, aggregates[i]);
+        }
+        window.putInt(at + entry, 0);
+        window.putInt(at + 4, checksum(window, at + ENTRY_OVERHEAD, payload));
+        window.force(at + 4, entry);
+
+        // The length makes the entry visible, so it is written and forced last
+        window.putInt(at, payload);
+        window.force(at, 4);
+
+        position += entry;
+        checkpoints.add(new Checkpoint(from, to, aggregates.clone()));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    // Reads entries until the end marker or the first damaged entry; the next append overwrites from there.
+    // Plain reads into two reused buffers: mapping every entry would cost a mapping per checkpoint.
+    private void replay() throws IOException {
+        long fileSize = channel.size();
+        ByteBuffer lengths = ByteBuffer.allocate(ENTRY_OVERHEAD).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer body = ByteBuffer.allocate(0);
+        while (position + ENTRY_OVERHEAD <= fileSize) {
+            lengths.clear();
+            readFully(lengths, position);
+            int payload = lengths.getInt(0);
+            if (payload < 20 || (payload - 20) % 8 != 0 || payload > WINDOW_BYTES
+                    || position + ENTRY_OVERHEAD + payload > fileSize) return;
+
+            if (body.capacity() < payload) {
+                body = ByteBuffer.allocate(payload).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            body.clear().limit(payload);
+            readFully(body, position + ENTRY_OVERHEAD);
+            if (checksum(body, 0, payload) != lengths.getInt(4)) return;
+
+            int count = body.getInt(16);
+            if (count != (payload - 20) / 8) return;
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = body.getDouble(20 + i * 8);
+            }
+            checkpoints.add(new Checkpoint(body.getLong(0), body.getLong(8), values));
+            position += ENTRY_OVERHEAD + payload;
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long at) throws IOException {
+        long start = at - buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new EOFException("Sweep journal ended inside an entry");
+            }
+        }
+    }
+
+    private void mapWindow(long start) {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_WRITE, start, WINDOW_BYTES);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not extend the sweep journal", e);
+        }
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        windowStart = start;
+    }
+
+    private int checksum(ByteBuffer buffer, int offset, int length) {
+        crc.reset();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
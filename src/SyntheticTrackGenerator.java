@@ -0,0 +1,65 @@
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// Deterministic source of plausible tracks for load tests and sweeps, alongside the hand-made TrackFactory presets.
+// Track i depends only on (seed, i), so streams can be split across threads or resumed at any index.
+public class SyntheticTrackGenerator {
+
+    private final long seed;
+
+    public SyntheticTrackGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Lazily generated; nothing is held in memory beyond the track currently being consumed
+    public Stream<RaceTrack> stream(long count) {
+        return stream(0, count);
+    }
+
+    public Stream<RaceTrack> stream(long fromIndex, long toIndex) {
+        return LongStream.range(fromIndex, toIndex).mapToObj(this::generate);
+    }
+
+    public RaceTrack generate(long index) {
+        SplittableRandom random = new SplittableRandom(Hashing.mix64(seed ^ Hashing.mix64(index)));
+
+        // Lap length: centred on 5 km like the presets, longer tails are rarer
+        double trackLengthKm = round1(clamp(Math.exp(random.nextGaussian(Math.log(5.0), 0.22)), 2.5, 7.5));
+
+        // Races are about 30 laps
+        int laps = 25 + random.nextInt(11);
+        int totalDistanceKm = (int) Math.round(trackLengthKm * laps);
+
+        double temperatureC = round1(clamp(random.nextGaussian(24.0, 7.0), 5.0, 45.0));
+
+        // Rain is more likely on cold days
+        double wetChance = temperatureC < 18 ? 0.4 : temperatureC > 30 ? 0.05 : 0.2;
+        boolean isWet = random.nextDouble() < wetChance;
+
+        // Roughly two corners per km, some of them grouped into chicanes
+        int numberOfCurves = (int) clamp(Math.round(trackLengthKm * random.nextGaussian(2.0, 0.6)), 2, 25);
+        int numberOfChicanes = (int) clamp(Math.round(numberOfCurves * random.nextDouble(0.0, 0.5)), 0, 10);
+
+        // Twisty tracks rarely have room for long straights
+        boolean hasLongStraights = random.nextDouble() < Math.max(0.1, 1.0 - numberOfCurves / 16.0);
+
+        // Mostly flat, occasionally a mountain circuit
+        int elevationGain = (int) clamp(Math.round(-60.0 * Math.log(1.0 - random.nextDouble())), 0, 300);
+
+        return new RaceTrack("Synthetic Circuit #" + index, trackLengthKm, totalDistanceKm, temperatureC,
+                isWet, numberOfCurves, numberOfChicanes, hasLongStraights, elevationGain);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double round1(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
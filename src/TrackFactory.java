@@ -1,4 +1,8 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class TrackFactory {
@@ -68,4 +72,79 @@ public class TrackFactory {
 
         return tracks;
     }
+
+
+    // Presets with the layout replaced by measured data wherever a GPS trace named after the track
+    // (e.g. "desert-sprint-circuit.csv") exists in the directory; see GpsTrackImporter for the format
+    public static List<RaceTrack> getPresetTracks(Path gpsDirectory) throws IOException {
+        List<RaceTrack> tracks = new ArrayList<>();
+        for (RaceTrack track : getPresetTracks()) {
+            Path trace = gpsDirectory.resolve(gpsFileName(track));
+            tracks.add(Files.exists(trace) ? GpsTrackImporter.load(trace).applyTo(track) : track);
+        }
+        return tracks;
+    }
+
+    static String gpsFileName(RaceTrack track) {
+        return track.getName().toLowerCase().replaceAll("[^a-z0-9]+", "-") + ".csv";
+    }
+
+    // Approximate sector layout from a track's aggregate counts, for use with SectorLapTimeCalculator.
+    // Corners and chicanes alternate with straights; any elevation gain is taken on one climb mid-lap.
+    public static List<TrackSector> deriveSectors(RaceTrack track) {
+        double length = track.getTrackLengthKm();
+        int corners = track.getNumberOfCurves();
+        int chicanes = track.getNumberOfChicanes();
+
+        // Turning sections take at most 70% of the lap
+        double cornerLength = 0.2;
+        double chicaneLength = 0.3;
+        double twisty = corners * cornerLength + chicanes * chicaneLength;
+        if (twisty > 0.7 * length) {
+            double scale = 0.7 * length / twisty;
+            cornerLength *= scale;
+            chicaneLength *= scale;
+            twisty = 0.7 * length;
+        }
+
+        // Average 6% gradient, capped at 15% of the lap
+        double climbLength = track.getElevationGain() > 0
+                ? Math.min(0.15 * length, track.getElevationGain() / 1000.0 / 0.06)
+                : 0;
+
+        int turns = corners + chicanes;
+        int straightCount = Math.max(1, turns);
+        double straightLength = length - twisty - climbLength;
+
+        // Long-straight tracks put half of their straight running into two main straights
+        double[] straights = new double[straightCount];
+        if (track.hasLongStraights() && straightCount >= 4) {
+            straights[0] = straights[straightCount / 2] = straightLength * 0.25;
+            for (int i = 0; i < straightCount; i++) {
+                if (i != 0 && i != straightCount / 2) straights[i] = straightLength * 0.5 / (straightCount - 2);
+            }
+        } else {
+            Arrays.fill(straights, straightLength / straightCount);
+        }
+
+        List<TrackSector> sectors = new ArrayList<>();
+        int chicanesPlaced = 0;
+        for (int i = 0; i < straightCount; i++) {
+            sectors.add(TrackSector.straight(straights[i]));
+            if (climbLength > 0 && i == straightCount / 2) {
+                sectors.add(TrackSector.climb(climbLength, track.getElevationGain()));
+            }
+            if (i < turns) {
+                // spread chicanes evenly between the corners
+                boolean chicane = chicanesPlaced < chicanes && (long) (i + 1) * chicanes / turns > chicanesPlaced;
+                if (chicane) {
+                    sectors.add(TrackSector.chicane(chicaneLength));
+                    chicanesPlaced++;
+                } else {
+                    sectors.add(TrackSector.corner(cornerLength));
+                }
+            }
+        }
+        return sectors;
+    }
 }
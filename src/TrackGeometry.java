@@ -0,0 +1,19 @@
+import java.util.List;
+
+// Circuit layout measured from a GPS trace (see GpsTrackImporter)
+public record TrackGeometry(double lengthKm, int elevationGainM, int numberOfCurves, int numberOfChicanes,
+                            boolean hasLongStraights, List<TrackSector> sectors) {
+
+    public TrackGeometry {
+        sectors = List.copyOf(sectors);
+    }
+
+    // Replaces the hand-entered layout of a track with the measured one. Name, weather and the
+    // number of laps are kept, so the race distance follows the measured lap length.
+    public RaceTrack applyTo(RaceTrack track) {
+        int laps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+        int totalDistanceKm = (int) Math.round(laps * lengthKm);
+        return new RaceTrack(track.getName(), lengthKm, totalDistanceKm, track.getTemperatureC(), track.isWet(),
+                numberOfCurves, numberOfChicanes, hasLongStraights, elevationGainM, sectors);
+    }
+}
@@ -0,0 +1,27 @@
+// One piece of a lap in the optional sector model. elevationGainM is only meaningful for climbs.
+public record TrackSector(SectorType type, double lengthKm, int elevationGainM) {
+
+    public enum SectorType { STRAIGHT, CORNER, CHICANE, CLIMB }
+
+    public TrackSector {
+        if (lengthKm <= 0) {
+            throw new IllegalArgumentException("Sector length must be positive: " + lengthKm);
+        }
+    }
+
+    public static TrackSector straight(double lengthKm) {
+        return new TrackSector(SectorType.STRAIGHT, lengthKm, 0);
+    }
+
+    public static TrackSector corner(double lengthKm) {
+        return new TrackSector(SectorType.CORNER, lengthKm, 0);
+    }
+
+    public static TrackSector chicane(double lengthKm) {
+        return new TrackSector(SectorType.CHICANE, lengthKm, 0);
+    }
+
+    public static TrackSector climb(double lengthKm, int elevationGainM) {
+        return new TrackSector(SectorType.CLIMB, lengthKm, elevationGainM);
+    }
+}
@@ -0,0 +1,166 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import tyre.TyreModel;
+
+// Per-lap weather for a race as an ensemble of forecast members. Each member is one plausible trajectory of
+// air temperature and track wetness; a setup is raced against every member in parallel and the spread of
+// finishing times is the weather risk. The weather part of a lap time depends only on the (rounded) state, so it
+// is evaluated once per car and state and shared by every member that passes through it; the tyres (window, wear,
+// warm-up) are followed lap by lap through the compound's TyreModel.
+public class WeatherEnsemble {
+
+    static final int WETNESS_LEVELS = 10;       // wetness is kept in tenths
+    static final double RAIN_WETTING = 0.25;    // wetness added per lap of full-intensity rain
+    static final double DRYING = 0.08;          // wetness lost per dry lap
+    static final double RAIN_COOLING = 0.5;     // °C per lap of full-intensity rain
+    static final double TEMPERATURE_STEP = 0.4; // standard deviation of the lap-to-lap change, °C
+    static final double MEAN_REVERSION = 0.1;   // pull back towards the forecast temperature per lap
+    static final double MEAN_RAIN_LAPS = 8;
+
+    // Weather during one lap: temperature in whole degrees, wetness in tenths (0 = dry, WETNESS_LEVELS = fully wet)
+    public record WeatherState(int temperatureC, int wetness) {
+
+        public WeatherState {
+            if (wetness < 0 || wetness > WETNESS_LEVELS) {
+                throw new IllegalArgumentException("Wetness must be between 0 and " + WETNESS_LEVELS + ", got " + wetness);
+            }
+        }
+
+        public double wetFraction() {
+            return (double) wetness / WETNESS_LEVELS;
+        }
+    }
+
+    // Times in hours; riskTime is the 90th percentile over members
+    public record EnsembleResult(double expectedTime, double standardDeviation, double riskTime, double worstTime,
+                                 double[] memberTimes, int distinctStates) {
+
+        public void printEnsemble() {
+            System.out.printf("\n🌦️ Weather Ensemble (%d members, %d distinct weather states)\n",
+                    memberTimes.length, distinctStates);
+            System.out.printf("Expected Race Time: %.2f minutes (± %.2f)\n", expectedTime * 60, standardDeviation * 60);
+            System.out.printf("90%% of forecasts finish within %.2f minutes, worst case %.2f minutes\n",
+                    riskTime * 60, worstTime * 60);
+        }
+    }
+
+    private final RaceTrack track;
+    private final int totalLaps;
+    private final List<List<WeatherState>> members;
+
+    // Members generated from the track's temperature, starting wet if the track is wet.
+    // rainProbability is the chance that a member sees a shower at some point in the race.
+    public WeatherEnsemble(RaceTrack track, double rainProbability, int memberCount, long seed) {
+        this.track = Objects.requireNonNull(track, "track");
+        this.totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+        if (memberCount <= 0) {
+            throw new IllegalArgumentException("An ensemble needs at least one member");
+        }
+        List<List<WeatherState>> generated = new ArrayList<>(memberCount);
+        for (int m = 0; m < memberCount; m++) {
+            SplittableRandom random = new SplittableRandom(Hashing.mix64(seed ^ Hashing.mix64(m)));
+            generated.add(generateMember(random, rainProbability));
+        }
+        this.members = List.copyOf(generated);
+    }
+
+    // Members from an external forecast; each must cover every lap
+    public WeatherEnsemble(RaceTrack track, List<List<WeatherState>> members) {
+        this.track = Objects.requireNonNull(track, "track");
+        this.totalLaps = (int) (track.getTotalDistanceKm() / track.getTrackLengthKm());
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("An ensemble needs at least one member");
+        }
+        for (List<WeatherState> member : members) {
+            if (member.size() != totalLaps) {
+                throw new IllegalArgumentException("Expected " + totalLaps + " laps of weather but got " + member.size());
+            }
+        }
+        this.members = members.stream().map(List::copyOf).toList();
+    }
+
+    public List<List<WeatherState>> getMembers() {
+        return members;
+    }
+
+    private List<WeatherState> generateMember(SplittableRandom random, double rainProbability) {
+        int rainStart = Integer.MAX_VALUE;
+        int rainEnd = Integer.MAX_VALUE;
+        double intensity = 0;
+        if (random.nextDouble() < rainProbability) {
+            rainStart = random.nextInt(Math.max(1, totalLaps));
+            rainEnd = rainStart + 1 + (int) (-MEAN_RAIN_LAPS * Math.log(1 - random.nextDouble()));
+            intensity = 0.3 + 0.7 * random.nextDouble();
+        }
+
+        double forecast = track.getTemperatureC();
+        double temperature = forecast;
+        double wetness = track.isWet() ? 1.0 : 0.0;
+        List<WeatherState> laps = new ArrayList<>(totalLaps);
+        for (int lap = 0; lap < totalLaps; lap++) {
+            boolean raining = lap >= rainStart && lap < rainEnd;
+            wetness = Math.max(0, Math.min(1, wetness + (raining ? RAIN_WETTING * intensity : -DRYING)));
+            temperature += MEAN_REVERSION * (forecast - temperature)
+                    + TEMPERATURE_STEP * MonteCarloRaceSimulator.inverseNormal(random.nextDouble())
+                    - (raining ? RAIN_COOLING * intensity : 0);
+            laps.add(new WeatherState((int) Math.round(temperature), (int) Math.round(wetness * WETNESS_LEVELS)));
+        }
+        return laps;
+    }
+
+    // Races every member in parallel: the car's usual refuelling stops, plus new tyres whenever a set wears out
+    public EnsembleResult evaluate(RaceCar car) {
+        Objects.requireNonNull(car, "car");
+        RaceResult plan = RaceStrategySimulator.calculateRaceResult(car, track);
+        TyreModel tyreModel = TyreModel.of(car.getTyre());
+
+        // One evaluation per distinct state, shared across members and worker threads
+        Map<WeatherState, Double> weatherLapTimes = new ConcurrentHashMap<>();
+        double[] times = IntStream.range(0, members.size()).parallel()
+                .mapToDouble(m -> {
+                    List<WeatherState> laps = members.get(m);
+                    double total = 0;
+                    double wear = 0;
+                    int lapsSinceStop = 0;
+                    int tyreChanges = 0;
+                    for (int lap = 0; lap < laps.size(); lap++) {
+                        WeatherState state = laps.get(lap);
+                        double weather = weatherLapTimes.computeIfAbsent(state, s -> weatherLapTime(car, track, s));
+                        total += weather * tyreModel.lapTimeFactor(state.temperatureC(), wear, lapsSinceStop);
+                        wear += tyreModel.wearPerLap(state.temperatureC());
+                        lapsSinceStop++;
+                        if (wear >= 1 && lap < laps.size() - 1) {
+                            wear = 0;
+                            lapsSinceStop = 0;
+                            tyreChanges++;
+                        }
+                    }
+                    // Tyre changes share stops with refuelling, as in RaceResult.stopsMade
+                    return total + Math.max(plan.pitStops() - 1, tyreChanges) * GridRaceSimulator.PIT_LOSS;
+                })
+                .toArray();
+
+        double mean = Arrays.stream(times).average().orElse(0);
+        double variance = 0;
+        for (double t : times) variance += (t - mean) * (t - mean);
+        variance = times.length > 1 ? variance / (times.length - 1) : 0;
+
+        double[] sorted = times.clone();
+        Arrays.sort(sorted);
+        double risk = sorted[Math.min(sorted.length - 1, (int) Math.ceil(0.9 * sorted.length) - 1)];
+        return new EnsembleResult(mean, Math.sqrt(variance), risk, sorted[sorted.length - 1], times,
+                weatherLapTimes.size());
+    }
+
+    // Lap time in a given weather state before any tyre effect; wetness works as in Monte Carlo
+    static double weatherLapTime(RaceCar car, RaceTrack track, WeatherState state) {
+        return car.calculateBaseLapTime(track.getTrackLengthKm()) * MonteCarloRaceSimulator.wetFactor(car, state.wetFraction());
+    }
+}
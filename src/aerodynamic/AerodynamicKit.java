@@ -1,13 +1,15 @@
 package aerodynamic;
 
+import java.util.Objects;
+
 public abstract class AerodynamicKit {
-    protected String name;
-    protected double dragCoefficient;
-    protected double downforce;
-    protected double topSpeed;
-    protected double fuelEfficiency;
-    protected int corneringAbility;
-    protected double brakeEfficiency;
+    protected final String name;
+    protected final double dragCoefficient;
+    protected final double downforce;
+    protected final double topSpeed;
+    protected final double fuelEfficiency;
+    protected final int corneringAbility;
+    protected final double brakeEfficiency;
 
     public AerodynamicKit(String name, double dragCoefficient, double downforce, double topSpeed,
                           double fuelEfficiency, int corneringAbility, double brakeEfficiency) {
@@ -27,4 +29,22 @@ public abstract class AerodynamicKit {
     public double getFuelEfficiency() { return fuelEfficiency; }
     public int getCorneringAbility() { return corneringAbility; }
     public double getBrakeEfficiency() { return brakeEfficiency; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AerodynamicKit other = (AerodynamicKit) o;
+        return name.equals(other.name) && Double.compare(dragCoefficient, other.dragCoefficient) == 0
+                && Double.compare(downforce, other.downforce) == 0 && Double.compare(topSpeed, other.topSpeed) == 0
+                && Double.compare(fuelEfficiency, other.fuelEfficiency) == 0
+                && corneringAbility == other.corneringAbility
+                && Double.compare(brakeEfficiency, other.brakeEfficiency) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), name, dragCoefficient, downforce, topSpeed, fuelEfficiency,
+                corneringAbility, brakeEfficiency);
+    }
 }
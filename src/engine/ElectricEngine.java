@@ -15,4 +15,8 @@ public class ElectricEngine extends Engine {
         return 18.0; // Just an example value in kWh per 100km
     }
 
+    public double getMaxChargingPower() {
+        return 150.0; // kW, before the charge curve tapers
+    }
+
 }
@@ -1,11 +1,13 @@
 package engine;
 
+import java.util.Objects;
+
 public abstract class Engine {
-    protected String name;
-    protected double speedBoost;
-    protected double fuelConsumption;
-    protected double acceleration;
-    protected double weight;
+    protected final String name;
+    protected final double speedBoost;
+    protected final double fuelConsumption;
+    protected final double acceleration;
+    protected final double weight;
 
     public Engine(String name, double speedBoost, double fuelConsumption, double acceleration, double weight) {
         this.name = name;
@@ -20,4 +22,20 @@ public abstract class Engine {
     public double getFuelConsumption() { return fuelConsumption; }
     public double getAcceleration() { return acceleration; }
     public double getWeight() { return weight; }
+
+    // Value equality, so cars built from fresh component instances still match as cache keys
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Engine other = (Engine) o;
+        return name.equals(other.name) && Double.compare(speedBoost, other.speedBoost) == 0
+                && Double.compare(fuelConsumption, other.fuelConsumption) == 0
+                && Double.compare(acceleration, other.acceleration) == 0 && Double.compare(weight, other.weight) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), name, speedBoost, fuelConsumption, acceleration, weight);
+    }
 }
\ No newline at end of file
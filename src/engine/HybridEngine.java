@@ -4,4 +4,9 @@ public class HybridEngine extends Engine {
     public HybridEngine() {
         super("Hybrid Engine", 35, 4.0, 3.5, 200);
     }
+
+    // Deployable hybrid battery; the fuel tank is separate and still drives the car
+    public double getBatteryCapacity() {
+        return 4.0; // kWh
+    }
 }
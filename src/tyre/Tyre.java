@@ -1,11 +1,13 @@
 package tyre;
 
+import java.util.Objects;
+
 public abstract class Tyre {
-    protected String type;
-    protected double wearRate;
-    protected double grip;
-    protected double minOptimalTemp;
-    protected double maxOptimalTemp;
+    protected final String type;
+    protected final double wearRate;
+    protected final double grip;
+    protected final double minOptimalTemp;
+    protected final double maxOptimalTemp;
 
     public Tyre(String type, double wearRate, double grip, double minOptimalTemp, double maxOptimalTemp) {
         this.type = type;
@@ -18,8 +20,25 @@ public abstract class Tyre {
     public String getType() { return type; }
     public double getWearRate() { return wearRate; }
     public double getGrip() { return grip; }
+    public double getMinOptimalTemp() { return minOptimalTemp; }
+    public double getMaxOptimalTemp() { return maxOptimalTemp; }
 
     public boolean isTemperatureOptimal(double temperature) {
         return temperature >= minOptimalTemp && temperature <= maxOptimalTemp;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Tyre other = (Tyre) o;
+        return type.equals(other.type) && Double.compare(wearRate, other.wearRate) == 0
+                && Double.compare(grip, other.grip) == 0 && Double.compare(minOptimalTemp, other.minOptimalTemp) == 0
+                && Double.compare(maxOptimalTemp, other.maxOptimalTemp) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), type, wearRate, grip, minOptimalTemp, maxOptimalTemp);
+    }
 }
\ No newline at end of file
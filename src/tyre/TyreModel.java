@@ -0,0 +1,152 @@
+package tyre;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Continuous temperature, warm-up and wear behaviour for one compound. Instead of the on/off temperature window
+// the penalty fades in over THERMAL_FALLOFF degrees outside it, worn tyres lose pace gradually and then fall off
+// a cliff, and fresh tyres need a few laps to come in after a stop.
+// The curves are sampled once per compound into tables and read back by linear interpolation, so per-lap loops
+// do a few array reads instead of evaluating the formulas.
+public final class TyreModel {
+
+    static final double THERMAL_PENALTY = 0.10;   // lap time lost far outside the window, as in RaceCar
+    static final double THERMAL_WEAR = 0.30;      // extra wear far outside the window
+    static final double THERMAL_FALLOFF = 8.0;    // °C outside the window until the full penalty applies
+    static final double WEAR_PENALTY = 0.03;      // lap time lost on a fully worn set
+    static final double CLIFF_PENALTY = 0.10;     // extra lap time once past the cliff
+    static final double CLIFF_START = 0.9;        // wear fraction where the cliff starts
+    static final double CLIFF_WIDTH = 0.2;        // wear over which the cliff develops
+    static final double WARMUP_PENALTY = 0.04;    // lap time lost on the out-lap
+
+    // Table ranges
+    static final double MIN_TEMPERATURE = -20;
+    static final double MAX_TEMPERATURE = 60;
+    static final double TEMPERATURE_STEP = 0.5;
+    static final double MAX_WEAR = 1.5;
+    static final double WEAR_STEP = 0.005;
+    public static final int WARMUP_LAPS = 8;      // warm-up is treated as over after this many laps
+
+    private static final Map<Tyre, TyreModel> MODELS = new ConcurrentHashMap<>();
+
+    private final Tyre tyre;
+    private final double[] thermalPenalty;
+    private final double[] wearMultiplier;
+    private final double[] coldness;
+    private final double[] degradation;
+    private final double[] warmUp;
+
+    private TyreModel(Tyre tyre) {
+        this.tyre = tyre;
+
+        int temperatures = (int) Math.round((MAX_TEMPERATURE - MIN_TEMPERATURE) / TEMPERATURE_STEP) + 1;
+        thermalPenalty = new double[temperatures];
+        wearMultiplier = new double[temperatures];
+        coldness = new double[temperatures];
+        for (int i = 0; i < temperatures; i++) {
+            double temperature = MIN_TEMPERATURE + i * TEMPERATURE_STEP;
+            thermalPenalty[i] = thermalPenaltyFormula(tyre, temperature);
+            wearMultiplier[i] = wearMultiplierFormula(tyre, temperature);
+            coldness[i] = coldnessFormula(tyre, temperature);
+        }
+
+        int wears = (int) Math.round(MAX_WEAR / WEAR_STEP) + 1;
+        degradation = new double[wears];
+        for (int i = 0; i < wears; i++) {
+            degradation[i] = degradationFormula(i * WEAR_STEP);
+        }
+
+        warmUp = new double[WARMUP_LAPS + 1];
+        for (int lap = 0; lap < WARMUP_LAPS; lap++) {
+            warmUp[lap] = warmUpFormula(tyre, lap);
+        }
+    }
+
+    // Shared model for a compound; tables are built on first use
+    public static TyreModel of(Tyre tyre) {
+        return MODELS.computeIfAbsent(Objects.requireNonNull(tyre, "tyre"), TyreModel::new);
+    }
+
+    public Tyre getTyre() {
+        return tyre;
+    }
+
+    // Multiplier on the base lap time. wear is the worn fraction (1 = change due), lapsSinceStop is 0 on the out-lap.
+    public double lapTimeFactor(double temperatureC, double wear, int lapsSinceStop) {
+        double thermal = interpolate(thermalPenalty, MIN_TEMPERATURE, TEMPERATURE_STEP, temperatureC);
+        double worn = interpolate(degradation, 0, WEAR_STEP, wear);
+        double cold = lapsSinceStop >= WARMUP_LAPS ? 0
+                : warmUp[Math.max(0, lapsSinceStop)] * (1 + interpolate(coldness, MIN_TEMPERATURE, TEMPERATURE_STEP, temperatureC));
+        return (1 + thermal) * (1 + worn) * (1 + cold);
+    }
+
+    // Effective grip, falling as the lap time factor rises
+    public double grip(double temperatureC, double wear, int lapsSinceStop) {
+        return tyre.getGrip() / lapTimeFactor(temperatureC, wear, lapsSinceStop);
+    }
+
+    // Wear fraction used per lap at the given temperature
+    public double wearPerLap(double temperatureC) {
+        return tyre.getWearRate() * interpolate(wearMultiplier, MIN_TEMPERATURE, TEMPERATURE_STEP, temperatureC);
+    }
+
+    // Lap time factors for each lap of a stint on a fresh set at a constant temperature
+    public double[] stintLapFactors(double temperatureC, int laps) {
+        double perLap = wearPerLap(temperatureC);
+        double[] factors = new double[laps];
+        for (int lap = 0; lap < laps; lap++) {
+            factors[lap] = lapTimeFactor(temperatureC, lap * perLap, lap);
+        }
+        return factors;
+    }
+
+    // First lap of a stint that starts on the cliff
+    public int lapsToCliff(double temperatureC) {
+        return (int) Math.ceil(CLIFF_START / wearPerLap(temperatureC));
+    }
+
+    private static double interpolate(double[] table, double min, double step, double x) {
+        double position = (x - min) / step;
+        if (!(position > 0)) return table[0];
+        int i = (int) position;
+        if (i >= table.length - 1) return table[table.length - 1];
+        double fraction = position - i;
+        return table[i] + fraction * (table[i + 1] - table[i]);
+    }
+
+    // Reference formulas, used to fill the tables
+
+    // Degrees outside the optimal window (0 inside it)
+    static double distanceFromWindow(Tyre tyre, double temperature) {
+        return Math.max(0, Math.max(tyre.minOptimalTemp - temperature, temperature - tyre.maxOptimalTemp));
+    }
+
+    static double thermalPenaltyFormula(Tyre tyre, double temperature) {
+        return THERMAL_PENALTY * smoothstep(distanceFromWindow(tyre, temperature) / THERMAL_FALLOFF);
+    }
+
+    static double wearMultiplierFormula(Tyre tyre, double temperature) {
+        return 1 + THERMAL_WEAR * smoothstep(distanceFromWindow(tyre, temperature) / THERMAL_FALLOFF);
+    }
+
+    // 0 at or above the window, up to 1 well below it; cold tyres take longer to come in
+    static double coldnessFormula(Tyre tyre, double temperature) {
+        return smoothstep((tyre.minOptimalTemp - temperature) / THERMAL_FALLOFF);
+    }
+
+    static double degradationFormula(double wear) {
+        return WEAR_PENALTY * Math.min(1, wear) + CLIFF_PENALTY * smoothstep((wear - CLIFF_START) / CLIFF_WIDTH);
+    }
+
+    // Softer, grippier compounds switch on faster
+    static double warmUpFormula(Tyre tyre, int lapsSinceStop) {
+        double lapsToWarm = 0.5 + 2 * (1 - tyre.getGrip());
+        return WARMUP_PENALTY * Math.exp(-lapsSinceStop / lapsToWarm);
+    }
+
+    private static double smoothstep(double x) {
+        double t = Math.max(0, Math.min(1, x));
+        return t * t * (3 - 2 * t);
+    }
+}
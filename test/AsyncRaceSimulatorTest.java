@@ -0,0 +1,94 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for AsyncRaceSimulator
+ * Testing Types: Black Box, Integration, Concurrency
+ */
+@DisplayName("Async Race Simulator - CompletableFuture API")
+class AsyncRaceSimulatorTest {
+
+    private final RaceTrack track = new RaceTrack("Async", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private List<RaceCar> fleet(int size) {
+        List<RaceCar> cars = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            cars.add(new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 60 + i % 40));
+        }
+        return cars;
+    }
+
+    // INTEGRATION TESTING - Same figures as the synchronous calculation
+    @Test
+    @DisplayName("Single simulation matches the synchronous result")
+    void testSingleSimulation() {
+        RaceCar car = new RaceCar(new TurboEngine(), new SoftTyre(), new LowDragKit(), 80.0);
+        RaceResult result = new AsyncRaceSimulator(executor).simulate(car, track).join();
+        assertEquals(RaceStrategySimulator.calculateRaceResult(car, track), result);
+    }
+
+    // CONCURRENCY TESTING - Thousands of evaluations run on the caller's executor, in order
+    @Test
+    @DisplayName("Fan-out keeps order and runs on the provided executor")
+    void testFanOut() {
+        AtomicInteger tasks = new AtomicInteger();
+        AsyncRaceSimulator simulator = new AsyncRaceSimulator(command -> {
+            tasks.incrementAndGet();
+            executor.execute(command);
+        });
+
+        List<RaceCar> cars = fleet(5_000);
+        List<RaceResult> results = simulator.simulateAll(cars, track).join();
+        assertEquals(cars.size(), results.size());
+        for (int i = 0; i < cars.size(); i += 499) {
+            assertEquals(RaceStrategySimulator.calculateRaceResult(cars.get(i), track), results.get(i));
+        }
+        assertEquals((cars.size() + AsyncRaceSimulator.BATCH_SIZE - 1) / AsyncRaceSimulator.BATCH_SIZE, tasks.get());
+    }
+
+    // BLACK BOX TESTING - Fastest car is picked from the fan-out
+    @Test
+    @DisplayName("Fastest car selection")
+    void testFastest() {
+        RaceCar slow = new RaceCar(new StandardEngine(), new HardTyre(), new DownforceKit(), 80.0);
+        RaceCar quick = new RaceCar(new ElectricEngine(), new MediumTyre(), new LowDragKit(), 80.0);
+        AsyncRaceSimulator simulator = new AsyncRaceSimulator(executor);
+        RaceCar fastest = simulator.fastest(List.of(slow, quick), track).join();
+
+        double slowTime = RaceStrategySimulator.calculateRaceResult(slow, track).totalRaceTime();
+        double quickTime = RaceStrategySimulator.calculateRaceResult(quick, track).totalRaceTime();
+        assertSame(slowTime < quickTime ? slow : quick, fastest);
+
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> simulator.fastest(List.of(), track).join());
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+    }
+
+    // NEGATIVE TESTING - Missing executor or inputs fail fast
+    @Test
+    @DisplayName("Null executor and inputs are rejected")
+    void testNullInputs() {
+        assertThrows(NullPointerException.class, () -> new AsyncRaceSimulator(null));
+        AsyncRaceSimulator simulator = new AsyncRaceSimulator(executor);
+        assertThrows(NullPointerException.class, () -> simulator.simulate(null, track));
+        assertThrows(NullPointerException.class, () -> simulator.simulateAll(fleet(3), null));
+    }
+}
@@ -0,0 +1,96 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for ChampionshipSimulator
+ * Testing Types: Black Box, White Box, Integration
+ */
+@DisplayName("Championship Simulator - Season Across the Track Calendar")
+class ChampionshipSimulatorTest {
+
+    private final List<RaceCar> fleet = List.of(
+            new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80),
+            new RaceCar(new TurboEngine(), new MediumTyre(), new StandardKit(), 90),
+            new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 70));
+
+    // BLACK BOX TESTING - Points handed out per event never exceed the top three of the scale
+    @Test
+    @DisplayName("Standings cover every entrant and are sorted by points")
+    void testStandingsSortedByPoints() {
+        ChampionshipSimulator.ChampionshipResult result =
+                new ChampionshipSimulator(TrackFactory.getPresetTracks(), fleet, 1).simulate();
+
+        assertEquals(fleet.size(), result.standings().size());
+        int totalPoints = 0;
+        for (int i = 0; i < result.standings().size(); i++) {
+            ChampionshipSimulator.Standing standing = result.standings().get(i);
+            totalPoints += standing.points();
+            assertEquals(5, standing.starts());
+            assertTrue(standing.reliability() >= 0 && standing.reliability() <= 1);
+            if (i > 0) {
+                assertTrue(standing.points() <= result.standings().get(i - 1).points());
+            }
+        }
+        assertTrue(totalPoints <= 5 * (25 + 18 + 15));
+    }
+
+    // BLACK BOX TESTING - The same seed must give the same season on any pool size
+    @Test
+    @DisplayName("Season is repeatable regardless of parallelism")
+    void testRepeatableAcrossPools() {
+        ChampionshipSimulator.ChampionshipResult parallel =
+                new ChampionshipSimulator(TrackFactory.getPresetTracks(), fleet, 9).simulate();
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            ChampionshipSimulator.ChampionshipResult sequential =
+                    new ChampionshipSimulator(TrackFactory.getPresetTracks(), fleet, 9, single).simulate();
+            for (int i = 0; i < fleet.size(); i++) {
+                assertEquals(parallel.standings().get(i).entrantIndex(), sequential.standings().get(i).entrantIndex());
+                assertEquals(parallel.standings().get(i).points(), sequential.standings().get(i).points());
+            }
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    // WHITE BOX TESTING - The setup search keeps the engine and never picks a blocked combination
+    @Test
+    @DisplayName("Per-track setup keeps the entrant's engine and is legal")
+    void testOptimiseSetup() {
+        RaceTrack wetTrack = new RaceTrack("Wet", 4.0, 150, 18.0, true, 12, 4, false, 80);
+        RaceCar entrant = fleet.get(1);
+
+        RaceCar setup = ChampionshipSimulator.optimiseSetup(entrant, wetTrack);
+
+        assertSame(entrant.getEngine(), setup.getEngine());
+        assertEquals(entrant.getFuelTankCapacity(), setup.getFuelTankCapacity());
+        assertFalse(ConfigurationValidator.hasBlockingConflict(setup));
+        assertTrue(ConfigurationValidator.getWarnings(setup, wetTrack).isEmpty());
+    }
+
+    // WHITE BOX TESTING - A retirement is charged the slowest time, so it cannot win the time tie-break
+    @Test
+    @DisplayName("Retired entrant gets the slowest race time of the event")
+    void testRetirementCountsAsSlowest() {
+        List<RaceTrack> oneRace = List.of(TrackFactory.getPresetTracks().get(0));
+        for (long seed = 0; seed < 500; seed++) {
+            List<ChampionshipSimulator.Standing> standings =
+                    new ChampionshipSimulator(oneRace, fleet, seed).simulate().standings();
+            double slowest = standings.stream().mapToDouble(ChampionshipSimulator.Standing::totalRaceTime).max().orElseThrow();
+            for (ChampionshipSimulator.Standing standing : standings) {
+                if (standing.finishes() == 0) {
+                    assertEquals(slowest, standing.totalRaceTime(), 1e-12);
+                    return;
+                }
+            }
+        }
+        fail("No retirement in 500 seeded races");
+    }
+}
@@ -0,0 +1,149 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for ChargingStopPlanner
+ * Testing Types: Black Box, White Box, Performance
+ */
+@DisplayName("Charging Stop Planner - Tapering Charge Curve")
+class ChargingStopPlannerTest {
+
+    private final RaceTrack sprint = new RaceTrack("Sprint", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceTrack endurance = new RaceTrack("Endurance", 5.0, 600, 24.0, false, 9, 2, true, 60);
+    private final RaceCar ev = new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 40.0);
+
+    // WHITE BOX TESTING - Charging slows down above the taper point
+    @Test
+    @DisplayName("Charge curve tapers towards a full battery")
+    void testChargeCurve() {
+        ChargingStopPlanner planner = new ChargingStopPlanner(ev, endurance);
+        double lowHalf = planner.chargeTime(0.0, 0.5);
+        double highHalf = planner.chargeTime(0.5, 1.0);
+        assertEquals(20.0 / 150.0, lowHalf, 1e-9);
+        assertTrue(highHalf > 2 * lowHalf);
+        assertEquals(planner.chargeTime(0.1, 0.9), planner.chargeTime(0.1, 0.6) + planner.chargeTime(0.6, 0.9), 1e-12);
+    }
+
+    // BLACK BOX TESTING - No stops when the battery covers the race
+    @Test
+    @DisplayName("Short race needs no charging")
+    void testNoStops() {
+        ChargingStopPlanner.ChargingPlan plan = new ChargingStopPlanner(ev, sprint).plan();
+        assertTrue(plan.feasible());
+        assertEquals(0, plan.stops());
+        assertEquals(0.0, plan.chargingTime());
+    }
+
+    // BLACK BOX TESTING - The plan delivers enough energy and beats naive full charges and every other stop count
+    @Test
+    @DisplayName("Endurance plan covers the energy deficit and beats charging to full")
+    void testEndurancePlan() {
+        ChargingStopPlanner planner = new ChargingStopPlanner(ev, endurance);
+        ChargingStopPlanner.ChargingPlan plan = planner.plan();
+
+        double energyNeeded = 600 * 18.0 / 100;
+        double usable = 40.0 * (1 - ChargingStopPlanner.RESERVE);
+        assertTrue(plan.feasible());
+        assertTrue(plan.stops() >= Math.ceil(energyNeeded / 40.0) - 1);
+        assertTrue(plan.energyChargedKwh() + usable >= energyNeeded - 1e-9);
+        assertEquals(plan.stops(), plan.stopLaps().length);
+
+        // Naive rule: run down to the reserve, charge to full, and top up only what is needed at the last stop
+        double reserve = 40.0 * ChargingStopPlanner.RESERVE;
+        double deficit = energyNeeded - usable;
+        int fullStops = (int) Math.ceil(deficit / usable);
+        double fullChargeTime = (fullStops - 1) * planner.chargeTime(ChargingStopPlanner.RESERVE, 1.0)
+                + planner.chargeTime(ChargingStopPlanner.RESERVE, (reserve + deficit - (fullStops - 1) * usable) / 40.0);
+        assertTrue(plan.pitTime() < fullChargeTime + fullStops * (GridRaceSimulator.PIT_LOSS + ChargingStopPlanner.PLUG_IN_TIME));
+
+        for (int stops = 0; stops <= ChargingStopPlanner.MAX_STOPS; stops++) {
+            ChargingStopPlanner.ChargingPlan other = planner.evaluate(stops);
+            if (other.feasible()) assertTrue(plan.totalRaceTime() <= other.totalRaceTime());
+        }
+    }
+
+    // WHITE BOX TESTING - Each stop count is evaluated exactly, not as a cap on a greedy plan
+    @Test
+    @DisplayName("Evaluating a stop count gives exactly that many stops")
+    void testExactStopCounts() {
+        ChargingStopPlanner planner = new ChargingStopPlanner(ev, endurance);
+        int feasible = 0;
+        for (int stops = 1; stops <= ChargingStopPlanner.MAX_STOPS; stops++) {
+            ChargingStopPlanner.ChargingPlan plan = planner.evaluate(stops);
+            if (!plan.feasible()) {
+                assertEquals(ChargingStopPlanner.TOO_FEW_STOPS, plan.infeasibleReason());
+                continue;
+            }
+            feasible++;
+            assertEquals(stops, plan.stops());
+            assertEquals(stops, plan.stopLaps().length);
+            assertTrue(plan.targetStateOfCharge() <= 1.0 + 1e-9);
+        }
+        assertTrue(feasible > 40);
+
+        // More stops need less charge at each one
+        assertTrue(planner.evaluate(10).targetStateOfCharge() < planner.evaluate(2).targetStateOfCharge());
+    }
+
+    // WHITE BOX TESTING - Too few stops is infeasible
+    @Test
+    @DisplayName("Stop count below the energy deficit is infeasible")
+    void testTooFewStops() {
+        ChargingStopPlanner planner = new ChargingStopPlanner(ev, endurance);
+        ChargingStopPlanner.ChargingPlan plan = planner.evaluate(0);
+        assertFalse(plan.feasible());
+        assertEquals(ChargingStopPlanner.TOO_FEW_STOPS, plan.infeasibleReason());
+        assertEquals(ChargingStopPlanner.TOO_FEW_STOPS, planner.evaluate(1).infeasibleReason());
+        assertThrows(IllegalArgumentException.class, () -> planner.evaluate(-1));
+    }
+
+    // BOUNDARY VALUE TESTING - The reported problem names the limit that was actually hit
+    @Test
+    @DisplayName("Infeasible plans report the battery or the stop limit")
+    void testInfeasibleReason() {
+        RaceCar tinyBattery = new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 0.5);
+        assertEquals(ChargingStopPlanner.BATTERY_TOO_SMALL, new ChargingStopPlanner(tinyBattery, sprint).plan().infeasibleReason());
+
+        RaceTrack ultra = new RaceTrack("Ultra", 5.0, 15000, 24.0, false, 9, 2, true, 60);
+        ChargingStopPlanner.ChargingPlan plan = new ChargingStopPlanner(ev, ultra).plan();
+        assertFalse(plan.feasible());
+        assertEquals(ChargingStopPlanner.TOO_MANY_STOPS, plan.infeasibleReason());
+    }
+
+    // WHITE BOX TESTING - The last stop only charges the energy still needed, so the race ends on the reserve
+    @Test
+    @DisplayName("Final stop does not overcharge")
+    void testFinalStopChargesOnlyWhatIsNeeded() {
+        ChargingStopPlanner.ChargingPlan plan = new ChargingStopPlanner(ev, endurance).plan();
+        double energyNeeded = 120 * 5.0 * 18.0 / 100;
+        double reserve = 40.0 * ChargingStopPlanner.RESERVE;
+        assertTrue(plan.feasible());
+        assertEquals("", plan.infeasibleReason());
+        assertEquals(energyNeeded - 40.0 + reserve, plan.energyChargedKwh(), 1e-6);
+    }
+
+    // BLACK BOX TESTING - Combustion cars have no charge curve
+    @Test
+    @DisplayName("Non-electric cars are rejected")
+    void testNonElectricRejected() {
+        RaceCar hybrid = new RaceCar(new HybridEngine(), new MediumTyre(), new StandardKit(), 80.0);
+        assertThrows(IllegalArgumentException.class, () -> new ChargingStopPlanner(hybrid, sprint));
+    }
+
+    // PERFORMANCE TESTING - Full search stays fast
+    @Test
+    @DisplayName("Plan search completes quickly")
+    void testPerformance() {
+        ChargingStopPlanner planner = new ChargingStopPlanner(ev, endurance);
+        for (int i = 0; i < 10; i++) planner.plan();
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) planner.plan();
+        double millis = (System.nanoTime() - start) / 10 / 1e6;
+        assertTrue(millis < 50, "took " + millis + " ms");
+    }
+}
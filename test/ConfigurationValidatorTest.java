@@ -116,6 +116,18 @@ class ConfigurationValidatorTest {
 
 
 
+    // WHITE BOX TESTING - Silent checks used by batch tools agree with isValid
+    @Test
+    @DisplayName("Silent warning collection matches the printed warnings")
+    void testSilentChecks() {
+        RaceCar riskyCar = new RaceCar(new V8Engine(), new MediumTyre(), new GroundEffectKit(), 70.0);
+        assertEquals(1, ConfigurationValidator.getWarnings(riskyCar, dryTrack).size());
+        assertFalse(ConfigurationValidator.hasBlockingConflict(riskyCar));
+
+        RaceCar blockedCar = new RaceCar(new StandardEngine(), new HardTyre(), new WetWeatherKit(), 70.0);
+        assertTrue(ConfigurationValidator.hasBlockingConflict(blockedCar));
+    }
+
     // Helper methods for object creation
     private Engine createEngine(String type) {
         return switch (type) {
@@ -0,0 +1,90 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for EnergyDeploymentOptimiser
+ * Testing Types: Black Box, White Box, Performance
+ */
+@DisplayName("Energy Deployment Optimiser - Electric and Hybrid Energy Management")
+class EnergyDeploymentOptimiserTest {
+
+    private final RaceTrack twisty = new RaceTrack("Twisty", 4.5, 135, 24.0, false, 14, 4, false, 60);
+    private final RaceTrack flowing = new RaceTrack("Flowing", 4.5, 135, 24.0, false, 6, 0, true, 20);
+    private final RaceCar electric = new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 70.0);
+    private final RaceCar hybrid = new RaceCar(new HybridEngine(), new MediumTyre(), new StandardKit(), 80.0);
+
+    // WHITE BOX TESTING - State of charge follows the plan and stays within the battery
+    @Test
+    @DisplayName("Plan respects the battery limits lap by lap")
+    void testBatteryLimits() {
+        for (RaceCar car : new RaceCar[]{electric, hybrid}) {
+            EnergyDeploymentOptimiser.DeploymentPlan plan = EnergyDeploymentOptimiser.optimise(car, twisty);
+            double capacity = EnergyDeploymentOptimiser.batteryCapacity(car);
+            assertTrue(plan.feasible());
+            assertEquals(30, plan.deploymentKwh().length);
+            for (int lap = 0; lap < 30; lap++) {
+                assertTrue(plan.deploymentKwh()[lap] <= plan.stateOfChargeKwh()[lap] + 1e-9);
+                assertTrue(plan.stateOfChargeKwh()[lap + 1] >= 0);
+                assertTrue(plan.stateOfChargeKwh()[lap + 1] <= capacity + 1e-9);
+            }
+        }
+    }
+
+    // BLACK BOX TESTING - Deployment always helps, but only up to the full-deployment limit
+    @Test
+    @DisplayName("Time gained is positive and bounded")
+    void testTimeGained() {
+        EnergyDeploymentOptimiser.DeploymentPlan plan = EnergyDeploymentOptimiser.optimise(hybrid, flowing);
+        double baseLapTime = hybrid.calculateLapTime(flowing.getTrackLengthKm(), flowing.getTemperatureC());
+        double limit = 30 * baseLapTime * EnergyDeploymentOptimiser.MAX_GAIN * EnergyDeploymentOptimiser.STRAIGHTS_BONUS;
+
+        assertTrue(plan.timeGained() > 0);
+        assertTrue(plan.timeGained() <= limit + 1e-12);
+        assertEquals(30 * baseLapTime - plan.timeGained(), plan.totalRaceTime(), 1e-9);
+    }
+
+    // BLACK BOX TESTING - More braking zones harvest more, so a hybrid can deploy more
+    @Test
+    @DisplayName("Corners and chicanes increase deployable energy")
+    void testHarvestScalesWithCorners() {
+        RaceTrack sameLengthFewCorners = new RaceTrack("Fast", 4.5, 135, 24.0, false, 4, 0, false, 60);
+        double twistyDeploy = 0;
+        double fastDeploy = 0;
+        for (double d : EnergyDeploymentOptimiser.optimise(hybrid, twisty).deploymentKwh()) twistyDeploy += d;
+        for (double d : EnergyDeploymentOptimiser.optimise(hybrid, sameLengthFewCorners).deploymentKwh()) fastDeploy += d;
+        assertTrue(twistyDeploy > fastDeploy);
+    }
+
+    // BLACK BOX TESTING - Battery too small for the race distance
+    @Test
+    @DisplayName("Undersized battery is reported as infeasible")
+    void testInfeasible() {
+        RaceCar smallBattery = new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 10.0);
+        assertFalse(EnergyDeploymentOptimiser.optimise(smallBattery, twisty).feasible());
+        assertTrue(EnergyDeploymentOptimiser.optimise(smallBattery, twisty, 5, 10.0).feasible());
+    }
+
+    // BLACK BOX TESTING - Only electrified engines have a battery
+    @Test
+    @DisplayName("Combustion engines are rejected")
+    void testCombustionRejected() {
+        RaceCar v8 = new RaceCar(new V8Engine(), new MediumTyre(), new StandardKit(), 80.0);
+        assertThrows(IllegalArgumentException.class, () -> EnergyDeploymentOptimiser.optimise(v8, twisty));
+    }
+
+    // PERFORMANCE TESTING - A full race is solved in milliseconds
+    @Test
+    @DisplayName("Full race solves in milliseconds")
+    void testPerformance() {
+        for (int i = 0; i < 20; i++) EnergyDeploymentOptimiser.optimise(electric, twisty);
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) EnergyDeploymentOptimiser.optimise(electric, twisty);
+        double millisPerRace = (System.nanoTime() - start) / 20 / 1e6;
+        assertTrue(millisPerRace < 20, "took " + millisPerRace + " ms");
+    }
+}
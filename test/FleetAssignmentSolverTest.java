@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for FleetAssignmentSolver
+ * Testing Types: White Box, Boundary Value, Performance, Integration
+ */
+@DisplayName("Fleet Assignment Solver - Hungarian Algorithm Tests")
+class FleetAssignmentSolverTest {
+
+    // WHITE BOX TESTING - Hungarian result matches exhaustive search on small matrices
+    @ParameterizedTest
+    @DisplayName("Optimal cost matches brute force")
+    @CsvSource({
+            "4, 4, 1",
+            "3, 6, 2",
+            "6, 3, 3",
+            "7, 7, 4"
+    })
+    void testMatchesBruteForce(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        double[][] cost = new double[rows][cols];
+        for (double[] row : cost) {
+            for (int j = 0; j < cols; j++) row[j] = random.nextInt(100);
+        }
+
+        int[] assignment = FleetAssignmentSolver.solve(cost);
+
+        Set<Integer> usedCols = new HashSet<>();
+        double total = 0;
+        int assigned = 0;
+        for (int i = 0; i < rows; i++) {
+            if (assignment[i] >= 0) {
+                assertTrue(usedCols.add(assignment[i]), "column assigned twice");
+                total += cost[i][assignment[i]];
+                assigned++;
+            }
+        }
+        assertEquals(Math.min(rows, cols), assigned);
+        assertEquals(bruteForce(cost, 0, new boolean[cols], Math.max(0, rows - cols)), total, 1e-9);
+    }
+
+    // Rows may be skipped only while enough rows remain unassigned for the rectangular case
+    private double bruteForce(double[][] cost, int row, boolean[] used, int skipsLeft) {
+        if (row == cost.length) return 0;
+        double best = Double.POSITIVE_INFINITY;
+        if (skipsLeft > 0) {
+            best = bruteForce(cost, row + 1, used, skipsLeft - 1);
+        }
+        for (int j = 0; j < used.length; j++) {
+            if (!used[j]) {
+                used[j] = true;
+                best = Math.min(best, cost[row][j] + bruteForce(cost, row + 1, used, skipsLeft));
+                used[j] = false;
+            }
+        }
+        return best;
+    }
+
+    // BOUNDARY VALUE TESTING - Empty input
+    @Test
+    @DisplayName("Empty matrix gives an empty assignment")
+    void testEmptyMatrix() {
+        assertEquals(0, FleetAssignmentSolver.solve(new double[0][0]).length);
+    }
+
+    // INTEGRATION TESTING - A blocked car makes the assignment infeasible but is still placed
+    @Test
+    @DisplayName("Fleet assignment on preset tracks flags infeasible cars")
+    void testFleetAssignment() {
+        List<RaceCar> cars = List.of(
+                new RaceCar(new TurboEngine(), new HardTyre(), new LowDragKit(), 90),
+                new RaceCar(new ElectricEngine(), new SoftTyre(), new DownforceKit(), 80),
+                new RaceCar(new StandardEngine(), new HardTyre(), new WetWeatherKit(), 70));
+        List<RaceTrack> tracks = TrackFactory.getPresetTracks();
+
+        FleetAssignmentSolver.Assignment assignment = FleetAssignmentSolver.solve(cars, tracks);
+
+        assertFalse(assignment.isFeasible(), "the blocked car still has to be sent somewhere");
+        assertEquals(3, assignment.trackForCar().length);
+        assertDoesNotThrow(() -> assignment.printAssignment(cars, tracks));
+    }
+
+    // PERFORMANCE TESTING - Hundreds of cars and tracks in seconds
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    @DisplayName("400 x 400 assignment solves quickly")
+    void testLargeAssignment() {
+        Random random = new Random(11);
+        double[][] cost = new double[400][400];
+        for (double[] row : cost) {
+            for (int j = 0; j < row.length; j++) row[j] = random.nextDouble();
+        }
+        int[] assignment = FleetAssignmentSolver.solve(cost);
+        assertEquals(400, new HashSet<>(Arrays.stream(assignment).boxed().toList()).size());
+    }
+}
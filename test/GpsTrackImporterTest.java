@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test class for GpsTrackImporter
+ * Testing Types: Black Box, White Box, Integration
+ */
+@DisplayName("GPS Track Importer - Polyline Import and Geometry Cache Tests")
+class GpsTrackImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Stadium-shaped lap: two 1,000 m straights joined by two 100 m radius hairpins, climbing 40 m along the first straight
+    private Path writeStadiumTrace(Path file) throws IOException {
+        double lat0 = 45.0;
+        double metresPerDegree = Math.toRadians(1) * GpsTrackImporter.EARTH_RADIUS_M;
+        StringBuilder csv = new StringBuilder("latitude,longitude,elevation\n# stadium test lap\n");
+        double radius = 100;
+        for (double d = 0; d < 2 * 1000 + 2 * Math.PI * radius; d += 3) {
+            double x;
+            double y;
+            if (d < 1000) {
+                x = d;
+                y = 0;
+            } else if (d < 1000 + Math.PI * radius) {
+                double angle = (d - 1000) / radius;
+                x = 1000 + radius * Math.sin(angle);
+                y = radius - radius * Math.cos(angle);
+            } else if (d < 2000 + Math.PI * radius) {
+                x = 1000 - (d - 1000 - Math.PI * radius);
+                y = 2 * radius;
+            } else {
+                double angle = (d - 2000 - Math.PI * radius) / radius;
+                x = -radius * Math.sin(angle);
+                y = radius + radius * Math.cos(angle);
+            }
+            double elevation = d < 1000 ? d * 0.04 : 40 - Math.min(40, (d - 1000) * 0.02);
+            csv.append(String.format("%.8f,%.8f,%.2f\n", lat0 + y / metresPerDegree,
+                    7.0 + x / (metresPerDegree * Math.cos(Math.toRadians(lat0))), elevation));
+        }
+        Files.writeString(file, csv.toString());
+        return file;
+    }
+
+    // BLACK BOX TESTING - Measured layout matches the known shape
+    @Test
+    @DisplayName("Stadium trace yields two corners, long straights and the right length")
+    void testImportStadium() throws IOException {
+        TrackGeometry geometry = GpsTrackImporter.importTrace(writeStadiumTrace(tempDir.resolve("stadium.csv")));
+
+        assertEquals(2.628, geometry.lengthKm(), 0.03);
+        assertEquals(2, geometry.numberOfCurves());
+        assertEquals(0, geometry.numberOfChicanes());
+        assertTrue(geometry.hasLongStraights());
+        assertEquals(40, geometry.elevationGainM(), 2);
+        assertEquals(geometry.lengthKm(), geometry.sectors().stream().mapToDouble(TrackSector::lengthKm).sum(), 1e-9);
+        assertTrue(geometry.sectors().stream().anyMatch(s -> s.type() == TrackSector.SectorType.CLIMB));
+    }
+
+    // WHITE BOX TESTING - Opposite bends close together are classified as a chicane
+    @Test
+    @DisplayName("Left-right pair becomes a chicane")
+    void testChicaneDetection() {
+        double[] curvature = new double[400];
+        Arrays.fill(curvature, 100, 110, 1 / 40.0);
+        Arrays.fill(curvature, 114, 124, -1 / 40.0);
+        Arrays.fill(curvature, 300, 330, 1 / 80.0);
+
+        TrackGeometry geometry = GpsTrackImporter.buildGeometry(curvature, new double[400], 5.0);
+
+        assertEquals(1, geometry.numberOfChicanes());
+        assertEquals(1, geometry.numberOfCurves());
+        assertEquals(2.0, geometry.lengthKm(), 1e-9);
+    }
+
+    // WHITE BOX TESTING - The byte-level parser handles headers, comments, signs and exponents
+    @Test
+    @DisplayName("Line parser reads numbers without allocating strings")
+    void testParseLine() {
+        double[] out = new double[3];
+        assertEquals(3, parse("51.5074, -0.1278 ; 12\r", out));
+        assertArrayEquals(new double[]{51.5074, -0.1278, 12}, out, 1e-12);
+        assertEquals(2, parse("4.5e1,+3 # comment", out));
+        assertEquals(45.0, out[0], 1e-12);
+        assertEquals(0, parse("lat,lon,ele", out));
+        assertEquals(0, parse("# only a comment", out));
+        assertEquals(0, parse("12abc,4", out));
+    }
+
+    private int parse(String line, double[] out) {
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        return GpsTrackImporter.parseLine(ByteBuffer.wrap(bytes), 0, bytes.length, out);
+    }
+
+    // INTEGRATION TESTING - Second load comes from the binary cache and matches the import
+    @Test
+    @DisplayName("Geometry is cached on disk and reused")
+    void testBinaryCache() throws IOException {
+        Path trace = writeStadiumTrace(tempDir.resolve("stadium.csv"));
+        TrackGeometry imported = GpsTrackImporter.load(trace);
+
+        Path cache = GpsTrackImporter.cachePathFor(trace);
+        assertTrue(Files.exists(cache));
+        assertTrue(Files.size(cache) < 1024);
+
+        TrackGeometry cached = GpsTrackImporter.readCache(cache, Files.size(trace),
+                Files.getLastModifiedTime(trace).toMillis());
+        assertEquals(imported, cached);
+        assertEquals(imported, GpsTrackImporter.load(trace));
+
+        // A different source size invalidates the cache
+        assertNull(GpsTrackImporter.readCache(cache, Files.size(trace) + 1, Files.getLastModifiedTime(trace).toMillis()));
+    }
+
+    // INTEGRATION TESTING - Presets pick up measured layouts when a trace is present
+    @Test
+    @DisplayName("Preset tracks use GPS data when available")
+    void testPresetTracksWithGps() throws IOException {
+        writeStadiumTrace(tempDir.resolve("high-speed-oval.csv"));
+
+        List<RaceTrack> tracks = TrackFactory.getPresetTracks(tempDir);
+        RaceTrack oval = tracks.get(2);
+
+        assertEquals("High-Speed Oval", oval.getName());
+        assertEquals(2, oval.getNumberOfCurves());
+        assertTrue(oval.hasSectorModel());
+        assertEquals(30, Math.round(oval.getTotalDistanceKm() / oval.getTrackLengthKm()));
+        assertFalse(tracks.get(0).hasSectorModel());
+    }
+}
@@ -0,0 +1,98 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for GridRaceSimulator
+ * Testing Types: Black Box, Boundary Value, Performance
+ */
+@DisplayName("Grid Race Simulator - Multi-Car Event Queue Tests")
+class GridRaceSimulatorTest {
+
+    private final RaceTrack track = new RaceTrack("Grid Test", 4.0, 120, 25.0, false, 8, 2, true, 50);
+
+    private List<RaceCar> buildGrid(int size) {
+        Engine[] engines = {new StandardEngine(), new TurboEngine(), new ElectricEngine(), new HybridEngine(), new V8Engine()};
+        Tyre[] tyres = {new SoftTyre(), new MediumTyre(), new HardTyre()};
+        AerodynamicKit[] aeros = {new StandardKit(), new DownforceKit(), new LowDragKit(), new GroundEffectKit()};
+
+        List<RaceCar> grid = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            grid.add(new RaceCar(engines[i % engines.length], tyres[i % tyres.length], aeros[i % aeros.length], 70.0));
+        }
+        return grid;
+    }
+
+    // BLACK BOX TESTING - Every car is classified exactly once and the order follows race time
+    @Test
+    @DisplayName("Classification is a permutation ordered by finishing time")
+    void testClassificationOrder() {
+        GridRaceSimulator.GridRaceResult result = new GridRaceSimulator(track, buildGrid(20), 42).simulate();
+
+        List<GridRaceSimulator.Finisher> classification = result.classification();
+        assertEquals(20, classification.size());
+
+        Set<Integer> cars = new HashSet<>();
+        for (int i = 0; i < classification.size(); i++) {
+            assertEquals(i + 1, classification.get(i).finishPosition());
+            assertTrue(cars.add(classification.get(i).carIndex()));
+            if (i > 0) {
+                assertTrue(classification.get(i).totalRaceTime() >= classification.get(i - 1).totalRaceTime());
+            }
+        }
+    }
+
+    // BLACK BOX TESTING - Same seed, same race
+    @Test
+    @DisplayName("Simulation is deterministic for a fixed seed")
+    void testDeterministicForSeed() {
+        List<RaceCar> grid = buildGrid(30);
+        GridRaceSimulator.GridRaceResult first = new GridRaceSimulator(track, grid, 7).simulate();
+        GridRaceSimulator.GridRaceResult second = new GridRaceSimulator(track, grid, 7).simulate();
+
+        assertEquals(first.positionChanges(), second.positionChanges());
+        for (int i = 0; i < first.classification().size(); i++) {
+            assertEquals(first.classification().get(i).carIndex(), second.classification().get(i).carIndex());
+        }
+    }
+
+    // WHITE BOX TESTING - Cars whose tyres or tank run out have to stop
+    @Test
+    @DisplayName("Pit stops are taken when the strategy requires them")
+    void testPitStopsScheduled() {
+        RaceCar softCar = new RaceCar(new StandardEngine(), new SoftTyre(), new StandardKit(), 70.0);
+        GridRaceSimulator.GridRaceResult result = new GridRaceSimulator(track, List.of(softCar), 1).simulate();
+
+        int expectedStops = RaceStrategySimulator.calculateRaceResult(softCar, track).tyreChanges();
+        assertEquals(expectedStops, result.classification().get(0).pitStops());
+    }
+
+    // BOUNDARY VALUE TESTING - Empty grid
+    @Test
+    @DisplayName("Empty grid produces an empty classification")
+    void testEmptyGrid() {
+        GridRaceSimulator.GridRaceResult result = new GridRaceSimulator(track, List.of(), 1).simulate();
+        assertTrue(result.classification().isEmpty());
+        assertEquals(0, result.eventsProcessed());
+    }
+
+    // PERFORMANCE TESTING - A full 1,000-car field must stay cheap
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("1,000-car field simulates quickly")
+    void testLargeField() {
+        GridRaceSimulator.GridRaceResult result = new GridRaceSimulator(track, buildGrid(1000), 3).simulate();
+        assertEquals(1000, result.classification().size());
+        assertTrue(result.eventsProcessed() >= 1000 * 30);
+    }
+}
@@ -0,0 +1,144 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for IncidentSimulator
+ * Testing Types: Black Box, White Box, Statistical, Performance
+ */
+@DisplayName("Incident Simulator - Safety Cars, VSCs and Red Flags")
+class IncidentSimulatorTest {
+
+    private final RaceTrack track = new RaceTrack("Stochastic", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar mediumCar = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+
+    // BLACK BOX TESTING - Wet races and chicane-heavy layouts see more incidents
+    @Test
+    @DisplayName("Rain and chicanes raise the hazard rates")
+    void testHazardRates() {
+        RaceTrack noChicanes = new RaceTrack("Open", 4.5, 135, 24.0, false, 9, 0, true, 60);
+        IncidentSimulator simulator = new IncidentSimulator(track);
+        IncidentSimulator open = new IncidentSimulator(noChicanes);
+
+        for (IncidentSimulator.IncidentType type : IncidentSimulator.IncidentType.values()) {
+            assertTrue(simulator.hazardRate(type, false) > open.hazardRate(type, false));
+            assertEquals(simulator.hazardRate(type, false) * IncidentSimulator.WET_MULTIPLIER,
+                    simulator.hazardRate(type, true), 1e-12);
+        }
+        assertEquals(0.0, new IncidentSimulator(track, 0).hazardRate(IncidentSimulator.IncidentType.SAFETY_CAR, true));
+    }
+
+    // WHITE BOX TESTING - Same random state gives the same timeline, and incidents never overlap
+    @Test
+    @DisplayName("Timelines are reproducible, ordered and inside the race")
+    void testTimelineShape() {
+        IncidentSimulator simulator = new IncidentSimulator(track, 5.0);
+        for (long seed = 0; seed < 500; seed++) {
+            List<IncidentSimulator.Incident> first = simulator.draw(new SplittableRandom(seed), true);
+            assertEquals(first, simulator.draw(new SplittableRandom(seed), true));
+
+            int end = 0;
+            for (IncidentSimulator.Incident incident : first) {
+                assertTrue(incident.startLap() >= end, "incidents overlap");
+                assertTrue(incident.laps() >= 1);
+                end = incident.startLap() + incident.laps();
+                assertTrue(end <= 30);
+            }
+        }
+    }
+
+    // STATISTICAL TESTING - Incident count follows the summed rate over the laps not already neutralised
+    @Test
+    @DisplayName("Mean incident count matches the hazard rates")
+    void testMeanIncidentCount() {
+        IncidentSimulator simulator = new IncidentSimulator(track);
+        double ratePerLap = 0;
+        for (IncidentSimulator.IncidentType type : IncidentSimulator.IncidentType.values()) {
+            ratePerLap += simulator.hazardRate(type, false);
+        }
+
+        SplittableRandom random = new SplittableRandom(11);
+        int races = 20_000;
+        long incidents = 0;
+        for (int i = 0; i < races; i++) {
+            incidents += simulator.draw(random, false).size();
+        }
+        double mean = (double) incidents / races;
+        double expected = ratePerLap * 30;
+        // Laps spent under an incident cannot start another one, so the mean sits a little below rate x laps
+        assertTrue(mean < expected * 1.02, "mean " + mean + " expected below " + expected);
+        assertTrue(mean > expected * 0.85, "mean " + mean + " expected near " + expected);
+    }
+
+    // WHITE BOX TESTING - A stop due inside the pit window is made under the safety car at a discount
+    @Test
+    @DisplayName("Stops under a safety car cost less than the slow laps add")
+    void testTimeLost() {
+        double lapTime = 90 / 3600.0;
+        int stopLap = GridRaceSimulator.nextPitLap(0, 1, 30);
+        IncidentSimulator.Incident safetyCar =
+                new IncidentSimulator.Incident(IncidentSimulator.IncidentType.SAFETY_CAR, stopLap - 2, 4);
+
+        double slowLaps = 4 * lapTime * 0.40;
+        assertEquals(slowLaps, IncidentSimulator.timeLost(lapTime, 30, 0, List.of(safetyCar)), 1e-12);
+        assertEquals(slowLaps - GridRaceSimulator.PIT_LOSS * 0.5,
+                IncidentSimulator.timeLost(lapTime, 30, 1, List.of(safetyCar)), 1e-12);
+
+        // Too late for the stop: it was already made at full cost
+        IncidentSimulator.Incident late =
+                new IncidentSimulator.Incident(IncidentSimulator.IncidentType.SAFETY_CAR, stopLap + 1, 4);
+        assertEquals(slowLaps, IncidentSimulator.timeLost(lapTime, 30, 1, List.of(late)), 1e-12);
+
+        IncidentSimulator.Incident redFlag =
+                new IncidentSimulator.Incident(IncidentSimulator.IncidentType.RED_FLAG, stopLap, 1);
+        assertEquals(IncidentSimulator.RED_FLAG_STOPPAGE - GridRaceSimulator.PIT_LOSS,
+                IncidentSimulator.timeLost(lapTime, 30, 1, List.of(redFlag)), 1e-12);
+        assertEquals(0.0, IncidentSimulator.timeLost(lapTime, 30, 2, List.of()));
+    }
+
+    // BLACK BOX TESTING - Monte Carlo races with incidents are slower on average, other draws unchanged
+    @Test
+    @DisplayName("Monte Carlo with incidents keeps the other draws and adds time")
+    void testMonteCarloIntegration() {
+        MonteCarloRaceSimulator plain = new MonteCarloRaceSimulator(track, 9);
+        MonteCarloRaceSimulator withIncidents = new MonteCarloRaceSimulator(track, 9, new IncidentSimulator(track, 3.0));
+
+        double plainTotal = 0;
+        double incidentTotal = 0;
+        for (int i = 0; i < 2_000; i++) {
+            MonteCarloRaceSimulator.RaceConditions a = plain.drawConditions(i, false);
+            MonteCarloRaceSimulator.RaceConditions b = withIncidents.drawConditions(i, false);
+            assertEquals(a.temperatureC(), b.temperatureC());
+            assertEquals(a.wet(), b.wet());
+            assertEquals(a.pitDelay(), b.pitDelay());
+            assertTrue(a.incidents().isEmpty());
+
+            plainTotal += plain.simulate(mediumCar, a).totalRaceTime();
+            incidentTotal += withIncidents.simulate(mediumCar, b).totalRaceTime();
+        }
+        assertTrue(incidentTotal > plainTotal);
+    }
+
+    // PERFORMANCE TESTING - Tens of thousands of timelines are cheap enough for Monte Carlo
+    @Test
+    @DisplayName("50,000 incident timelines draw quickly")
+    void testDrawCost() {
+        IncidentSimulator simulator = new IncidentSimulator(track);
+        SplittableRandom random = new SplittableRandom(4);
+        long start = System.nanoTime();
+        int incidents = 0;
+        for (int i = 0; i < 50_000; i++) {
+            incidents += simulator.draw(random, i % 3 == 0).size();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(incidents > 0);
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,116 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for IncrementalRaceEvaluator
+ * Testing Types: Black Box, White Box
+ */
+@DisplayName("Incremental Race Evaluator - Dependency-Tracked Recomputation")
+class IncrementalRaceEvaluatorTest {
+
+    private final RaceTrack track = new RaceTrack("What-If", 4.5, 135, 24.0, false, 9, 2, true, 60);
+
+    private static void readAll(IncrementalRaceEvaluator evaluator) {
+        evaluator.result();
+        evaluator.chargingPlan();
+        evaluator.warnings();
+    }
+
+    // BLACK BOX TESTING - Same figures as the full calculation after any sequence of swaps
+    @Test
+    @DisplayName("Results match a full recalculation after swaps")
+    void testMatchesFullCalculation() {
+        IncrementalRaceEvaluator evaluator = new IncrementalRaceEvaluator(
+                new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0), track);
+        assertEquals(RaceStrategySimulator.calculateRaceResult(evaluator.getCar(), track), evaluator.result());
+
+        evaluator.setTyre(new SoftTyre());
+        evaluator.setAeroKit(new LowDragKit());
+        evaluator.setFuelTankCapacity(60.0);
+        evaluator.setEngine(new V8Engine());
+        assertEquals(RaceStrategySimulator.calculateRaceResult(evaluator.getCar(), track), evaluator.result());
+
+        RaceTrack wet = new RaceTrack("Wet", 5.0, 150, 14.0, true, 12, 3, false, 80);
+        evaluator.setTrack(wet);
+        assertEquals(RaceStrategySimulator.calculateRaceResult(evaluator.getCar(), wet), evaluator.result());
+        assertEquals(ConfigurationValidator.getWarnings(evaluator.getCar(), wet), evaluator.warnings());
+    }
+
+    // WHITE BOX TESTING - A tyre swap recomputes lap time, wear and warnings only
+    @Test
+    @DisplayName("Tyre swap does not recompute fuel or energy")
+    void testTyreSwap() {
+        IncrementalRaceEvaluator evaluator = new IncrementalRaceEvaluator(
+                new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 40.0), track);
+        readAll(evaluator);
+        evaluator.setTyre(new SoftTyre());
+        readAll(evaluator);
+
+        assertEquals(2, evaluator.computationCount(IncrementalRaceEvaluator.Output.LAP_TIME));
+        assertEquals(2, evaluator.computationCount(IncrementalRaceEvaluator.Output.TYRE_CHANGES));
+        assertEquals(2, evaluator.computationCount(IncrementalRaceEvaluator.Output.WARNINGS));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.EFFICIENCY));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.FUEL_NEEDED));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.FUEL_STOPS));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.CHARGING_PLAN));
+    }
+
+    // BLACK BOX TESTING - The cached charging plan follows the new lap time after a tyre or aero swap
+    @Test
+    @DisplayName("Charging plan race time follows tyre and aero swaps")
+    void testChargingPlanFollowsLapTime() {
+        RaceTrack endurance = new RaceTrack("Endurance", 5.0, 600, 24.0, false, 9, 2, true, 60);
+        IncrementalRaceEvaluator evaluator = new IncrementalRaceEvaluator(
+                new RaceCar(new ElectricEngine(), new HardTyre(), new StandardKit(), 40.0), endurance);
+        double before = evaluator.chargingPlan().totalRaceTime();
+
+        evaluator.setTyre(new SoftTyre());
+        evaluator.setAeroKit(new ExtremeAeroKit());
+        ChargingStopPlanner.ChargingPlan fresh = new ChargingStopPlanner(evaluator.getCar(), endurance).plan();
+
+        assertNotEquals(before, evaluator.chargingPlan().totalRaceTime());
+        assertEquals(fresh.totalRaceTime(), evaluator.chargingPlan().totalRaceTime(), 1e-9);
+        assertEquals(fresh.stops(), evaluator.chargingPlan().stops());
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.CHARGING_PLAN));
+    }
+
+    // WHITE BOX TESTING - A tank change only touches stops and charging
+    @Test
+    @DisplayName("Tank change recomputes stops and charging only")
+    void testTankChange() {
+        IncrementalRaceEvaluator evaluator = new IncrementalRaceEvaluator(
+                new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 40.0), track);
+        readAll(evaluator);
+        evaluator.setFuelTankCapacity(60.0);
+        readAll(evaluator);
+
+        assertEquals(2, evaluator.computationCount(IncrementalRaceEvaluator.Output.FUEL_STOPS));
+        assertEquals(2, evaluator.computationCount(IncrementalRaceEvaluator.Output.CHARGING_PLAN));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.LAP_TIME));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.FUEL_NEEDED));
+        assertEquals(1, evaluator.computationCount(IncrementalRaceEvaluator.Output.WARNINGS));
+    }
+
+    // WHITE BOX TESTING - Re-selecting the current component keeps the cache, outputs stay lazy
+    @Test
+    @DisplayName("Equal swap keeps cached values and nothing is computed until read")
+    void testNoOpAndLaziness() {
+        IncrementalRaceEvaluator evaluator = new IncrementalRaceEvaluator(
+                new RaceCar(new TurboEngine(), new HardTyre(), new DownforceKit(), 90.0), track);
+        assertEquals(0, evaluator.computationCount(IncrementalRaceEvaluator.Output.LAP_TIME));
+
+        readAll(evaluator);
+        evaluator.setTyre(new HardTyre());
+        evaluator.setAeroKit(new DownforceKit());
+        readAll(evaluator);
+        for (IncrementalRaceEvaluator.Output output : IncrementalRaceEvaluator.Output.values()) {
+            assertEquals(1, evaluator.computationCount(output), output.name());
+        }
+        assertNull(evaluator.chargingPlan());
+    }
+}
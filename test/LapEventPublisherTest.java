@@ -0,0 +1,161 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for LapEventPublisher
+ * Testing Types: Black Box, White Box, Concurrency
+ */
+@DisplayName("Lap Event Publisher - Reactive Lap Stream With Backpressure")
+class LapEventPublisherTest {
+
+    private final RaceTrack track = new RaceTrack("Stream", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar softCar = new RaceCar(new StandardEngine(), new SoftTyre(), new StandardKit(), 80.0);
+
+    // Records everything and requests a fixed batch on subscribe (0 = request nothing)
+    private static class RecordingSubscriber implements Flow.Subscriber<LapEventPublisher.LapEvent> {
+        final List<LapEventPublisher.LapEvent> events = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final long initialRequest;
+        final boolean oneByOne;
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        RecordingSubscriber(long initialRequest, boolean oneByOne) {
+            this.initialRequest = initialRequest;
+            this.oneByOne = oneByOne;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest != 0) subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(LapEventPublisher.LapEvent event) {
+            events.add(event);
+            if (oneByOne) subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+
+    // BLACK BOX TESTING - A full race streams every lap and then completes
+    @Test
+    @DisplayName("Full race is streamed lap by lap")
+    void testFullRace() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RecordingSubscriber subscriber = new RecordingSubscriber(1, true);
+            new RaceStrategySimulator(softCar, track).lapEvents(executor).subscribe(subscriber);
+            assertTrue(subscriber.done.await(5, TimeUnit.SECONDS));
+
+            RaceResult plan = RaceStrategySimulator.calculateRaceResult(softCar, track);
+            assertTrue(subscriber.completed);
+            assertEquals(plan.totalLaps(), subscriber.events.size());
+
+            double sum = 0;
+            for (LapEventPublisher.LapEvent event : subscriber.events) sum += event.lapTime();
+            assertEquals(sum, subscriber.events.get(subscriber.events.size() - 1).elapsedTime(), 1e-12);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // WHITE BOX TESTING - Worn soft tyres trigger stops and reset the wear
+    @Test
+    @DisplayName("Pit events follow tyre wear")
+    void testPitEvents() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, false);
+        new LapEventPublisher(softCar, track, Runnable::run).subscribe(subscriber);
+
+        long stops = subscriber.events.stream().filter(LapEventPublisher.LapEvent::pitStop).count();
+        assertEquals(RaceStrategySimulator.calculateRaceResult(softCar, track).stopsMade(), stops);
+        for (LapEventPublisher.LapEvent event : subscriber.events) {
+            assertTrue(event.tyreWear() < 1.0);
+            assertTrue(event.fuelLeft() >= 0);
+            if (event.pitStop()) assertEquals(0.0, event.tyreWear());
+        }
+    }
+
+    // BLACK BOX TESTING - Nothing is produced beyond the requested demand
+    @Test
+    @DisplayName("Producer stops at the subscriber's demand")
+    void testBackpressure() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(3, false);
+        new LapEventPublisher(softCar, track, Runnable::run).subscribe(subscriber);
+        assertEquals(3, subscriber.events.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals(5, subscriber.events.size());
+        assertEquals(5, subscriber.events.get(4).lap());
+    }
+
+    // BLACK BOX TESTING - Cancelled subscriptions receive nothing more
+    @Test
+    @DisplayName("Cancel stops the stream")
+    void testCancel() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(2, false);
+        new LapEventPublisher(softCar, track, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        assertEquals(2, subscriber.events.size());
+        assertFalse(subscriber.completed);
+    }
+
+    // NEGATIVE TESTING - Non-positive demand is a protocol violation
+    @Test
+    @DisplayName("Non-positive request signals an error")
+    void testInvalidRequest() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(0, false);
+        new LapEventPublisher(softCar, track, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(subscriber.events.isEmpty());
+    }
+
+    // NEGATIVE TESTING - A subscriber that throws gets onError and nothing more
+    @Test
+    @DisplayName("Exception in onNext cancels and signals an error")
+    void testThrowingSubscriber() {
+        IllegalStateException failure = new IllegalStateException("consumer broke");
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE, false) {
+            @Override
+            public void onNext(LapEventPublisher.LapEvent event) {
+                super.onNext(event);
+                if (event.lap() == 2) throw failure;
+            }
+        };
+        new LapEventPublisher(softCar, track, Runnable::run).subscribe(subscriber);
+
+        assertSame(failure, subscriber.error);
+        assertEquals(2, subscriber.events.size());
+        subscriber.subscription.request(5);
+        assertEquals(2, subscriber.events.size());
+        assertFalse(subscriber.completed);
+    }
+}
@@ -0,0 +1,168 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for LiveStrategyOptimiser
+ * Testing Types: Black Box, White Box, Performance
+ */
+@DisplayName("Live Strategy Optimiser - Telemetry and Anytime Re-planning")
+class LiveStrategyOptimiserTest {
+
+    private final RaceTrack track = new RaceTrack("Live", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar car = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 60.0);
+
+    // Telemetry for laps 1..count, running slower than the model by the given factor.
+    // Tyre age stays at one lap, so every lap is compared with the model's out-lap on a fresh set.
+    private List<String> telemetry(int count, double slowdown) {
+        LiveStrategyOptimiser model = new LiveStrategyOptimiser(car, track);
+        double lapSeconds = car.calculateLapTime(4.5, 24.0, 0, 0) * 3600 * slowdown;
+        double fuelPerLap = model.getFuelPerLap();
+        double fuel = Math.min(60.0, RaceStrategySimulator.calculateRaceResult(car, track).fuelNeeded());
+        List<String> lines = new ArrayList<>();
+        for (int lap = 1; lap <= count; lap++) {
+            fuel -= fuelPerLap;
+            lines.add(lap + "," + lapSeconds + ",1," + fuel);
+        }
+        return lines;
+    }
+
+    // BLACK BOX TESTING - Telemetry lines are parsed
+    @Test
+    @DisplayName("Telemetry line parsing")
+    void testParse() {
+        LiveStrategyOptimiser.TelemetrySample sample = LiveStrategyOptimiser.TelemetrySample.parse(" 12, 95.4, 7, 31.5 ");
+        assertEquals(new LiveStrategyOptimiser.TelemetrySample(12, 95.4, 7, 31.5), sample);
+        assertThrows(IllegalArgumentException.class, () -> LiveStrategyOptimiser.TelemetrySample.parse("12,95.4"));
+    }
+
+    // WHITE BOX TESTING - Pace estimate follows the observed laps
+    @Test
+    @DisplayName("Observed laps recalibrate the pace")
+    void testPaceCalibration() {
+        LiveStrategyOptimiser optimiser = new LiveStrategyOptimiser(car, track);
+        for (String line : telemetry(15, 1.05)) {
+            optimiser.observe(LiveStrategyOptimiser.TelemetrySample.parse(line));
+        }
+        assertEquals(15, optimiser.getLapsCompleted());
+        assertTrue(optimiser.getPaceFactor() > 1.03, "pace " + optimiser.getPaceFactor());
+    }
+
+    // BLACK BOX TESTING - Full search never does worse than the rule-based plan it starts from
+    @Test
+    @DisplayName("Unlimited budget completes the search")
+    void testCompleteSearch() {
+        LiveStrategyOptimiser optimiser = new LiveStrategyOptimiser(car, track);
+        optimiser.observe(LiveStrategyOptimiser.TelemetrySample.parse(telemetry(1, 1.0).get(0)));
+
+        LiveStrategyOptimiser.StrategyPlan ruleBased = optimiser.reoptimise(0);
+        LiveStrategyOptimiser.StrategyPlan searched = optimiser.reoptimise(Long.MAX_VALUE / 4);
+        assertTrue(searched.complete());
+        assertTrue(searched.predictedRemainingTime() <= ruleBased.predictedRemainingTime());
+        assertTrue(Double.isFinite(ruleBased.predictedRemainingTime()));
+        for (LiveStrategyOptimiser.PlannedStop stop : searched.stops()) {
+            assertTrue(stop.lap() > 1 && stop.lap() < 30);
+        }
+    }
+
+    // PERFORMANCE TESTING - A 5 ms budget is honoured and still yields a plan
+    @Test
+    @DisplayName("Re-planning respects the latency budget")
+    void testBudget() {
+        LiveStrategyOptimiser optimiser = new LiveStrategyOptimiser(car, track);
+        for (int i = 0; i < 20; i++) optimiser.reoptimise(5_000_000);
+
+        long start = System.nanoTime();
+        LiveStrategyOptimiser.StrategyPlan plan = optimiser.reoptimise(5_000_000);
+        double millis = (System.nanoTime() - start) / 1e6;
+        assertTrue(millis < 15, "took " + millis + " ms");
+        assertTrue(Double.isFinite(plan.predictedRemainingTime()));
+        assertTrue(plan.plansEvaluated() > 0);
+    }
+
+    // INTEGRATION TESTING - One plan per telemetry line from a stream
+    @Test
+    @DisplayName("Follows a telemetry stream")
+    void testFollow() throws Exception {
+        LiveStrategyOptimiser optimiser = new LiveStrategyOptimiser(car, track);
+        List<LiveStrategyOptimiser.StrategyPlan> plans = new ArrayList<>();
+        String input = String.join("\n", telemetry(10, 1.0)) + "\n";
+        optimiser.follow(new BufferedReader(new StringReader(input)), 2_000_000, plans::add);
+        assertEquals(10, plans.size());
+        assertEquals(10, optimiser.getLapsCompleted());
+    }
+
+    // INTEGRATION TESTING - Tailing a file stops after the final lap
+    @Test
+    @DisplayName("Tails a telemetry file to the end of the race")
+    void testTail(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("telemetry.csv");
+        Files.write(file, telemetry(30, 1.0));
+        LiveStrategyOptimiser optimiser = new LiveStrategyOptimiser(car, track);
+        List<LiveStrategyOptimiser.StrategyPlan> plans = new ArrayList<>();
+        optimiser.tail(file, 1_000_000, 5, plans::add);
+        assertEquals(30, plans.size());
+        assertTrue(plans.get(29).stops().isEmpty());
+    }
+
+    // NEGATIVE TESTING - Malformed lines are skipped and counted, and the feed carries on
+    @Test
+    @DisplayName("Malformed telemetry lines are skipped")
+    void testMalformedLinesSkipped(@TempDir Path directory) throws Exception {
+        List<String> lines = new ArrayList<>(telemetry(30, 1.0));
+        lines.add(3, "4,not-a-number,1,50");
+        lines.add(10, "garbage");
+        lines.add(20, "12,95.0,1");
+
+        Path file = directory.resolve("telemetry.csv");
+        Files.write(file, lines);
+        LiveStrategyOptimiser tailed = new LiveStrategyOptimiser(car, track);
+        List<LiveStrategyOptimiser.StrategyPlan> plans = new ArrayList<>();
+        tailed.tail(file, 1_000_000, 5, plans::add);
+        assertEquals(30, plans.size());
+        assertEquals(30, tailed.getLapsCompleted());
+        assertEquals(3, tailed.getSkippedLines());
+
+        LiveStrategyOptimiser followed = new LiveStrategyOptimiser(car, track);
+        followed.follow(new BufferedReader(new StringReader(String.join("\n", lines))), 1_000_000, plan -> { });
+        assertEquals(30, followed.getLapsCompleted());
+        assertEquals(3, followed.getSkippedLines());
+    }
+
+    // NEGATIVE TESTING - A writer that stops before the last lap ends the tail instead of hanging
+    @Test
+    @DisplayName("Tail times out when the file stops growing")
+    void testTailTimeout(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("telemetry.csv");
+        Files.write(file, telemetry(5, 1.0));
+        LiveStrategyOptimiser optimiser = new LiveStrategyOptimiser(car, track);
+        List<LiveStrategyOptimiser.StrategyPlan> plans = new ArrayList<>();
+        assertThrows(TimeoutException.class, () -> optimiser.tail(file, 1_000_000, 5, 100, plans::add));
+        assertEquals(5, plans.size());
+    }
+
+    // BOUNDARY VALUE TESTING - A tank that cannot cover a single lap gives an infeasible plan, not a silent one
+    @Test
+    @DisplayName("No feasible plan is reported as infeasible")
+    void testInfeasiblePlan() {
+        RaceCar tinyTank = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 0.1);
+        LiveStrategyOptimiser.StrategyPlan plan = new LiveStrategyOptimiser(tinyTank, track).reoptimise(5_000_000);
+        assertFalse(plan.feasible());
+        assertTrue(plan.stops().isEmpty());
+        assertDoesNotThrow(plan::printPlan);
+
+        assertTrue(new LiveStrategyOptimiser(car, track).reoptimise(5_000_000).feasible());
+    }
+}
@@ -0,0 +1,88 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Test class for LongResultMap
+ * Testing Types: Black Box, White Box, Negative Testing
+ */
+@DisplayName("Long Result Map - Primitive Open Addressing")
+class LongResultMapTest {
+
+    // BLACK BOX TESTING - Values come back as stored, across resizes
+    @Test
+    @DisplayName("Stores and returns rows across resizes")
+    void testPutAndGet() {
+        LongResultMap map = new LongResultMap(2);
+        for (long key = -500; key < 5_000; key++) {
+            map.put(key * 7919, key, key * 0.5);
+        }
+        assertEquals(5_500, map.size());
+
+        double[] row = new double[2];
+        for (long key = -500; key < 5_000; key++) {
+            assertTrue(map.get(key * 7919, row));
+            assertEquals(key, row[0]);
+            assertEquals(key * 0.5, row[1]);
+        }
+        assertFalse(map.get(3, row));
+        assertFalse(map.containsKey(Long.MIN_VALUE));
+    }
+
+    // WHITE BOX TESTING - Matches a boxed HashMap under random puts and overwrites
+    @Test
+    @DisplayName("Agrees with HashMap on random keys")
+    void testAgainstHashMap() {
+        LongResultMap map = new LongResultMap(1);
+        Map<Long, Double> reference = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(8);
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextLong(2_000) << 40;   // many keys differ only in high bits
+            double value = random.nextDouble();
+            map.setValue(map.slotFor(key), 0, value);
+            reference.put(key, value);
+        }
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.value(map.find(key), 0)));
+    }
+
+    // BLACK BOX TESTING - With no values it is a set
+    @Test
+    @DisplayName("Zero-width map works as a set")
+    void testSetUse() {
+        LongResultMap seen = new LongResultMap(0);
+        assertTrue(seen.add(42));
+        assertFalse(seen.add(42));
+        assertTrue(seen.add(0));
+        assertEquals(2, seen.size());
+
+        seen.clear();
+        assertEquals(0, seen.size());
+        assertTrue(seen.add(42));
+    }
+
+    // WHITE BOX TESTING - Flat arrays: about 1.7-3.3x a key and its values at the 0.6 load factor
+    @Test
+    @DisplayName("Memory stays within the flat-array bound")
+    void testCompactMemory() {
+        LongResultMap map = new LongResultMap(1, 10_000);
+        for (long key = 0; key < 10_000; key++) {
+            map.put(key, key);
+        }
+        assertTrue(map.memoryBytes() <= 10_000L * 16 * 4);
+    }
+
+    // NEGATIVE TESTING - Reserved key and mismatched rows are rejected
+    @Test
+    @DisplayName("Reserved key and wrong row width are rejected")
+    void testInvalidUse() {
+        LongResultMap map = new LongResultMap(2);
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LongResultMap(-1));
+    }
+}
@@ -0,0 +1,135 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for MonteCarloRaceSimulator
+ * Testing Types: Black Box, White Box, Statistical
+ */
+@DisplayName("Monte Carlo Race Simulator - Common Random Numbers and Antithetic Variates")
+class MonteCarloRaceSimulatorTest {
+
+    private final RaceTrack track = new RaceTrack("Stochastic", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar mediumCar = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+    private final RaceCar downforceCar = new RaceCar(new StandardEngine(), new MediumTyre(), new DownforceKit(), 80.0);
+
+    // BLACK BOX TESTING - Draws are reproducible, so every setup can see the same conditions
+    @Test
+    @DisplayName("Conditions depend only on seed and sample index")
+    void testConditionsReproducible() {
+        MonteCarloRaceSimulator first = new MonteCarloRaceSimulator(track, 5);
+        MonteCarloRaceSimulator second = new MonteCarloRaceSimulator(track, 5);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.drawConditions(i, false), second.drawConditions(i, false));
+        }
+    }
+
+    // WHITE BOX TESTING - Identical setups under common numbers differ by exactly zero
+    @Test
+    @DisplayName("Same setup compared with common random numbers has zero difference")
+    void testSameSetupZeroDifference() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 1);
+        MonteCarloRaceSimulator.SetupComparison comparison =
+                simulator.compare(mediumCar, mediumCar, 200, MonteCarloRaceSimulator.SamplingMode.COMMON);
+        assertEquals(0.0, comparison.meanDifference(), 1e-12);
+        assertEquals(0.0, comparison.standardError(), 1e-12);
+        assertFalse(comparison.isSignificant());
+    }
+
+    // STATISTICAL TESTING - Common numbers shrink the standard error by a large factor
+    @Test
+    @DisplayName("Common random numbers need far fewer samples than independent ones")
+    void testVarianceReduction() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 3);
+        MonteCarloRaceSimulator.SetupComparison independent =
+                simulator.compare(mediumCar, downforceCar, 2_000, MonteCarloRaceSimulator.SamplingMode.INDEPENDENT);
+        MonteCarloRaceSimulator.SetupComparison common =
+                simulator.compare(mediumCar, downforceCar, 2_000, MonteCarloRaceSimulator.SamplingMode.COMMON);
+        MonteCarloRaceSimulator.SetupComparison antithetic =
+                simulator.compare(mediumCar, downforceCar, 1_000, MonteCarloRaceSimulator.SamplingMode.ANTITHETIC);
+
+        // Standard error scales with 1/sqrt(n): a 10x smaller sample budget is worth ~3.2x in error
+        assertTrue(common.standardError() * Math.sqrt(10) < independent.standardError());
+        assertTrue(antithetic.standardError() <= common.standardError() * Math.sqrt(2) * 1.05);
+        assertTrue(common.isSignificant());
+        assertEquals(Math.signum(common.meanDifference()), Math.signum(independent.meanDifference()));
+    }
+
+    // WHITE BOX TESTING - Normal quantiles used for the draws
+    @ParameterizedTest
+    @DisplayName("Inverse normal approximation")
+    @CsvSource({
+            "0.5, 0.0",
+            "0.975, 1.959964",
+            "0.025, -1.959964",
+            "0.001, -3.090232"
+    })
+    void testInverseNormal(double p, double expected) {
+        assertEquals(expected, MonteCarloRaceSimulator.inverseNormal(p), 1e-5);
+    }
+
+    // BLACK BOX TESTING - Rain makes the race slower
+    @Test
+    @DisplayName("Wet conditions slow the race down")
+    void testWetConditionsSlower() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 1);
+        MonteCarloRaceSimulator.RaceConditions dry = new MonteCarloRaceSimulator.RaceConditions(24.0, false, 1.0, 0);
+        MonteCarloRaceSimulator.RaceConditions wet = new MonteCarloRaceSimulator.RaceConditions(24.0, true, 1.0, 0);
+        assertTrue(simulator.simulate(mediumCar, wet).totalRaceTime() > simulator.simulate(mediumCar, dry).totalRaceTime());
+    }
+
+    // STATISTICAL TESTING - Sketched percentiles are ordered and bracket the single-sample results
+    @Test
+    @DisplayName("Outcome distribution percentiles")
+    void testDistribution() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 4);
+        RaceDistribution distribution = simulator.distribution(mediumCar, 20_000);
+        assertEquals(20_000, distribution.count());
+
+        RaceDistribution.Percentiles time = distribution.raceTimeMinutes();
+        assertTrue(time.p5() < time.p50() && time.p50() < time.p95());
+        assertTrue(distribution.stops().p5() <= distribution.stops().p95());
+
+        double fastest = Double.MAX_VALUE;
+        double slowest = 0;
+        for (int i = 0; i < 20_000; i++) {
+            double minutes = simulator.simulate(mediumCar, i).totalRaceTime() * 60;
+            fastest = Math.min(fastest, minutes);
+            slowest = Math.max(slowest, minutes);
+        }
+        assertTrue(time.p5() >= fastest && time.p95() <= slowest);
+    }
+
+    // WHITE BOX TESTING - Antithetic twins mirror the incident draws too, not only the four condition uniforms
+    @Test
+    @DisplayName("Antithetic twin gets mirrored incidents")
+    void testAntitheticIncidentsMirrored() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 6, new IncidentSimulator(track, 20));
+        int sameWeather = 0;
+        int differentIncidents = 0;
+        for (int i = 0; i < 200; i++) {
+            MonteCarloRaceSimulator.RaceConditions draw = simulator.drawConditions(i, false);
+            MonteCarloRaceSimulator.RaceConditions twin = simulator.drawConditions(i, true);
+            if (draw.wet() != twin.wet()) continue;
+            sameWeather++;
+            if (!draw.incidents().equals(twin.incidents())) differentIncidents++;
+        }
+        assertTrue(sameWeather > 0);
+        assertTrue(differentIncidents > sameWeather / 2);
+    }
+
+    // NEGATIVE TESTING - A comparison needs at least one observation
+    @Test
+    @DisplayName("Comparison rejects a non-positive observation count")
+    void testCompareRejectsNoObservations() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> simulator.compare(mediumCar, downforceCar, 0, MonteCarloRaceSimulator.SamplingMode.COMMON));
+    }
+}
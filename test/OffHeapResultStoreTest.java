@@ -0,0 +1,216 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Test class for OffHeapResultStore
+ * Testing Types: Black Box, White Box, Negative Testing
+ */
+@DisplayName("Off-Heap Result Store - Direct and Mapped Records")
+class OffHeapResultStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static RaceResult result(SplittableRandom random) {
+        return new RaceResult(random.nextDouble(0.003, 0.005), 30, random.nextDouble(0.1, 0.2),
+                random.nextDouble(20, 90), random.nextInt(1, 4), random.nextInt(0, 5));
+    }
+
+    // BLACK BOX TESTING - Records come back exactly as appended, across chunk boundaries
+    @Test
+    @DisplayName("Random access returns every appended record")
+    void testAppendAndRead() {
+        SplittableRandom random = new SplittableRandom(1);
+        List<RaceResult> expected = new ArrayList<>();
+        int records = OffHeapResultStore.CHUNK_RECORDS * 2 + 17;
+
+        try (OffHeapResultStore store = OffHeapResultStore.inMemory()) {
+            for (int i = 0; i < records; i++) {
+                RaceResult r = result(random);
+                expected.add(r);
+                assertEquals(i, store.append(i / 10, i % 10, r));
+            }
+            assertEquals(records, store.size());
+            for (int i = 0; i < records; i += 997) {
+                assertEquals(expected.get(i), store.result(i));
+                assertEquals(i / 10, store.trackIndex(i));
+                assertEquals(i % 10, store.setupKey(i));
+            }
+            assertEquals(expected.get(records - 1), store.result(records - 1));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    // BLACK BOX TESTING - Bulk append writes one track against many setups
+    @Test
+    @DisplayName("Bulk append stores a whole sweep row")
+    void testAppendAll() throws IOException {
+        SplittableRandom random = new SplittableRandom(2);
+        RaceResult[] results = new RaceResult[5];
+        for (int i = 0; i < results.length; i++) results[i] = result(random);
+
+        try (OffHeapResultStore store = OffHeapResultStore.inMemory()) {
+            store.append(0, 0, results[0]);
+            assertEquals(1, store.appendAll(7, new int[]{10, 11, 12, 13, 14}, results));
+            assertEquals(6, store.size());
+            assertEquals(7, store.trackIndex(5));
+            assertEquals(14, store.setupKey(5));
+            assertEquals(results[4], store.result(5));
+            assertThrows(IllegalArgumentException.class, () -> store.appendAll(1, new int[2], results));
+        }
+    }
+
+    // WHITE BOX TESTING - In-place sort orders by race time and keeps every record intact
+    @Test
+    @DisplayName("Sorted scans visit results fastest first")
+    void testSortedScan() throws IOException {
+        SplittableRandom random = new SplittableRandom(3);
+        try (OffHeapResultStore store = OffHeapResultStore.inMemory()) {
+            double sum = 0;
+            for (int i = 0; i < 100_000; i++) {
+                RaceResult r = result(random);
+                sum += r.totalRaceTime();
+                store.append(i, i, r);
+            }
+            assertThrows(IllegalStateException.class, () -> store.lowerBound(0.15));
+
+            store.sortByRaceTime();
+            assertTrue(store.isSorted());
+            double sortedSum = 0;
+            for (long i = 0; i < store.size(); i++) {
+                if (i > 0) assertTrue(store.totalRaceTime(i - 1) <= store.totalRaceTime(i));
+                sortedSum += store.totalRaceTime(i);
+                // Track and setup moved with their result
+                assertEquals(store.trackIndex(i), store.setupKey(i));
+            }
+            assertEquals(sum, sortedSum, 1e-6);
+
+            List<Double> band = new ArrayList<>();
+            store.scanRaceTimes(0.12, 0.13, i -> band.add(store.totalRaceTime(i)));
+            assertFalse(band.isEmpty());
+            band.forEach(t -> assertTrue(t >= 0.12 && t < 0.13));
+            assertEquals(store.lowerBound(0.13) - store.lowerBound(0.12), band.size());
+
+            store.append(0, 0, result(random));
+            assertFalse(store.isSorted());
+        }
+    }
+
+    // WHITE BOX TESTING - Chunks are sorted one by one and merged, in memory and through the scratch file
+    @Test
+    @DisplayName("Multi-chunk sort merges chunks and leaves no scratch file")
+    void testChunkedMergeSort() throws IOException {
+        int records = OffHeapResultStore.CHUNK_RECORDS * 3 + 1234;
+        Path file = tempDir.resolve("large.rso");
+        try (OffHeapResultStore memory = OffHeapResultStore.inMemory();
+             OffHeapResultStore mapped = OffHeapResultStore.mapped(file)) {
+            for (OffHeapResultStore store : List.of(memory, mapped)) {
+                SplittableRandom random = new SplittableRandom(7);
+                long trackSum = 0;
+                for (int i = 0; i < records; i++) {
+                    store.append(i, i, result(random));
+                    trackSum += i;
+                }
+                store.sortByRaceTime();
+                assertEquals(records, store.size());
+                long sortedTrackSum = 0;
+                for (long i = 0; i < records; i++) {
+                    if (i > 0) assertTrue(store.totalRaceTime(i - 1) <= store.totalRaceTime(i));
+                    assertEquals(store.trackIndex(i), store.setupKey(i));
+                    sortedTrackSum += store.trackIndex(i);
+                }
+                assertEquals(trackSum, sortedTrackSum);
+            }
+            for (long i = 0; i < records; i += 101) {
+                assertEquals(memory.result(i), mapped.result(i));
+            }
+        }
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    // BLACK BOX TESTING - A mapped store survives closing and reopening
+    @Test
+    @DisplayName("Mapped store reopens with its records and sort order")
+    void testMappedReopen() throws IOException {
+        Path file = tempDir.resolve("sweep.rso");
+        SplittableRandom random = new SplittableRandom(4);
+        List<RaceResult> expected = new ArrayList<>();
+        int records = OffHeapResultStore.CHUNK_RECORDS + 100;
+
+        try (OffHeapResultStore store = OffHeapResultStore.mapped(file)) {
+            for (int i = 0; i < records; i++) {
+                RaceResult r = result(random);
+                expected.add(r);
+                store.append(i, i % 50, r);
+            }
+        }
+        try (OffHeapResultStore store = OffHeapResultStore.mapped(file)) {
+            assertEquals(records, store.size());
+            assertEquals(expected.get(0), store.result(0));
+            assertEquals(expected.get(records - 1), store.result(records - 1));
+            store.sortByRaceTime();
+            store.append(records, 1, expected.get(0));
+        }
+        try (OffHeapResultStore store = OffHeapResultStore.mapped(file)) {
+            assertEquals(records + 1, store.size());
+            assertFalse(store.isSorted());
+            assertEquals(expected.get(0), store.result(records));
+        }
+    }
+
+    // NEGATIVE TESTING - Foreign files and out-of-range indices are rejected
+    @Test
+    @DisplayName("Foreign files and bad indices are rejected")
+    void testInvalidUse() throws IOException {
+        Path foreign = tempDir.resolve("foreign.bin");
+        Files.write(foreign, new byte[128]);
+        assertThrows(IOException.class, () -> OffHeapResultStore.mapped(foreign));
+
+        try (OffHeapResultStore store = OffHeapResultStore.inMemory()) {
+            assertThrows(IndexOutOfBoundsException.class, () -> store.result(0));
+            store.append(0, 0, result(new SplittableRandom(5)));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.totalRaceTime(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.scan(0, 2, i -> { }));
+        }
+    }
+
+    // WHITE BOX TESTING - The header is written per batch, and a closed store frees its memory and refuses use
+    @Test
+    @DisplayName("Header follows batches; closed store cannot be used")
+    void testHeaderAndClose() throws IOException {
+        Path file = tempDir.resolve("batches.rso");
+        SplittableRandom random = new SplittableRandom(6);
+        RaceResult[] row = {result(random), result(random), result(random)};
+
+        OffHeapResultStore store = OffHeapResultStore.mapped(file);
+        store.appendAll(7, new int[]{1, 2, 3}, row);
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file), 0, OffHeapResultStore.HEADER_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(3, header.getLong(8));
+
+        store.close();
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.result(0));
+        assertThrows(IllegalStateException.class, () -> store.append(8, 1, row[0]));
+        assertThrows(IllegalStateException.class, store::flush);
+
+        try (OffHeapResultStore reopened = OffHeapResultStore.mapped(file)) {
+            assertEquals(3, reopened.size());
+            assertEquals(row[2], reopened.result(2));
+        }
+    }
+}
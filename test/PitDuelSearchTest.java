@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for PitDuelSearch
+ * Testing Types: Black Box, White Box, Performance
+ */
+@DisplayName("Pit Duel Search - Undercut and Overcut Game Tree")
+class PitDuelSearchTest {
+
+    private final RaceTrack track = new RaceTrack("Duel", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar us = new RaceCar(new StandardEngine(), new SoftTyre(), new StandardKit(), 80.0);
+    private final RaceCar rival = new RaceCar(new StandardEngine(), new SoftTyre(), new StandardKit(), 80.0);
+
+    // Plain minimax over the same moves, no pruning and no table
+    private static int minimax(PitDuelSearch search, long state, int depth, int totalLaps) {
+        if (PitDuelSearch.lap(state) >= totalLaps) return PitDuelSearch.gap(state);
+        if (depth == 0) return search.estimate(state);
+        int best = Integer.MIN_VALUE;
+        for (int ours = 0; ours < 4; ours++) {
+            int worst = Integer.MAX_VALUE;
+            for (int theirs = 0; theirs < 4; theirs++) {
+                worst = Math.min(worst, minimax(search, search.next(state, ours, theirs), depth - 1, totalLaps));
+            }
+            best = Math.max(best, worst);
+        }
+        return best;
+    }
+
+    // Cheapest finish with no stop, or exactly one stop at the end of the first lap onto a fresh set
+    private static int finishWithAtMostOneStop(PitDuelSearch search, int car, int compound, int age, int left) {
+        int noStop = 0;
+        for (int i = 0; i < left; i++) noStop += search.lapMs(car, compound, age + i);
+        int best = noStop;
+        for (int fresh = 0; fresh < 3; fresh++) {
+            int oneStop = search.lapMs(car, compound, age) + PitDuelSearch.PIT_LOSS_MS;
+            for (int i = 0; i < left - 1; i++) oneStop += search.lapMs(car, fresh, i);
+            best = Math.min(best, oneStop);
+        }
+        return best;
+    }
+
+    // WHITE BOX TESTING - The leaf estimate allows one more stop per car, never two
+    @Test
+    @DisplayName("Leaf estimate allows at most one more stop")
+    void testEstimateAtMostOneStop() {
+        PitDuelSearch search = new PitDuelSearch(us, rival, track);
+        int[][] positions = {{0, 0, 0, 0}, {2, 1_500, 20, 4}, {15, -800, 9, 12}};
+        for (int[] p : positions) {
+            int left = 30 - p[0];
+            long state = PitDuelSearch.encode(p[0], p[1], p[2], 0, p[3], 0);
+            int expected = p[1] + finishWithAtMostOneStop(search, 1, 0, p[3], left)
+                    - finishWithAtMostOneStop(search, 0, 0, p[2], left);
+            assertEquals(expected, search.estimate(state));
+        }
+    }
+
+    // WHITE BOX TESTING - State packing round trip, including negative gaps
+    @Test
+    @DisplayName("State encoding round trip")
+    void testEncoding() {
+        long state = PitDuelSearch.encode(27, -1_234_567, 45, 2, 3, 1);
+        assertEquals(27, PitDuelSearch.lap(state));
+        assertEquals(-1_234_567, PitDuelSearch.gap(state));
+        assertEquals(45, PitDuelSearch.ourAge(state));
+        assertEquals(2, PitDuelSearch.ourCompound(state));
+        assertEquals(3, PitDuelSearch.rivalAge(state));
+        assertEquals(1, PitDuelSearch.rivalCompound(state));
+        assertEquals(PitDuelSearch.MAX_AGE, PitDuelSearch.ourAge(PitDuelSearch.encode(0, 0, 500, 0, 0, 0)));
+    }
+
+    // WHITE BOX TESTING - Pruning and the transposition table do not change the minimax value
+    @Test
+    @DisplayName("Alpha-beta value equals plain minimax")
+    void testMatchesMinimax() {
+        PitDuelSearch search = new PitDuelSearch(us, rival, track);
+        int[][] positions = {{20, 400, 3, 5}, {24, -600, 6, 2}, {10, 2_500, 1, 4}};
+        for (int[] p : positions) {
+            long state = PitDuelSearch.encode(p[0], p[1], p[2], 0, p[3], 0);
+            for (int depth = 1; depth <= 3; depth++) {
+                int expected = minimax(search, state, depth, 30);
+                PitDuelSearch fresh = new PitDuelSearch(us, rival, track);
+                assertEquals(expected, fresh.search(state, depth, Integer.MIN_VALUE + 1, Integer.MAX_VALUE));
+            }
+        }
+    }
+
+    // BLACK BOX TESTING - Nothing to gain from a stop on the final lap
+    @Test
+    @DisplayName("Stays out on the last lap")
+    void testLastLap() {
+        PitDuelSearch.Decision decision = new PitDuelSearch(us, rival, track)
+                .decide(29, 0.5, 10, new SoftTyre(), 10, new SoftTyre(), 5_000_000);
+        assertEquals(PitDuelSearch.Action.STAY, decision.action());
+        assertTrue(decision.solved());
+    }
+
+    // BLACK BOX TESTING - Worn-out tyres with most of the race to go: pit rather than stay out
+    @Test
+    @DisplayName("Worn tyres with many laps left call for a stop")
+    void testWornTyresPit() {
+        // Long laps make the worn-tyre loss per lap large compared with the pit lane loss
+        RaceTrack longLaps = new RaceTrack("Long Lap", 15.0, 450, 24.0, false, 20, 4, true, 60);
+        PitDuelSearch.Decision decision = new PitDuelSearch(us, rival, longLaps)
+                .decide(8, -30.0, 6, new SoftTyre(), 0, new HardTyre(), 500_000_000);
+        assertNotEquals(PitDuelSearch.Action.STAY, decision.action());
+    }
+
+    // BLACK BOX TESTING - A rival that can answer on the same lap covers the stop, so the gap holds
+    @Test
+    @DisplayName("Rival covers an undercut attempt")
+    void testRivalCovers() {
+        PitDuelSearch.Decision decision = new PitDuelSearch(us, rival, track)
+                .decide(20, -0.4, 6, new MediumTyre(), 6, new MediumTyre(), 500_000_000);
+        assertTrue(decision.solved());
+        assertEquals(-0.4, decision.expectedGapSeconds(), 1e-9);
+    }
+
+    // PERFORMANCE TESTING - A decision arrives within the pit-wall budget
+    @Test
+    @DisplayName("Decision within the time budget")
+    void testBudget() {
+        PitDuelSearch search = new PitDuelSearch(us, rival, track);
+        for (int i = 0; i < 5; i++) search.decide(2, 0.8, 2, new SoftTyre(), 2, new MediumTyre(), 5_000_000);
+
+        long start = System.nanoTime();
+        PitDuelSearch.Decision decision = search.decide(2, 0.8, 2, new SoftTyre(), 2, new MediumTyre(), 5_000_000);
+        double millis = (System.nanoTime() - start) / 1e6;
+        assertTrue(millis < 20, "took " + millis + " ms");
+        assertTrue(decision.depthReached() >= 1);
+        assertFalse(decision.solved());
+    }
+}
@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for PointMassLapSolver
+ * Testing Types: Black Box, Boundary Value, Performance
+ */
+@DisplayName("Point-Mass Lap Solver - Speed Profile Integration Tests")
+class PointMassLapSolverTest {
+
+    private final PointMassLapSolver solver = new PointMassLapSolver();
+    private final RaceTrack track = new RaceTrack("Physics", 5.0, 150, 25.0, false, 10, 3, true, 0);
+    private final RaceCar car = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+
+    // BOUNDARY VALUE TESTING - Lap can't beat flat-out top speed or be absurdly slow
+    @Test
+    @DisplayName("Lap time lies between top-speed and crawling bounds")
+    void testLapTimeBounds() {
+        double lapTime = solver.calculateLapTime(car, track);
+        double flatOut = track.getTrackLengthKm() / car.calculateOverallSpeed();
+
+        assertTrue(lapTime > flatOut);
+        assertTrue(lapTime < flatOut * 5);
+    }
+
+    // BLACK BOX TESTING - Quicker 0-100 time means a quicker lap
+    @Test
+    @DisplayName("Engine acceleration is used")
+    void testAccelerationMatters() {
+        RaceCar electric = new RaceCar(new ElectricEngine(), new MediumTyre(), new StandardKit(), 80.0);
+        RaceTrack straightLine = track.withSectors(List.of(TrackSector.chicane(0.1), TrackSector.straight(1.0)));
+        // Electric also has more top speed, so compare against the pure top-speed bound gap
+        double standardGap = solver.calculateLapTime(car, straightLine) - 1.1 / car.calculateOverallSpeed();
+        double electricGap = solver.calculateLapTime(electric, straightLine) - 1.1 / electric.calculateOverallSpeed();
+        assertTrue(electricGap < standardGap);
+    }
+
+    // BLACK BOX TESTING - Elevation gain is used
+    @Test
+    @DisplayName("A climb makes the lap slower")
+    void testClimbSlowsLap() {
+        RaceTrack flat = track.withSectors(List.of(TrackSector.corner(0.2), TrackSector.straight(1.0)));
+        RaceTrack hilly = track.withSectors(List.of(TrackSector.corner(0.2), TrackSector.climb(1.0, 80)));
+        assertTrue(solver.calculateLapTime(car, hilly) > solver.calculateLapTime(car, flat));
+    }
+
+    // BLACK BOX TESTING - Brake efficiency is used
+    @Test
+    @DisplayName("Better brakes give a quicker lap on a stop-start track")
+    void testBrakesMatter() {
+        RaceCar strongBrakes = new RaceCar(new StandardEngine(), new MediumTyre(), new WetWeatherKit(), 80.0);
+        RaceCar weakBrakes = new RaceCar(new StandardEngine(), new MediumTyre(), new LowDragKit(), 80.0);
+        RaceTrack stopStart = track.withSectors(List.of(TrackSector.straight(0.8), TrackSector.chicane(0.2)));
+
+        // Normalise by top speed so only the braking zone differs meaningfully
+        double strong = solver.calculateLapTime(strongBrakes, stopStart) * strongBrakes.calculateOverallSpeed();
+        double weak = solver.calculateLapTime(weakBrakes, stopStart) * weakBrakes.calculateOverallSpeed();
+        assertTrue(strong < weak);
+    }
+
+    // BLACK BOX TESTING - Wet track is slower
+    @Test
+    @DisplayName("Wet track reduces grip")
+    void testWetTrackSlower() {
+        RaceTrack wet = new RaceTrack("Physics Wet", 5.0, 150, 25.0, true, 10, 3, true, 0);
+        assertTrue(solver.calculateLapTime(car, wet) > solver.calculateLapTime(car, track));
+    }
+
+    // PERFORMANCE TESTING - Fast enough for the inner loop of an optimiser
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    @DisplayName("Thousands of laps per second")
+    void testSolverSpeed() {
+        RaceTrack sectorTrack = track.withSectors(TrackFactory.deriveSectors(track));
+        double total = 0;
+        for (int i = 0; i < 5_000; i++) {
+            total += solver.calculateLapTime(car, sectorTrack);
+        }
+        assertTrue(total > 0);
+    }
+}
@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for QuantileSketch
+ * Testing Types: Black Box, White Box, Statistical
+ */
+@DisplayName("Quantile Sketch - Streaming Mergeable Percentiles")
+class QuantileSketchTest {
+
+    // Fraction of values below the estimate, compared against the requested rank
+    private static double rankError(double[] sorted, double estimate, double q) {
+        int below = Arrays.binarySearch(sorted, estimate);
+        if (below < 0) below = -below - 1;
+        return Math.abs(below / (double) sorted.length - q);
+    }
+
+    // STATISTICAL TESTING - p5/p50/p95 within the stated rank error
+    @Test
+    @DisplayName("Percentiles stay within the rank error bound")
+    void testAccuracy() {
+        SplittableRandom random = new SplittableRandom(7);
+        int n = 500_000;
+        double[] values = new double[n];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            values[i] = 90 + 5 * random.nextGaussian();
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.05, 0.5, 0.95}) {
+            assertTrue(rankError(values, sketch.quantile(q), q) < 0.017, "q=" + q);
+        }
+        assertEquals(n, sketch.count());
+        assertEquals(values[0], sketch.min());
+        assertEquals(values[n - 1], sketch.max());
+    }
+
+    // WHITE BOX TESTING - Memory does not depend on the number of values seen
+    @Test
+    @DisplayName("Retained items are bounded independently of the sample count")
+    void testBoundedMemory() {
+        QuantileSketch small = new QuantileSketch();
+        QuantileSketch large = new QuantileSketch();
+        for (int i = 0; i < 10_000; i++) small.add(i);
+        for (int i = 0; i < 2_000_000; i++) large.add(i);
+
+        assertTrue(small.retainedItems() <= 4 * QuantileSketch.DEFAULT_K);
+        assertTrue(large.retainedItems() <= 4 * QuantileSketch.DEFAULT_K);
+    }
+
+    // STATISTICAL TESTING - Per-thread sketches merged at the end are as good as one sketch
+    @Test
+    @DisplayName("Merged sketches keep the accuracy of a single sketch")
+    void testMerge() {
+        SplittableRandom random = new SplittableRandom(3);
+        int parts = 8;
+        int perPart = 50_000;
+        double[] values = new double[parts * perPart];
+        QuantileSketch merged = new QuantileSketch();
+        for (int p = 0; p < parts; p++) {
+            QuantileSketch part = new QuantileSketch();
+            for (int i = 0; i < perPart; i++) {
+                // Each part covers a different range, so merging is not trivially representative
+                double value = p * 10 + random.nextDouble() * 10;
+                values[p * perPart + i] = value;
+                part.add(value);
+            }
+            merged.merge(part);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, merged.count());
+        for (double q : new double[]{0.05, 0.25, 0.5, 0.75, 0.95}) {
+            assertTrue(rankError(values, merged.quantile(q), q) < 0.017, "q=" + q);
+        }
+    }
+
+    // BLACK BOX TESTING - Small inputs are answered exactly
+    @Test
+    @DisplayName("Exact answers below the first compaction")
+    void testSmallInputExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 1; i <= 5; i++) sketch.add(i);
+        assertEquals(1.0, sketch.quantile(0.0));
+        assertEquals(3.0, sketch.quantile(0.5));
+        assertEquals(5.0, sketch.quantile(1.0));
+    }
+
+    // BLACK BOX TESTING - Invalid use is rejected
+    @Test
+    @DisplayName("Empty sketch, NaN and mismatched k are rejected")
+    void testInvalidUse() {
+        assertThrows(IllegalStateException.class, () -> new QuantileSketch().quantile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch().add(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(100).merge(new QuantileSketch(200)));
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(2));
+    }
+}
@@ -3,6 +3,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 import aerodynamic.*;
@@ -86,6 +87,17 @@ class RaceCarTest {
         assertTrue(lapTime > 0);
     }
 
+    // WHITE BOX TESTING - Per-lap time follows the TyreModel: warmed-up fresh tyres in the window match the base pace
+    @Test
+    @DisplayName("Per-lap time includes wear and warm-up")
+    void testPerLapTime() {
+        double base = standardCar.calculateBaseLapTime(5.0);
+        assertEquals(base, standardCar.calculateLapTime(5.0, 25.0), 1e-12);
+        assertEquals(base, standardCar.calculateLapTime(5.0, 25.0, 0, 100), 1e-12);
+        assertTrue(standardCar.calculateLapTime(5.0, 25.0, 0, 0) > base);     // out-lap
+        assertTrue(standardCar.calculateLapTime(5.0, 25.0, 1.2, 100) > standardCar.calculateLapTime(5.0, 25.0, 0.5, 100));
+    }
+
     // WHITE BOX TESTING - Testing calculateEfficiency for electric vs fuel engines
     @Test
     @DisplayName("Efficiency calculation for electric engine")
@@ -208,6 +220,60 @@ class RaceCarTest {
     }
 
 
+    // BLACK BOX TESTING - Value equality for use as a cache key
+    @Test
+    @DisplayName("Cars with equal components are equal and hash alike")
+    void testValueEquality() {
+        RaceCar rebuilt = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 70.0);
+        assertEquals(standardCar, rebuilt);
+        assertEquals(standardCar.hashCode(), rebuilt.hashCode());
+        assertNotEquals(standardCar, electricCar);
+        assertNotEquals(standardCar, standardCar.withFuelTankCapacity(80.0));
+        assertEquals(Set.of(standardCar), Set.of(rebuilt));
+    }
+
+    // BOUNDARY VALUE TESTING - Components compare doubles the way their hashCode does (0.0 vs -0.0, NaN)
+    @Test
+    @DisplayName("Component equality is consistent with hashCode")
+    void testComponentEqualityMatchesHashCode() {
+        class CustomEngine extends Engine {
+            CustomEngine(double speedBoost) {
+                super("Custom", speedBoost, 10, 1, 100);
+            }
+        }
+        class CustomTyre extends Tyre {
+            CustomTyre(double grip) {
+                super("Custom", 0.1, grip, 10, 30);
+            }
+        }
+
+        // Different hash codes, so they must not be equal either
+        assertNotEquals(new CustomEngine(0.0), new CustomEngine(-0.0));
+        // Same hash code, so NaN fields must still compare equal
+        assertEquals(new CustomTyre(Double.NaN), new CustomTyre(Double.NaN));
+        assertEquals(new CustomTyre(Double.NaN).hashCode(), new CustomTyre(Double.NaN).hashCode());
+    }
+
+    // BLACK BOX TESTING - Withers derive a new car and leave the original untouched
+    @Test
+    @DisplayName("With-methods return modified copies")
+    void testWithers() {
+        RaceCar soft = standardCar.withTyre(new SoftTyre());
+        assertEquals("Soft", soft.getTyre().getType());
+        assertEquals("Medium", standardCar.getTyre().getType());
+        assertEquals(standardCar, soft.withTyre(new MediumTyre()));
+        assertEquals("V8 Engine", standardCar.withEngine(new V8Engine()).getEngine().getName());
+        assertEquals("Low-Drag Kit", standardCar.withAeroKit(new LowDragKit()).getAeroKit().getName());
+    }
+
+    // NEGATIVE TESTING - Missing components are rejected up front
+    @Test
+    @DisplayName("Null components are rejected")
+    void testNullComponents() {
+        assertThrows(NullPointerException.class, () -> new RaceCar(null, mediumTyre, standardKit, 70.0));
+        assertThrows(NullPointerException.class, () -> new RaceCar(standardEngine, null, standardKit, 70.0));
+        assertThrows(NullPointerException.class, () -> new RaceCar(standardEngine, mediumTyre, null, 70.0));
+    }
 
     // Helper methods for object creation
     private Engine createEngine(String type) {
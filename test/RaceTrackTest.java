@@ -3,6 +3,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -153,4 +154,16 @@ class RaceTrackTest {
         assertFalse(dryTrack.isWet());
         assertTrue(dryTrack.hasLongStraights());
     }
-}
\ No newline at end of file
+
+    // BLACK BOX TESTING - Value equality for use as a cache key
+    @Test
+    @DisplayName("Black Box: Tracks with equal attributes are equal")
+    void testValueEquality() {
+        RaceTrack same = new RaceTrack("Test Track", 4.0, 160, 25.0, false, 10, 2, true, 100);
+        RaceTrack warmer = new RaceTrack("Test Track", 4.0, 160, 30.0, false, 10, 2, true, 100);
+        assertEquals(basicTrack, same);
+        assertEquals(basicTrack.hashCode(), same.hashCode());
+        assertNotEquals(basicTrack, warmer);
+        assertNotEquals(basicTrack, basicTrack.withSectors(List.of(TrackSector.straight(4.0))));
+    }
+}
@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for ResumableSweep
+ * Testing Types: Black Box, White Box, Negative Testing
+ */
+@DisplayName("Resumable Sweep - Checkpoint and Resume")
+class ResumableSweepTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<RaceCar> setups = List.of(
+            new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0),
+            new RaceCar(new TurboEngine(), new SoftTyre(), new LowDragKit(), 90.0),
+            new RaceCar(new HybridEngine(), new HardTyre(), new DownforceKit(), 70.0),
+            new RaceCar(new V8Engine(), new MediumTyre(), new GroundEffectKit(), 100.0));
+
+    private ResumableSweep sweep() {
+        return new ResumableSweep(setups, new SyntheticTrackGenerator(42), 1_050, 100);
+    }
+
+    // BLACK BOX TESTING - A sweep stopped part way and resumed ends with the same totals as one straight run
+    @Test
+    @DisplayName("Interrupted and resumed sweep matches an uninterrupted one")
+    void testResumeMatchesStraightRun() throws IOException {
+        ResumableSweep.SweepSummary straight;
+        try (SweepJournal journal = sweep().openJournal(tempDir.resolve("straight.journal"))) {
+            straight = sweep().run(journal);
+        }
+        assertTrue(straight.complete());
+        assertEquals(1_050, straight.tracksCompleted());
+        assertEquals(11, straight.rangesRaced());
+        assertEquals(1_050, java.util.Arrays.stream(straight.wins()).sum());
+
+        Path file = tempDir.resolve("resumed.journal");
+        try (SweepJournal journal = sweep().openJournal(file)) {
+            ResumableSweep.SweepSummary partial = sweep().run(journal, 4);
+            assertFalse(partial.complete());
+            assertEquals(400, partial.tracksCompleted());
+        }
+        ResumableSweep.SweepSummary resumed;
+        try (SweepJournal journal = sweep().openJournal(file)) {
+            resumed = sweep().run(journal);
+        }
+        assertTrue(resumed.complete());
+        assertEquals(4, resumed.rangesRestored());
+        assertEquals(7, resumed.rangesRaced());
+        assertArrayEquals(straight.wins(), resumed.wins());
+        assertArrayEquals(straight.meanRaceTimeMinutes(), resumed.meanRaceTimeMinutes(), 1e-9);
+        assertEquals(straight.mostWins(), resumed.mostWins());
+    }
+
+    // WHITE BOX TESTING - A finished sweep is restored entirely from the journal, one entry per range
+    @Test
+    @DisplayName("Completed sweep races nothing on restart")
+    void testCompletedSweepRestored() throws IOException {
+        Path file = tempDir.resolve("done.journal");
+        try (SweepJournal journal = sweep().openJournal(file)) {
+            sweep().run(journal);
+            assertEquals(11, journal.checkpoints().size());
+        }
+        try (SweepJournal journal = sweep().openJournal(file)) {
+            ResumableSweep.SweepSummary again = sweep().run(journal);
+            assertEquals(0, again.rangesRaced());
+            assertEquals(11, again.rangesRestored());
+            assertEquals(11, journal.checkpoints().size());
+        }
+    }
+
+    // NEGATIVE TESTING - A journal from a different sweep is not silently merged
+    @Test
+    @DisplayName("Journal from another sweep is rejected")
+    void testMismatchedJournal() throws IOException {
+        Path file = tempDir.resolve("other.journal");
+        ResumableSweep other = new ResumableSweep(setups.subList(0, 2), new SyntheticTrackGenerator(42), 1_050, 100);
+        try (SweepJournal journal = other.openJournal(file)) {
+            other.run(journal, 1);
+        }
+        assertThrows(IOException.class, () -> sweep().openJournal(file));
+        try (SweepJournal journal = SweepJournal.open(file, other.fingerprint())) {
+            assertThrows(IllegalStateException.class, () -> sweep().run(journal));
+        }
+
+        // Same shape of work, different tracks or ranges: the fingerprint still tells them apart
+        long fingerprint = sweep().fingerprint();
+        assertEquals(fingerprint, sweep().fingerprint());
+        assertNotEquals(fingerprint, new ResumableSweep(setups, new SyntheticTrackGenerator(43), 1_050, 100).fingerprint());
+        assertNotEquals(fingerprint, new ResumableSweep(setups, new SyntheticTrackGenerator(42), 1_060, 100).fingerprint());
+        assertNotEquals(fingerprint, new ResumableSweep(setups, new SyntheticTrackGenerator(42), 1_050, 50).fingerprint());
+        assertNotEquals(fingerprint, new ResumableSweep(List.of(setups.get(1), setups.get(0), setups.get(2), setups.get(3)),
+                new SyntheticTrackGenerator(42), 1_050, 100).fingerprint());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResumableSweep(List.of(), new SyntheticTrackGenerator(1), 10, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResumableSweep(setups, new SyntheticTrackGenerator(1), 10, 0));
+    }
+}
@@ -0,0 +1,152 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+import java.util.List;
+
+/**
+ * Test class for SectorLapTimeCalculator and the derived sector layouts
+ * Testing Types: Black Box, White Box, Integration
+ */
+@DisplayName("Sector Lap Time Calculator - Sector Model and Caching Tests")
+class SectorLapTimeCalculatorTest {
+
+    private RaceTrack sectorTrack;
+    private RaceCar baseCar;
+
+    @BeforeEach
+    void setUp() {
+        RaceTrack track = new RaceTrack("Sector Test", 5.0, 150, 25.0, false, 10, 3, true, 90);
+        sectorTrack = track.withSectors(TrackFactory.deriveSectors(track));
+        baseCar = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+    }
+
+    // BLACK BOX TESTING - Derived layout keeps the lap length and the aggregate counts
+    @Test
+    @DisplayName("Derived sectors add up to the track")
+    void testDerivedSectorsMatchTrack() {
+        List<TrackSector> sectors = sectorTrack.getSectors();
+
+        assertEquals(5.0, sectors.stream().mapToDouble(TrackSector::lengthKm).sum(), 1e-9);
+        assertEquals(10, sectors.stream().filter(s -> s.type() == TrackSector.SectorType.CORNER).count());
+        assertEquals(3, sectors.stream().filter(s -> s.type() == TrackSector.SectorType.CHICANE).count());
+        assertEquals(1, sectors.stream().filter(s -> s.type() == TrackSector.SectorType.CLIMB).count());
+    }
+
+    // INTEGRATION TESTING - The plain race calculation uses the sector model whenever the track has one
+    @Test
+    @DisplayName("RaceStrategySimulator times sector tracks by sector")
+    void testSimulatorUsesSectorModel() {
+        RaceResult viaSimulator = RaceStrategySimulator.calculateRaceResult(baseCar, sectorTrack);
+        RaceResult viaSectors = new SectorLapTimeCalculator(sectorTrack).calculateRaceResult(baseCar);
+        assertEquals(viaSectors, viaSimulator);
+
+        RaceTrack plain = new RaceTrack("Sector Test", 5.0, 150, 25.0, false, 10, 3, true, 90);
+        assertEquals(baseCar.calculateLapTime(5.0, 25.0),
+                RaceStrategySimulator.calculateRaceResult(baseCar, plain).lapTime(), 1e-12);
+        assertNotEquals(viaSimulator.lapTime(), RaceStrategySimulator.calculateRaceResult(baseCar, plain).lapTime());
+    }
+
+    // WHITE BOX TESTING - Lap time is exactly the sum of sector times
+    @Test
+    @DisplayName("Lap time is the sum of sector times")
+    void testLapTimeIsSumOfSectors() {
+        SectorLapTimeCalculator calculator = new SectorLapTimeCalculator(sectorTrack);
+        double sum = 0;
+        for (TrackSector sector : sectorTrack.getSectors()) {
+            sum += SectorLapTimeCalculator.computeSectorTime(baseCar, sector, sectorTrack.getTemperatureC());
+        }
+        assertEquals(sum, calculator.calculateLapTime(baseCar), 1e-12);
+        assertTrue(calculator.calculateRaceResult(baseCar).totalRaceTime() > 0);
+    }
+
+    // WHITE BOX TESTING - A tyre swap only recomputes corners and chicanes
+    @Test
+    @DisplayName("Tyre swap recomputes only tyre-dependent sectors")
+    void testTyreSwapRecomputesOnlyTurns() {
+        SectorLapTimeCalculator calculator = new SectorLapTimeCalculator(sectorTrack);
+        calculator.calculateLapTime(baseCar);
+        long afterFirstLap = calculator.getComputationCount();
+        assertEquals(sectorTrack.getSectors().size(), afterFirstLap);
+
+        RaceCar softCar = new RaceCar(new StandardEngine(), new SoftTyre(), new StandardKit(), 80.0);
+        calculator.calculateLapTime(softCar);
+
+        assertEquals(10 + 3, calculator.getComputationCount() - afterFirstLap);
+
+        // Same car again: everything cached
+        calculator.calculateLapTime(softCar);
+        assertEquals(afterFirstLap + 13, calculator.getComputationCount());
+    }
+
+    // BLACK BOX TESTING - Better corner aero is faster through the twisty sections
+    @Test
+    @DisplayName("Downforce kit is quicker in corners than low drag kit")
+    void testCornerSpeedDependsOnAero() {
+        TrackSector corner = TrackSector.corner(0.2);
+        RaceCar downforce = new RaceCar(new StandardEngine(), new MediumTyre(), new DownforceKit(), 80.0);
+        RaceCar lowDrag = new RaceCar(new StandardEngine(), new MediumTyre(), new LowDragKit(), 80.0);
+
+        assertTrue(SectorLapTimeCalculator.computeSectorTime(downforce, corner, 25.0)
+                < SectorLapTimeCalculator.computeSectorTime(lowDrag, corner, 25.0));
+    }
+
+    // NEGATIVE TESTING - Tracks without a sector model and invalid sectors are rejected
+    @Test
+    @DisplayName("Invalid input is rejected")
+    void testInvalidInput() {
+        RaceTrack plain = new RaceTrack("Plain", 5.0, 150, 25.0, false, 10, 3, true, 90);
+        assertFalse(plain.hasSectorModel());
+        assertThrows(IllegalArgumentException.class, () -> new SectorLapTimeCalculator(plain));
+        assertThrows(IllegalArgumentException.class, () -> TrackSector.straight(0));
+    }
+
+    // WHITE BOX TESTING - Components outside the SetupKey catalogue fall back to a class-based cache key
+    @Test
+    @DisplayName("Custom components are cached without a setup key")
+    void testCustomComponentFallback() {
+        class CustomTyre extends Tyre {
+            CustomTyre(double grip) {
+                super("Custom", 0.1, grip, 10, 30);
+            }
+        }
+        RaceCar custom = baseCar.withTyre(new CustomTyre(0.95));
+        assertFalse(SetupKey.isCatalogued(custom));
+
+        SectorLapTimeCalculator calculator = new SectorLapTimeCalculator(sectorTrack);
+        double expected = 0;
+        for (TrackSector sector : sectorTrack.getSectors()) {
+            expected += SectorLapTimeCalculator.computeSectorTime(custom, sector, sectorTrack.getTemperatureC());
+        }
+        assertEquals(expected, calculator.calculateLapTime(custom), 1e-12);
+        long computed = calculator.getComputationCount();
+        calculator.calculateLapTime(custom);
+        assertEquals(computed, calculator.getComputationCount());
+
+        // Same class, different figures: not served from the first tyre's entries
+        RaceCar grippier = baseCar.withTyre(new CustomTyre(1.1));
+        double grippierExpected = 0;
+        for (TrackSector sector : sectorTrack.getSectors()) {
+            grippierExpected += SectorLapTimeCalculator.computeSectorTime(grippier, sector, sectorTrack.getTemperatureC());
+        }
+        assertEquals(grippierExpected, calculator.calculateLapTime(grippier), 1e-12);
+        assertTrue(calculator.calculateLapTime(grippier) < calculator.calculateLapTime(custom));
+    }
+
+    // WHITE BOX TESTING - Corner times follow the TyreModel, so leaving the tyre window costs time gradually
+    @Test
+    @DisplayName("Temperature penalty in corners fades in")
+    void testCornerTemperatureIsContinuous() {
+        TrackSector corner = TrackSector.corner(0.2);
+        double inWindow = SectorLapTimeCalculator.computeSectorTime(baseCar, corner, 35.0);
+        double justOutside = SectorLapTimeCalculator.computeSectorTime(baseCar, corner, 35.5);
+        double farOutside = SectorLapTimeCalculator.computeSectorTime(baseCar, corner, 50.0);
+
+        assertTrue(justOutside > inWindow && justOutside < inWindow * 1.01);
+        assertEquals(inWindow * 1.1, farOutside, 1e-12);
+    }
+}
@@ -0,0 +1,112 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Test class for SensitivityAnalyzer
+ * Testing Types: Black Box, White Box, Boundary Value
+ */
+@DisplayName("Sensitivity Analyzer - Track Parameter Perturbation Tests")
+class SensitivityAnalyzerTest {
+
+    private final RaceTrack hotTrack = new RaceTrack("Hot", 4.2, 126, 38.0, false, 6, 1, true, 20);
+
+    // WHITE BOX TESTING - Tyre rule switches from Hard to Medium once temperature is no longer > 30
+    @Test
+    @DisplayName("Temperature flip point of the tyre recommendation")
+    void testTemperatureFlipPoint() {
+        SensitivityAnalyzer.AttributeSensitivity sensitivity =
+                SensitivityAnalyzer.analyseAttribute(hotTrack, SensitivityAnalyzer.TrackAttribute.TEMPERATURE);
+
+        SensitivityAnalyzer.FlipPoint tyreFlip = sensitivity.flipPoints().stream()
+                .filter(flip -> flip.component().equals("Tyres"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Hard", tyreFlip.from());
+        assertEquals("Medium", tyreFlip.to());
+        assertEquals(30.0, tyreFlip.value(), 1e-9);
+    }
+
+    // WHITE BOX TESTING - Engine rule switches to Hybrid once curves exceed 15
+    @Test
+    @DisplayName("Curve count flip point of the engine recommendation")
+    void testCurvesFlipPoint() {
+        SensitivityAnalyzer.AttributeSensitivity sensitivity =
+                SensitivityAnalyzer.analyseAttribute(hotTrack, SensitivityAnalyzer.TrackAttribute.CURVES);
+
+        assertTrue(sensitivity.flipPoints().stream().anyMatch(flip ->
+                flip.component().equals("Engine") && flip.to().equals("Hybrid Engine") && flip.value() == 16));
+    }
+
+    // BOUNDARY VALUE TESTING - A base value outside the scan range still gets scanned and differentiated
+    @Test
+    @DisplayName("Out-of-range base values widen the scan")
+    void testBaseOutsideRange() {
+        RaceTrack scorching = SensitivityAnalyzer.TrackAttribute.TEMPERATURE.withValue(hotTrack, 55);
+        SensitivityAnalyzer.AttributeSensitivity temperature =
+                SensitivityAnalyzer.analyseAttribute(scorching, SensitivityAnalyzer.TrackAttribute.TEMPERATURE);
+        assertTrue(temperature.flipPoints().stream().anyMatch(flip ->
+                flip.component().equals("Tyres") && flip.value() == 30.0));
+        assertTrue(Double.isFinite(temperature.raceTimeEffect()));
+
+        RaceTrack twisty = SensitivityAnalyzer.TrackAttribute.CURVES.withValue(hotTrack, 45);
+        SensitivityAnalyzer.AttributeSensitivity curves =
+                SensitivityAnalyzer.analyseAttribute(twisty, SensitivityAnalyzer.TrackAttribute.CURVES);
+        assertFalse(curves.flipPoints().isEmpty());
+        assertTrue(Double.isFinite(curves.raceTimeEffect()));
+    }
+
+    // BLACK BOX TESTING - Longer races take longer, so the distance effect is positive
+    @Test
+    @DisplayName("Race distance has a positive finite-difference effect")
+    void testDistanceEffectIsPositive() {
+        SensitivityAnalyzer.AttributeSensitivity sensitivity =
+                SensitivityAnalyzer.analyseAttribute(hotTrack, SensitivityAnalyzer.TrackAttribute.TOTAL_DISTANCE);
+        assertTrue(sensitivity.raceTimeEffect() > 0);
+    }
+
+    // BOUNDARY VALUE TESTING - Perturbing one attribute leaves every other attribute untouched
+    @ParameterizedTest
+    @DisplayName("withValue only changes the selected attribute")
+    @EnumSource(SensitivityAnalyzer.TrackAttribute.class)
+    void testWithValueChangesOnlyOneAttribute(SensitivityAnalyzer.TrackAttribute attribute) {
+        RaceTrack changed = attribute.withValue(hotTrack, attribute.valueOf(hotTrack) + 1);
+        for (SensitivityAnalyzer.TrackAttribute other : SensitivityAnalyzer.TrackAttribute.values()) {
+            if (other != attribute) {
+                assertEquals(other.valueOf(hotTrack), other.valueOf(changed), 1e-9);
+            }
+        }
+    }
+
+    // BOUNDARY VALUE TESTING - A new lap length rescales the sector model to match
+    @Test
+    @DisplayName("Changing the lap length rescales the sectors")
+    void testTrackLengthRescalesSectors() {
+        RaceTrack withSectors = hotTrack.withSectors(List.of(TrackSector.straight(2.1), TrackSector.corner(2.1)));
+        RaceTrack changed = SensitivityAnalyzer.TrackAttribute.TRACK_LENGTH.withValue(withSectors, 6.3);
+
+        double sectorTotal = changed.getSectors().stream().mapToDouble(TrackSector::lengthKm).sum();
+        assertEquals(6.3, sectorTotal, 1e-9);
+        assertEquals(withSectors.getSectors().size(), changed.getSectors().size());
+    }
+
+    // INTEGRATION TESTING - One report per preset track, each covering every attribute
+    @Test
+    @DisplayName("Parallel analysis produces a complete report per track")
+    void testReportPerTrack() {
+        List<RaceTrack> tracks = TrackFactory.getPresetTracks();
+        List<SensitivityAnalyzer.SensitivityReport> reports = SensitivityAnalyzer.analyse(tracks);
+
+        assertEquals(tracks.size(), reports.size());
+        for (int i = 0; i < tracks.size(); i++) {
+            assertSame(tracks.get(i), reports.get(i).track());
+            assertEquals(SensitivityAnalyzer.TrackAttribute.values().length, reports.get(i).attributes().size());
+            assertTrue(reports.get(i).baseRaceTimeMinutes() > 0);
+        }
+        assertDoesNotThrow(() -> reports.get(0).printReport());
+    }
+}
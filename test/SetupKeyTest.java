@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for SetupKey
+ * Testing Types: Black Box, White Box, Negative Testing
+ */
+@DisplayName("Setup Key - Packed Setup Encoding")
+class SetupKeyTest {
+
+    private final List<Engine> engines = List.of(new StandardEngine(), new TurboEngine(), new V8Engine(),
+            new HybridEngine(), new ElectricEngine());
+    private final List<Tyre> tyres = List.of(new SoftTyre(), new MediumTyre(), new HardTyre());
+    private final List<AerodynamicKit> kits = List.of(new StandardKit(), new DownforceKit(), new LowDragKit(),
+            new GroundEffectKit(), new WetWeatherKit(), new ExtremeAeroKit());
+
+    // BLACK BOX TESTING - Every catalogue setup round-trips and gets its own key
+    @Test
+    @DisplayName("Every setup round-trips through a distinct key")
+    void testRoundTrip() {
+        Set<Integer> keys = new HashSet<>();
+        for (Engine engine : engines) {
+            for (Tyre tyre : tyres) {
+                for (AerodynamicKit kit : kits) {
+                    for (double capacity : new double[]{0, 45.5, 80, 120.3}) {
+                        RaceCar car = new RaceCar(engine, tyre, kit, capacity);
+                        int key = SetupKey.encode(car);
+                        assertTrue(key >= 0);
+                        assertTrue(keys.add(key));
+                        assertEquals(car, SetupKey.decode(key));
+                    }
+                }
+            }
+        }
+        assertEquals(5 * 3 * 6 * 4, keys.size());
+    }
+
+    // WHITE BOX TESTING - Fields sit in their documented bits
+    @Test
+    @DisplayName("Fields are packed in their own bits")
+    void testLayout() {
+        int key = SetupKey.encode(new RaceCar(new ElectricEngine(), new HardTyre(), new ExtremeAeroKit(), 75.0));
+        assertEquals(4, SetupKey.engineOrdinal(key));
+        assertEquals(2, SetupKey.tyreOrdinal(key));
+        assertEquals(5, SetupKey.aeroOrdinal(key));
+        assertEquals(75.0, SetupKey.capacity(key), 1e-9);
+        assertEquals(750, key >>> 8);
+    }
+
+    // BLACK BOX TESTING - Capacity is quantised, so near-identical tanks share a key
+    @Test
+    @DisplayName("Capacities within half a step share a key")
+    void testCapacityQuantised() {
+        RaceCar car = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+        assertEquals(SetupKey.encode(car), SetupKey.encode(car.withFuelTankCapacity(80.04)));
+        assertNotEquals(SetupKey.encode(car), SetupKey.encode(car.withFuelTankCapacity(80.1)));
+    }
+
+    // NEGATIVE TESTING - Tanks the key cannot hold are rejected
+    @Test
+    @DisplayName("Out-of-range capacities are rejected")
+    void testInvalidCapacity() {
+        RaceCar car = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+        assertThrows(IllegalArgumentException.class, () -> SetupKey.encode(car.withFuelTankCapacity(-1)));
+        assertThrows(IllegalArgumentException.class, () -> SetupKey.encode(car.withFuelTankCapacity(1e7)));
+    }
+}
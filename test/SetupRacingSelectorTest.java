@@ -0,0 +1,123 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for SetupRacingSelector
+ * Testing Types: Black Box, White Box, Statistical
+ */
+@DisplayName("Setup Racing Selector - Adaptive Selection Under Uncertainty")
+class SetupRacingSelectorTest {
+
+    private final RaceTrack track = new RaceTrack("Stochastic", 4.5, 135, 24.0, false, 9, 2, true, 60);
+
+    private List<RaceCar> allSetups() {
+        List<RaceCar> setups = new ArrayList<>();
+        for (Engine engine : List.of(new StandardEngine(), new TurboEngine(), new HybridEngine())) {
+            for (Tyre tyre : List.of(new SoftTyre(), new MediumTyre(), new HardTyre())) {
+                for (AerodynamicKit kit : List.of(new StandardKit(), new DownforceKit(), new LowDragKit())) {
+                    setups.add(new RaceCar(engine, tyre, kit, 80.0));
+                }
+            }
+        }
+        return setups;
+    }
+
+    private static double meanMinutes(MonteCarloRaceSimulator simulator, RaceCar car, int samples) {
+        double sum = 0;
+        for (int i = 0; i < samples; i++) sum += simulator.simulate(car, i).totalRaceTime() * 60;
+        return sum / samples;
+    }
+
+    // STATISTICAL TESTING - The selected setup matches the exhaustive full-budget winner
+    @Test
+    @DisplayName("Selects the same setup as exhaustive evaluation")
+    void testMatchesExhaustiveWinner() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 11);
+        List<RaceCar> setups = allSetups();
+
+        RaceCar exhaustiveBest = setups.get(0);
+        for (RaceCar car : setups) {
+            if (meanMinutes(simulator, car, 400) < meanMinutes(simulator, exhaustiveBest, 400)) exhaustiveBest = car;
+        }
+
+        SetupRacingSelector.SelectionResult result = new SetupRacingSelector(simulator).select(setups, 0.95, 16, 400);
+        assertSame(exhaustiveBest, result.best());
+    }
+
+    // WHITE BOX TESTING - Clearly bad setups are dropped early, so far fewer samples are spent
+    @Test
+    @DisplayName("Uses a fraction of the exhaustive sample budget")
+    void testSavesSamples() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 11);
+        List<RaceCar> setups = allSetups();
+
+        SetupRacingSelector.SelectionResult result = new SetupRacingSelector(simulator).select(setups, 0.95, 16, 1_000);
+        assertTrue(result.samplesUsed() < setups.size() * 1_000L / 4);
+        assertTrue(result.rounds() >= 1);
+        assertSame(result.best(), result.survivors().get(0));
+    }
+
+    // BLACK BOX TESTING - Identical setups can never be separated, the budget caps the search
+    @Test
+    @DisplayName("Indistinguishable setups stop at the sample budget")
+    void testIndistinguishableSetups() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 2);
+        RaceCar a = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+        RaceCar b = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+
+        SetupRacingSelector.SelectionResult result =
+                new SetupRacingSelector(simulator, new ForkJoinPool(2)).select(List.of(a, b), 0.95, 8, 120);
+        assertFalse(result.isSeparated());
+        assertEquals(2, result.survivors().size());
+        assertEquals(240, result.samplesUsed());
+    }
+
+    // BLACK BOX TESTING - A single candidate only gets the first batch
+    @Test
+    @DisplayName("Single candidate and empty input")
+    void testEdgeCases() {
+        MonteCarloRaceSimulator simulator = new MonteCarloRaceSimulator(track, 2);
+        RaceCar only = new RaceCar(new TurboEngine(), new SoftTyre(), new LowDragKit(), 70.0);
+
+        SetupRacingSelector.SelectionResult result = new SetupRacingSelector(simulator).select(List.of(only), 0.95, 8, 100);
+        assertSame(only, result.best());
+        assertTrue(result.isSeparated());
+        assertEquals(8, result.samplesUsed());
+        assertTrue(result.meanRaceTimeMinutes() > 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SetupRacingSelector(simulator).select(List.of(), 0.95, 8, 100));
+    }
+
+    // NEGATIVE TESTING - Sample counts and confidence outside their ranges are rejected
+    @Test
+    @DisplayName("Invalid sample counts and confidence are rejected")
+    void testInvalidArguments() {
+        SetupRacingSelector selector = new SetupRacingSelector(new MonteCarloRaceSimulator(track, 2));
+        List<RaceCar> setups = List.of(new RaceCar(new TurboEngine(), new SoftTyre(), new LowDragKit(), 70.0));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(setups, 0.95, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(setups, 0.95, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(setups, 0.95, -4, 100));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(setups, 0.0, 8, 100));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(setups, 1.0, 8, 100));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(setups, Double.NaN, 8, 100));
+    }
+
+    // WHITE BOX TESTING - The error budget is split over every round the doubling schedule can run
+    @Test
+    @DisplayName("Round count of the doubling schedule")
+    void testMaxRounds() {
+        // 16 + 32 + 64 + 128 = 240 < 400, the fifth round reaches the cap
+        assertEquals(5, SetupRacingSelector.maxRounds(16, 400));
+        assertEquals(1, SetupRacingSelector.maxRounds(8, 8));
+        assertEquals(1, SetupRacingSelector.maxRounds(8, 5));
+    }
+}
@@ -0,0 +1,173 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for StintCostIndex
+ * Testing Types: Black Box, White Box, Negative Testing, Performance
+ */
+@DisplayName("Stint Cost Index - Prefix-Sum Stint Queries")
+class StintCostIndexTest {
+
+    private final RaceTrack track = new RaceTrack("Stints", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar car = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+
+    // Lap-by-lap sum of the real per-lap RaceCar model plus the fuel term, wear accumulating at wearTemperature
+    private double perLapSum(StintCostIndex index, Tyre compound, int startLap, int laps, double startFuel,
+                             double[] temperatures, double wearTemperature) {
+        RaceCar onCompound = car.withTyre(compound);
+        double base = onCompound.calculateBaseLapTime(track.getTrackLengthKm());
+        double wearPerLap = TyreModel.of(compound).wearPerLap(wearTemperature);
+        double total = 0;
+        for (int i = 0; i < laps; i++) {
+            double fuel = startFuel - i * index.getFuelPerLap();
+            total += onCompound.calculateLapTime(track.getTrackLengthKm(), temperatures[startLap + i], i * wearPerLap, i)
+                    + base * StintCostIndex.FUEL_EFFECT * fuel;
+        }
+        return total;
+    }
+
+    // WHITE BOX TESTING - With one temperature per stint the index is exactly the per-lap RaceCar sum
+    @ParameterizedTest
+    @CsvSource({"0, 10, 60", "5, 1, 30", "12, 18, 40", "0, 30, 80", "29, 0, 10", "3, 5, 20"})
+    @DisplayName("Stint time matches the per-lap sum")
+    void testMatchesPerLapSum(int startLap, int laps, double fuel) {
+        for (double temperature : new double[]{24.0, 4.0, 45.0}) {
+            StintCostIndex index = new StintCostIndex(car, track);
+            double[] temperatures = new double[30];
+            Arrays.fill(temperatures, temperature);
+            index.setTemperatures(0, temperatures);
+            index.setWearTemperature(temperature);
+            for (Tyre compound : new Tyre[]{new SoftTyre(), new MediumTyre(), new HardTyre()}) {
+                assertEquals(perLapSum(index, compound, startLap, laps, fuel, temperatures, temperature),
+                        index.stintTime(compound, startLap, laps, fuel), 1e-12);
+            }
+        }
+    }
+
+    // WHITE BOX TESTING - With the temperature changing inside a stint the cross term is approximated;
+    // the documented bound is 0.1% of the stint time
+    @Test
+    @DisplayName("Stint time stays close to the per-lap sum under changing temperatures")
+    void testApproximationBound() {
+        StintCostIndex index = new StintCostIndex(car, track);
+        double[] temperatures = new double[30];
+        for (int lap = 0; lap < 30; lap++) {
+            temperatures[lap] = 24.0 + 18.0 * Math.sin(lap / 4.0);   // swings in and out of every window
+        }
+        index.setTemperatures(0, temperatures);
+        for (Tyre compound : new Tyre[]{new SoftTyre(), new MediumTyre(), new HardTyre()}) {
+            for (int start = 0; start < 30; start += 5) {
+                double exact = perLapSum(index, compound, start, 30 - start, 60, temperatures, 24.0);
+                double indexed = index.stintTime(compound, start, 30 - start, 60);
+                assertEquals(exact, indexed, exact * 1e-3);
+            }
+        }
+    }
+
+    // BLACK BOX TESTING - Heavier fuel loads and older stints cost more
+    @Test
+    @DisplayName("More fuel and longer stints cost more time")
+    void testCostOrdering() {
+        StintCostIndex index = new StintCostIndex(car, track);
+        Tyre soft = new SoftTyre();
+        assertTrue(index.stintTime(soft, 0, 10, 80) > index.stintTime(soft, 0, 10, 20));
+        assertTrue(index.stintTime(soft, 0, 8, 40) > index.stintTime(soft, 0, 4, 40) * 2);
+        assertEquals(0.0, index.stintTime(soft, 7, 0, 40));
+    }
+
+    // WHITE BOX TESTING - Fuel changes need no rebuild; temperature changes rebuild only later laps
+    @Test
+    @DisplayName("Updates rebuild only what changed")
+    void testIncrementalRebuild() {
+        StintCostIndex index = new StintCostIndex(car, track);
+        int initial = index.getRebuiltLaps();
+        double before = index.stintTime(new MediumTyre(), 0, 15, 50);
+
+        index.setFuelPerLap(index.getFuelPerLap() * 1.2);
+        index.setFuelEffect(0.0005);
+        assertEquals(initial, index.getRebuiltLaps());
+        assertNotEquals(before, index.stintTime(new MediumTyre(), 0, 15, 50));
+
+        double[] heatWave = new double[10];
+        Arrays.fill(heatWave, 45.0);
+        index.setTemperatures(20, heatWave);
+        assertEquals(initial + 10, index.getRebuiltLaps());
+
+        // Same values again: nothing to rebuild
+        index.setTemperatures(20, heatWave);
+        assertEquals(initial + 10, index.getRebuiltLaps());
+
+        // Same result as setting the whole race at once
+        StintCostIndex full = new StintCostIndex(car, track);
+        full.setFuelPerLap(index.getFuelPerLap());
+        full.setFuelEffect(0.0005);
+        double[] all = new double[30];
+        Arrays.fill(all, 24.0);
+        System.arraycopy(heatWave, 0, all, 20, 10);
+        full.setTemperatures(0, all);
+        for (int start = 0; start < 30; start += 3) {
+            assertEquals(full.stintTime(new SoftTyre(), start, 30 - start, 40),
+                    index.stintTime(new SoftTyre(), start, 30 - start, 40), 1e-12);
+        }
+        assertTrue(index.stintTime(new SoftTyre(), 20, 10, 30) > index.stintTime(new SoftTyre(), 10, 10, 30));
+    }
+
+    // BLACK BOX TESTING - The stint plan adds up and never runs a stint past one tank
+    @Test
+    @DisplayName("Best plan is consistent with its stints")
+    void testBestPlan() {
+        RaceCar smallTank = car.withFuelTankCapacity(20.0);
+        StintCostIndex index = new StintCostIndex(smallTank, track);
+        StintCostIndex.StintPlan plan = index.bestPlan(3);
+
+        assertFalse(plan.stints().isEmpty());
+        double total = (plan.stints().size() - 1) * GridRaceSimulator.PIT_LOSS;
+        int laps = 0;
+        for (StintCostIndex.Stint stint : plan.stints()) {
+            assertEquals(laps, stint.startLap());
+            assertTrue(stint.laps() * index.getFuelPerLap() <= 20.0 + 1e-9);
+            total += stint.time();
+            laps += stint.laps();
+        }
+        assertEquals(30, laps);
+        assertEquals(total, plan.totalTime(), 1e-12);
+
+        // More stops allowed can only help
+        assertTrue(index.bestPlan(4).totalTime() <= plan.totalTime() + 1e-12);
+    }
+
+    // NEGATIVE TESTING - Stints outside the race are rejected
+    @Test
+    @DisplayName("Out-of-range stints and temperatures are rejected")
+    void testInvalidQueries() {
+        StintCostIndex index = new StintCostIndex(car, track);
+        assertThrows(IllegalArgumentException.class, () -> index.stintTime(new SoftTyre(), 25, 10, 40));
+        assertThrows(IllegalArgumentException.class, () -> index.stintTime(new SoftTyre(), -1, 5, 40));
+        assertThrows(IllegalArgumentException.class, () -> index.setTemperatures(28, new double[5]));
+    }
+
+    // PERFORMANCE TESTING - Queries cost the same whatever the stint length
+    @Test
+    @DisplayName("A million stint queries run quickly")
+    void testQueryCost() {
+        StintCostIndex index = new StintCostIndex(car, track);
+        Tyre hard = new HardTyre();
+        long start = System.nanoTime();
+        double sum = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            sum += index.stintTime(hard, i % 10, 20, 60);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(sum > 0);
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,121 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Test class for SweepJournal
+ * Testing Types: Black Box, White Box, Negative Testing
+ */
+@DisplayName("Sweep Journal - Append-Only Checkpoints")
+class SweepJournalTest {
+
+    private static final long FINGERPRINT = 0x5EEDL;
+
+    @TempDir
+    Path tempDir;
+
+    // BLACK BOX TESTING - Checkpoints written in one run are there in the next
+    @Test
+    @DisplayName("Checkpoints survive reopening")
+    void testReopen() throws IOException {
+        Path file = tempDir.resolve("sweep.journal");
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            assertTrue(journal.checkpoints().isEmpty());
+            journal.append(0, 100, new double[]{1, 2.5});
+            journal.append(100, 200, new double[]{3, 4.5});
+        }
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            List<SweepJournal.Checkpoint> checkpoints = journal.checkpoints();
+            assertEquals(2, checkpoints.size());
+            assertEquals(100, checkpoints.get(1).from());
+            assertEquals(200, checkpoints.get(1).to());
+            assertArrayEquals(new double[]{3, 4.5}, checkpoints.get(1).aggregates());
+            journal.append(200, 300, new double[]{5, 6});
+        }
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            assertEquals(3, journal.checkpoints().size());
+        }
+    }
+
+    // WHITE BOX TESTING - A damaged last entry is dropped and overwritten by the next append
+    @Test
+    @DisplayName("Torn entries are ignored on replay")
+    void testTornEntry() throws IOException {
+        Path file = tempDir.resolve("torn.journal");
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            journal.append(0, 10, new double[]{1});
+            journal.append(10, 20, new double[]{2});
+            journal.append(20, 30, new double[]{3});
+        }
+
+        // Flip a byte inside the third entry's values, as a crash during the write might leave it
+        int entryBytes = 8 + 20 + 8;
+        long thirdValue = SweepJournal.HEADER_BYTES + 2L * entryBytes + 8 + 20;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), thirdValue);
+        }
+
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            assertEquals(2, journal.checkpoints().size());
+            journal.append(20, 30, new double[]{33});
+        }
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            List<SweepJournal.Checkpoint> checkpoints = journal.checkpoints();
+            assertEquals(3, checkpoints.size());
+            assertArrayEquals(new double[]{33}, checkpoints.get(2).aggregates());
+        }
+    }
+
+    // WHITE BOX TESTING - The journal keeps growing past one mapped window
+    @Test
+    @DisplayName("Entries span several mapped windows")
+    void testManyWindows() throws IOException {
+        Path file = tempDir.resolve("large.journal");
+        double[] values = new double[1_000];
+        int entries = 3 * SweepJournal.WINDOW_BYTES / (values.length * 8);
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            for (int i = 0; i < entries; i++) {
+                values[0] = i;
+                journal.append(i, i + 1, values);
+            }
+        }
+        try (SweepJournal journal = SweepJournal.open(file, FINGERPRINT)) {
+            List<SweepJournal.Checkpoint> checkpoints = journal.checkpoints();
+            assertEquals(entries, checkpoints.size());
+            for (int i = 0; i < entries; i++) {
+                assertEquals(i, checkpoints.get(i).from());
+                assertEquals(i, checkpoints.get(i).aggregates()[0]);
+            }
+        }
+    }
+
+    // NEGATIVE TESTING - Other files are not mistaken for a journal
+    @Test
+    @DisplayName("Foreign files, other sweeps and oversized checkpoints are rejected")
+    void testInvalidUse() throws IOException {
+        Path foreign = tempDir.resolve("foreign.bin");
+        Files.write(foreign, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        assertThrows(IOException.class, () -> SweepJournal.open(foreign, FINGERPRINT));
+
+        // A journal only reopens under the fingerprint it was created with
+        Path owned = tempDir.resolve("owned.journal");
+        try (SweepJournal journal = SweepJournal.open(owned, FINGERPRINT)) {
+            journal.append(0, 1, new double[]{1});
+        }
+        assertThrows(IOException.class, () -> SweepJournal.open(owned, FINGERPRINT + 1));
+
+        try (SweepJournal journal = SweepJournal.open(tempDir.resolve("small.journal"), FINGERPRINT)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> journal.append(0, 1, new double[SweepJournal.WINDOW_BYTES / 8]));
+        }
+    }
+}
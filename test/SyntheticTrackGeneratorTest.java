@@ -0,0 +1,65 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Test class for SyntheticTrackGenerator
+ * Testing Types: Black Box, Boundary Value
+ */
+@DisplayName("Synthetic Track Generator - Deterministic Track Streams")
+class SyntheticTrackGeneratorTest {
+
+    // BLACK BOX TESTING - Same seed and index always give the same track
+    @Test
+    @DisplayName("Generation is deterministic and random-access")
+    void testDeterministic() {
+        SyntheticTrackGenerator generator = new SyntheticTrackGenerator(42);
+        List<RaceTrack> first = generator.stream(100).toList();
+        List<RaceTrack> resumed = generator.stream(50, 100).toList();
+
+        for (int i = 0; i < 50; i++) {
+            RaceTrack a = first.get(50 + i);
+            RaceTrack b = resumed.get(i);
+            assertEquals(a.getName(), b.getName());
+            assertEquals(a.getTrackLengthKm(), b.getTrackLengthKm());
+            assertEquals(a.getTotalDistanceKm(), b.getTotalDistanceKm());
+            assertEquals(a.getTemperatureC(), b.getTemperatureC());
+            assertEquals(a.getNumberOfCurves(), b.getNumberOfCurves());
+            assertEquals(a.getElevationGain(), b.getElevationGain());
+        }
+    }
+
+    // BOUNDARY VALUE TESTING - Every generated value stays in a plausible range
+    @Test
+    @DisplayName("Generated tracks stay within plausible ranges")
+    void testPlausibleRanges() {
+        long wet = new SyntheticTrackGenerator(7).stream(20_000).parallel()
+                .peek(track -> {
+                    assertTrue(track.getTrackLengthKm() >= 2.5 && track.getTrackLengthKm() <= 7.5);
+                    int laps = (int) Math.round(track.getTotalDistanceKm() / track.getTrackLengthKm());
+                    assertTrue(laps >= 24 && laps <= 36);
+                    assertTrue(track.getTemperatureC() >= 5 && track.getTemperatureC() <= 45);
+                    assertTrue(track.getNumberOfCurves() >= 2 && track.getNumberOfCurves() <= 25);
+                    assertTrue(track.getNumberOfChicanes() >= 0 && track.getNumberOfChicanes() <= 10);
+                    assertTrue(track.getElevationGain() >= 0 && track.getElevationGain() <= 300);
+                })
+                .filter(RaceTrack::isWet)
+                .count();
+
+        // Wet races happen, but are a minority
+        assertTrue(wet > 1_000 && wet < 8_000);
+    }
+
+    // BLACK BOX TESTING - Different seeds give different calendars
+    @Test
+    @DisplayName("Different seeds produce different tracks")
+    void testSeedsDiffer() {
+        RaceTrack a = new SyntheticTrackGenerator(1).generate(0);
+        RaceTrack b = new SyntheticTrackGenerator(2).generate(0);
+        assertFalse(a.getTrackLengthKm() == b.getTrackLengthKm()
+                && a.getTemperatureC() == b.getTemperatureC()
+                && a.getNumberOfCurves() == b.getNumberOfCurves());
+    }
+}
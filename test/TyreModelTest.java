@@ -0,0 +1,97 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import tyre.*;
+
+/**
+ * Test class for TyreModel
+ * Testing Types: Black Box, White Box, Boundary Value Analysis
+ */
+@DisplayName("Tyre Model - Thermal Window, Warm-Up and Degradation Cliff")
+class TyreModelTest {
+
+    private final TyreModel soft = TyreModel.of(new SoftTyre());
+    private final TyreModel medium = TyreModel.of(new MediumTyre());
+    private final TyreModel hard = TyreModel.of(new HardTyre());
+
+    // WHITE BOX TESTING - Tables are built once per compound and shared
+    @Test
+    @DisplayName("Equal compounds share one model")
+    void testModelCached() {
+        assertSame(soft, TyreModel.of(new SoftTyre()));
+        assertNotSame(soft, medium);
+        assertThrows(NullPointerException.class, () -> TyreModel.of(null));
+    }
+
+    // BOUNDARY VALUE ANALYSIS - Warm, fresh tyres in the window have no penalty; far outside matches RaceCar's 1.1
+    @Test
+    @DisplayName("Temperature penalty fades in from the window edge to the RaceCar penalty")
+    void testThermalWindow() {
+        assertEquals(1.0, medium.lapTimeFactor(25, 0, 10), 1e-12);
+        assertEquals(1.0, medium.lapTimeFactor(35, 0, 10), 1e-12);
+        assertEquals(1.1, medium.lapTimeFactor(50, 0, 10), 1e-12);
+        assertEquals(1.1, medium.lapTimeFactor(-5, 0, 10), 1e-12);
+
+        // Continuous: half a degree past the edge costs almost nothing
+        assertTrue(medium.lapTimeFactor(35.5, 0, 10) - 1 < 0.002);
+        double previous = 1.0;
+        for (double t = 35; t <= 45; t += 0.25) {
+            double factor = medium.lapTimeFactor(t, 0, 10);
+            assertTrue(factor >= previous - 1e-12, "penalty should grow away from the window");
+            previous = factor;
+        }
+    }
+
+    // BLACK BOX TESTING - Wear speeds up outside the window, as in the Monte Carlo model
+    @Test
+    @DisplayName("Wear per lap rises outside the window")
+    void testWearPerLap() {
+        assertEquals(0.25, soft.wearPerLap(25), 1e-12);
+        assertEquals(0.25 * 1.3, soft.wearPerLap(45), 1e-12);
+        assertTrue(soft.wearPerLap(32) > 0.25 && soft.wearPerLap(32) < 0.25 * 1.3);
+    }
+
+    // BLACK BOX TESTING - Pace drops gently with wear, then falls off the cliff
+    @Test
+    @DisplayName("Worn tyres fall off a cliff past the wear limit")
+    void testDegradationCliff() {
+        double early = medium.lapTimeFactor(25, 0.5, 10) - medium.lapTimeFactor(25, 0.4, 10);
+        double cliff = medium.lapTimeFactor(25, 1.0, 10) - medium.lapTimeFactor(25, 0.9, 10);
+        assertTrue(cliff > 10 * early);
+        assertEquals(1 + 0.03 + 0.10, medium.lapTimeFactor(25, 1.4, 10), 1e-12);
+        assertEquals(medium.lapTimeFactor(25, 1.5, 10), medium.lapTimeFactor(25, 3.0, 10), 1e-12);
+        assertEquals(6, medium.lapsToCliff(25));
+    }
+
+    // BLACK BOX TESTING - Fresh tyres need laps to come in; softer compounds and warm days are quicker
+    @Test
+    @DisplayName("Warm-up after a stop depends on compound and temperature")
+    void testWarmUp() {
+        assertTrue(medium.lapTimeFactor(25, 0, 0) > medium.lapTimeFactor(25, 0, 1));
+        assertTrue(medium.lapTimeFactor(25, 0, 1) > medium.lapTimeFactor(25, 0, 2));
+        assertEquals(1.0, medium.lapTimeFactor(25, 0, 8), 1e-12);   // warm-up over after 8 laps
+
+        assertTrue(soft.lapTimeFactor(25, 0, 1) < hard.lapTimeFactor(25, 0, 1));
+
+        // Same distance below the window minimum: only the warm-up part differs between lap 0 and lap 10
+        double coldOutLap = hard.lapTimeFactor(2, 0, 0) / hard.lapTimeFactor(2, 0, 10);
+        double warmOutLap = hard.lapTimeFactor(20, 0, 0) / hard.lapTimeFactor(20, 0, 10);
+        assertTrue(coldOutLap > warmOutLap);
+    }
+
+    // WHITE BOX TESTING - Stint factors follow wear and warm-up lap by lap
+    @ParameterizedTest
+    @ValueSource(doubles = {5, 25, 45})
+    @DisplayName("Stint lap factors match single-lap lookups")
+    void testStintFactors(double temperature) {
+        double[] factors = hard.stintLapFactors(temperature, 12);
+        assertEquals(12, factors.length);
+        for (int lap = 0; lap < factors.length; lap++) {
+            assertEquals(hard.lapTimeFactor(temperature, lap * hard.wearPerLap(temperature), lap), factors[lap], 1e-12);
+            assertTrue(hard.grip(temperature, lap * hard.wearPerLap(temperature), lap) <= 0.6);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import aerodynamic.*;
+import engine.*;
+import tyre.*;
+
+/**
+ * Test class for WeatherEnsemble
+ * Testing Types: Black Box, White Box, Negative Testing
+ */
+@DisplayName("Weather Ensemble - Per-Lap Forecast Members")
+class WeatherEnsembleTest {
+
+    private final RaceTrack dryTrack = new RaceTrack("Forecast", 4.5, 135, 24.0, false, 9, 2, true, 60);
+    private final RaceCar mediumCar = new RaceCar(new StandardEngine(), new MediumTyre(), new StandardKit(), 80.0);
+
+    // BLACK BOX TESTING - Generated members cover every lap and are reproducible from the seed
+    @Test
+    @DisplayName("Members are reproducible and cover the whole race")
+    void testMembersReproducible() {
+        WeatherEnsemble first = new WeatherEnsemble(dryTrack, 0.5, 40, 7);
+        WeatherEnsemble second = new WeatherEnsemble(dryTrack, 0.5, 40, 7);
+        assertEquals(first.getMembers(), second.getMembers());
+        assertEquals(40, first.getMembers().size());
+        first.getMembers().forEach(member -> assertEquals(30, member.size()));
+    }
+
+    // BLACK BOX TESTING - No rain forecast on a dry track keeps every lap dry
+    @Test
+    @DisplayName("Dry forecast never wets the track, a wet track dries out")
+    void testWetnessProgression() {
+        WeatherEnsemble dry = new WeatherEnsemble(dryTrack, 0.0, 20, 1);
+        dry.getMembers().forEach(member -> member.forEach(state -> assertEquals(0, state.wetness())));
+
+        RaceTrack wetTrack = new RaceTrack("Forecast", 4.5, 135, 24.0, true, 9, 2, true, 60);
+        WeatherEnsemble drying = new WeatherEnsemble(wetTrack, 0.0, 20, 1);
+        for (List<WeatherEnsemble.WeatherState> member : drying.getMembers()) {
+            assertTrue(member.get(0).wetness() > member.get(29).wetness());
+            assertEquals(0, member.get(29).wetness());
+        }
+    }
+
+    // WHITE BOX TESTING - A constant forecast gives exactly the per-lap race of that state
+    @Test
+    @DisplayName("Constant weather gives identical members with no spread")
+    void testConstantWeather() {
+        List<WeatherEnsemble.WeatherState> member = Collections.nCopies(30, new WeatherEnsemble.WeatherState(24, 0));
+        WeatherEnsemble ensemble = new WeatherEnsemble(dryTrack, List.of(member, member, member));
+        WeatherEnsemble.EnsembleResult result = ensemble.evaluate(mediumCar);
+
+        // Same race lap by lap on the per-lap RaceCar model
+        RaceResult plan = RaceStrategySimulator.calculateRaceResult(mediumCar, dryTrack);
+        double expected = 0;
+        double wear = 0;
+        int age = 0;
+        int changes = 0;
+        for (int lap = 0; lap < 30; lap++) {
+            expected += mediumCar.calculateLapTime(4.5, 24, wear, age);
+            wear += mediumCar.getTyre().getWearRate();
+            age++;
+            if (wear >= 1 && lap < 29) {
+                wear = 0;
+                age = 0;
+                changes++;
+            }
+        }
+        expected += Math.max(plan.pitStops() - 1, changes) * GridRaceSimulator.PIT_LOSS;
+        assertEquals(expected, result.expectedTime(), 1e-12);
+        assertEquals(0.0, result.standardDeviation(), 1e-12);
+        assertEquals(1, result.distinctStates());
+    }
+
+    // WHITE BOX TESTING - Lap times are evaluated once per distinct weather state, not per member-lap
+    @Test
+    @DisplayName("Lap-time evaluations are shared across members")
+    void testStateReuse() {
+        WeatherEnsemble ensemble = new WeatherEnsemble(dryTrack, 0.6, 200, 3);
+        WeatherEnsemble.EnsembleResult result = ensemble.evaluate(mediumCar);
+
+        long distinct = ensemble.getMembers().stream().flatMap(List::stream).distinct().count();
+        assertEquals(distinct, result.distinctStates());
+        assertTrue(result.distinctStates() < 200 * 30 / 10);
+        assertEquals(200, result.memberTimes().length);
+    }
+
+    // BLACK BOX TESTING - Rain risk shows up as a slower expectation and a wider spread
+    @Test
+    @DisplayName("Rainy forecasts are slower and riskier than dry ones")
+    void testRainRisk() {
+        WeatherEnsemble.EnsembleResult dry = new WeatherEnsemble(dryTrack, 0.0, 100, 5).evaluate(mediumCar);
+        WeatherEnsemble.EnsembleResult rainy = new WeatherEnsemble(dryTrack, 0.8, 100, 5).evaluate(mediumCar);
+
+        assertTrue(rainy.expectedTime() > dry.expectedTime());
+        assertTrue(rainy.standardDeviation() > dry.standardDeviation());
+        assertTrue(rainy.riskTime() >= rainy.expectedTime());
+        assertTrue(rainy.worstTime() >= rainy.riskTime());
+    }
+
+    // NEGATIVE TESTING - Members must match the race length and wetness must be in range
+    @Test
+    @DisplayName("Invalid members and states are rejected")
+    void testInvalidInput() {
+        List<WeatherEnsemble.WeatherState> tooShort = Collections.nCopies(10, new WeatherEnsemble.WeatherState(20, 0));
+        assertThrows(IllegalArgumentException.class, () -> new WeatherEnsemble(dryTrack, List.of(tooShort)));
+        assertThrows(IllegalArgumentException.class, () -> new WeatherEnsemble(dryTrack, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new WeatherEnsemble.WeatherState(20, 11));
+        assertThrows(IllegalArgumentException.class, () -> new WeatherEnsemble(dryTrack, 0.5, 0, 1));
+    }
+}